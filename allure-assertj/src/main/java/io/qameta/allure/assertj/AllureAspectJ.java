@@ -84,8 +84,18 @@ public class AllureAspectJ {
         //pointcut body, should be empty
     }
 
+    /**
+     * Matches only while Allure is enabled, see {@link Allure#ENABLED_PROPERTY}.
+     *
+     * @return whether Allure is enabled
+     */
+    @Pointcut("if()")
+    public static boolean allureEnabled() {
+        return Allure.isEnabled();
+    }
+
     @AfterReturning(
-            pointcut = "assertFactoryCall() && userCodeCall()",
+            pointcut = "assertFactoryCall() && userCodeCall() && allureEnabled()",
             returning = "result"
     )
 
@@ -112,7 +122,7 @@ public class AllureAspectJ {
      * @return the log assert operation
      * @throws Throwable if the underlying framework operation fails
      */
-    @Around("assertOperationCall(assertion) && userCodeCall()")
+    @Around("assertOperationCall(assertion) && userCodeCall() && allureEnabled()")
     public Object logAssertOperation(final ProceedingJoinPoint joinPoint,
                                      final AbstractAssert<?, ?> assertion)
             throws Throwable {
@@ -139,7 +149,7 @@ public class AllureAspectJ {
 
     @After(
         "execution(public void org.assertj.core.api.DefaultAssertionErrorCollector.collectAssertionError("
-                + "java.lang.AssertionError)) && args(error)"
+                + "java.lang.AssertionError)) && args(error) && allureEnabled()"
     )
 
     /**
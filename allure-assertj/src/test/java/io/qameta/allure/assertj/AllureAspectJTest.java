@@ -15,6 +15,8 @@
  */
 package io.qameta.allure.assertj;
 
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
 import io.qameta.allure.model.Parameter;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StatusDetails;
@@ -40,6 +42,8 @@ import static org.assertj.core.api.Assertions.tuple;
 @IsolatedLifecycle
 class AllureAspectJTest {
 
+    private static final String SPILL_THRESHOLD = "allure.results.spill.threshold";
+
     @AllureFeatures.Steps
     @Test
     void shouldCreateSemanticChainForScalarAssert() {
@@ -479,6 +483,32 @@ class AllureAspectJTest {
                 .contains("size");
     }
 
+    @AllureFeatures.Steps
+    @Test
+    void shouldMarkTheFailedHardAssertionOperationOfSpilledChain() {
+        final AllureResults results = runWithinTestContext(AllureAspectJTest::spillingLifecycle, () -> {
+            assertThat("Data")
+                    .hasSize(4);
+            assertThat("Data")
+                    .hasSize(5);
+        });
+
+        final TestResult result = assertOnlyOneResult(results);
+        assertThat(result.getSteps())
+                .extracting(StepResult::getName, StepResult::getStatus)
+                .containsExactly(
+                        tuple("assert \"Data\"", Status.PASSED),
+                        tuple("assert \"Data\"", Status.FAILED)
+                );
+        assertThat(result.getSteps())
+                .flatExtracting(StepResult::getSteps)
+                .extracting(StepResult::getName, StepResult::getStatus)
+                .containsExactly(
+                        tuple("has size 4", Status.PASSED),
+                        tuple("has size 5", Status.FAILED)
+                );
+    }
+
     @AllureFeatures.Steps
     @Test
     void shouldMarkTheFailedSoftAssertionOperationBeforeAssertAll() {
@@ -545,6 +575,15 @@ class AllureAspectJTest {
                 .containsExactly("starts with \"al\"", "ends with \"ha\"");
     }
 
+    private static AllureLifecycle spillingLifecycle(final AllureResultsWriter writer) {
+        System.setProperty(SPILL_THRESHOLD, "1");
+        try {
+            return new AllureLifecycle(writer);
+        } finally {
+            System.clearProperty(SPILL_THRESHOLD);
+        }
+    }
+
     private TestResult assertOnlyOneResult(final AllureResults results) {
         assertThat(results.getTestResults()).hasSize(1);
         return results.getTestResults().get(0);
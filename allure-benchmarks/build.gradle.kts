@@ -0,0 +1,32 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+description = "Allure Java Benchmarks"
+
+val aspectjAgent: Configuration by configurations.creating
+
+dependencies {
+    aspectjAgent("org.aspectj:aspectjweaver")
+    jmh(project(":allure-java-commons"))
+    jmh("org.aspectj:aspectjrt")
+    jmh("org.slf4j:slf4j-nop")
+}
+
+jmh {
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+    // load-time weaving for StepsAspectBenchmark, configured by META-INF/aop-ajc.xml
+    jvmArgsAppend.add(aspectjAgent.elements.map { files -> "-javaagent:${files.single().asFile}" })
+}
+
+// Benchmarks are a development tool only and are never published.
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+
+// Like test sources, benchmark sources are not subject to the quality checks of published code.
+tasks.matching { it.name in setOf("checkstyleJmh", "pmdJmh", "spotbugsJmh") }.configureEach {
+    enabled = false
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one step invocation inside a tight loop: a full step against an invocation of an aggregated step with the
+ * same name, which only records its duration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregatedStepBenchmark {
+
+    private static final int STEPS_PER_TEST = 1024;
+
+    private final AllureLifecycle lifecycle = new AllureLifecycle(new NoopResultsWriter());
+
+    private AllureExternalKey testKey;
+
+    private int steps;
+
+    @Setup
+    public void setUp() {
+        startTest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+    }
+
+    @Benchmark
+    public void fullStep() {
+        lifecycle.startStep(new StepResult().setName("poll"));
+        lifecycle.updateStep(step -> step.setStatus(Status.PASSED));
+        lifecycle.stopStep();
+        nextTestEvery(STEPS_PER_TEST);
+    }
+
+    @Benchmark
+    public void aggregatedStep() {
+        lifecycle.startAggregatedStep("poll").stop();
+    }
+
+    /**
+     * Keeps the full steps of a test bounded, so the benchmark measures the step rather than a growing list.
+     */
+    private void nextTestEvery(final int count) {
+        if (++steps == count) {
+            steps = 0;
+            tearDown();
+            startTest();
+        }
+    }
+
+    private void startTest() {
+        testKey = AllureExternalKey.random(AggregatedStepBenchmark.class);
+        lifecycle.scheduleTest(testKey, new TestResult());
+        lifecycle.startTest(testKey);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allure switched off with {@code allure.enabled=false}: woven {@code @Step} methods and the {@link Allure} static API
+ * against the same call chain without any Allure annotation. With the switch off the three should score alike.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-D" + Allure.ENABLED_PROPERTY + "=false")
+public class DisabledAllureBenchmark {
+
+    @Param({"1", "20"})
+    public int depth;
+
+    @Benchmark
+    public int baseline() {
+        return plain(depth, "user");
+    }
+
+    @Benchmark
+    public int steps() {
+        return step(depth, "user");
+    }
+
+    @Benchmark
+    public int staticApi() {
+        return Allure.step("Step for user", () -> {
+            Allure.parameter("depth", depth);
+            return plain(depth, "user");
+        });
+    }
+
+    int plain(final int level, final String name) {
+        return level <= 1 ? level : plain(level - 1, name) + 1;
+    }
+
+    @Step("Step {level} for {name}")
+    int step(final int level, final String name) {
+        return level <= 1 ? level : step(level - 1, name) + 1;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.http.HttpExchangeBody;
+import io.qameta.allure.http.HttpExchangeSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP exchange capture: redaction and truncation applied by {@link HttpExchange.Builder#build()}, and the JSON
+ * attachment produced by {@link HttpExchangeSerializer} as a byte array and streamed to an output, by response body
+ * size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpExchangeBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int bodySize;
+
+    private String body;
+
+    private HttpExchange exchange;
+
+    @Setup
+    public void setUp() {
+        body = "x".repeat(bodySize);
+        exchange = build();
+    }
+
+    @Benchmark
+    public HttpExchange build() {
+        return HttpExchange.builder()
+                .redactQueryParameter("token")
+                .request("POST", "https://example.test/orders?token=abc&page=1", request -> request
+                        .addHeader("Authorization", "Bearer secret")
+                        .addHeader("Content-Type", "application/json")
+                        .addQuery("token", "abc")
+                        .addQuery("page", "1")
+                        .setBody(HttpExchangeBody.utf8("{\"item\":\"book\"}")))
+                .response(response -> response
+                        .setStatus(200)
+                        .addHeader("Content-Type", "text/plain")
+                        .addCookie("SESSION", "secret")
+                        .setBody(HttpExchangeBody.utf8(body)))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return HttpExchangeSerializer.toJsonBytes(exchange);
+    }
+
+    @Benchmark
+    public void serializeToStream() throws IOException {
+        HttpExchangeSerializer.writeTo(exchange, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-test lifecycle cost while other tests are live. Each live test holds an unstopped step, the way a
+ * parallel run holds in-flight tests; with owner-indexed sweeps the cost must stay flat as {@code liveTests} grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LifecycleWriteBenchmark {
+
+    @Param({"0", "1000", "10000"})
+    public int liveTests;
+
+    private AllureLifecycle lifecycle;
+
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lifecycle = new AllureLifecycle(new NoopResultsWriter());
+        for (int index = 0; index < liveTests; index++) {
+            final AllureExternalKey key = AllureExternalKey.of(LifecycleWriteBenchmark.class, "live", index);
+            lifecycle.scheduleTest(key, new TestResult());
+            lifecycle.startStep(
+                    key,
+                    AllureExternalKey.of(LifecycleWriteBenchmark.class, "live-step", index),
+                    new StepResult().setName("live step")
+            );
+        }
+    }
+
+    @Benchmark
+    public void writeTest() {
+        final AllureExternalKey key = AllureExternalKey.of(LifecycleWriteBenchmark.class, "test", sequence++);
+        lifecycle.scheduleTest(key, new TestResult().setName("test"));
+        lifecycle.startTest(key);
+        lifecycle.startStep(new StepResult().setName("step"));
+        lifecycle.stopStep();
+        lifecycle.stopTest(key);
+        lifecycle.writeTest(key);
+    }
+
+    @Benchmark
+    public void writeScope() {
+        final long id = sequence++;
+        final AllureExternalKey scopeKey = AllureExternalKey.of(LifecycleWriteBenchmark.class, "scope", id);
+        final AllureExternalKey testKey = AllureExternalKey.of(LifecycleWriteBenchmark.class, "test", id);
+        lifecycle.registerScope(scopeKey);
+        lifecycle.scheduleTest(testKey, new TestResult().setName("test"));
+        lifecycle.addTestToScope(scopeKey, testKey);
+        lifecycle.startTest(testKey);
+        lifecycle.writeScope(scopeKey);
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+    }
+}
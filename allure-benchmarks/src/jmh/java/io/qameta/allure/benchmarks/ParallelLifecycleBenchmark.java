@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Whole-test throughput with 1, 8 and 64 threads sharing one class-level scope, the way a parallel TestNG run shares
+ * its class and suite scopes. Every test links to the shared scope, runs steps with an attachment and merges the
+ * scope metadata at stop; without contention the throughput must grow with the thread count up to the core count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelLifecycleBenchmark {
+
+    private static final byte[] ATTACHMENT = "attachment".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private AllureLifecycle lifecycle;
+
+    private AllureExternalKey scopeKey;
+
+    private List<AllureExternalKey> scopeKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lifecycle = new AllureLifecycle(new NoopResultsWriter());
+    }
+
+    /**
+     * A fresh scope per iteration keeps the number of tests linked to one scope bounded by the iteration length.
+     */
+    @Setup(Level.Iteration)
+    public void registerScope() {
+        scopeKey = AllureExternalKey.of(ParallelLifecycleBenchmark.class, "scope", sequence.incrementAndGet());
+        scopeKeys = List.of(scopeKey);
+        lifecycle.registerScope(scopeKey);
+        final AllureExternalKey fixtureKey = AllureExternalKey.random(ParallelLifecycleBenchmark.class);
+        lifecycle.startBeforeFixture(scopeKey, fixtureKey, new FixtureResult().setName("before class"));
+        lifecycle.updateTestMetadata(metadata -> metadata.getLabels().add(new Label().setName("owner").setValue("qa")));
+        lifecycle.stopFixture(fixtureKey);
+    }
+
+    @TearDown(Level.Iteration)
+    public void writeScope() {
+        lifecycle.writeScope(scopeKey);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void oneThread() {
+        runTest();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void eightThreads() {
+        runTest();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void sixtyFourThreads() {
+        runTest();
+    }
+
+    private void runTest() {
+        final AllureExternalKey key = AllureExternalKey.of(
+                ParallelLifecycleBenchmark.class, "test", sequence.incrementAndGet()
+        );
+        lifecycle.scheduleTest(scopeKeys, key, new TestResult().setName("test"));
+        lifecycle.startTest(key);
+        for (int index = 0; index < 3; index++) {
+            lifecycle.startStep(new StepResult().setName("step"));
+            lifecycle.stopStep();
+        }
+        lifecycle.addAttachment("attachment", "text/plain", new ByteArrayInputStream(ATTACHMENT), null);
+        lifecycle.stopTest(key);
+        lifecycle.writeTest(key);
+    }
+}
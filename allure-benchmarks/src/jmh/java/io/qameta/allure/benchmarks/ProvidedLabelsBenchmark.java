@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.model.Label;
+import io.qameta.allure.util.PropertiesUtils;
+import io.qameta.allure.util.ResultsUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Per-test label setup: provided labels and an issue link resolved through the cached properties snapshot, against
+ * reloading {@code allure.properties} for every lookup as adapters did before, which {@code reloadProperties}
+ * reproduces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProvidedLabelsBenchmark {
+
+    private static final String LABEL_PREFIX = "allure.label.";
+
+    @Param({"0", "10"})
+    private int providedLabels;
+
+    @Setup
+    public void setUp() {
+        for (int index = 0; index < providedLabels; index++) {
+            System.setProperty(LABEL_PREFIX + "benchmark" + index, "value" + index);
+        }
+        System.setProperty("allure.link.issue.pattern", "https://example.org/issue/{}");
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int index = 0; index < providedLabels; index++) {
+            System.clearProperty(LABEL_PREFIX + "benchmark" + index);
+        }
+        System.clearProperty("allure.link.issue.pattern");
+    }
+
+    @Benchmark
+    public Object snapshot() {
+        final Set<Label> labels = ResultsUtils.getProvidedLabels();
+        return ResultsUtils.createIssueLink("ISSUE-1").getUrl().length() + labels.size();
+    }
+
+    @Benchmark
+    public Object reloadProperties() {
+        final Properties properties = PropertiesUtils.loadAllureProperties();
+        final Set<Label> labels = properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(LABEL_PREFIX))
+                .map(name -> new Label()
+                        .setName(name.substring(LABEL_PREFIX.length()))
+                        .setValue(properties.getProperty(name)))
+                .collect(Collectors.toSet());
+        final String pattern = PropertiesUtils.loadAllureProperties().getProperty("allure.link.issue.pattern");
+        return pattern.replaceAll("\\{}", "ISSUE-1").length() + labels.size();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.AsyncResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link FileSystemResultsWriter} alone and behind an {@link AsyncResultsWriter}, by durability mode, attachment size
+ * and number of async writer threads ({@code 0} writes on the benchmark thread).
+ *
+ * <p>Results go to {@code -Dallure.benchmarks.dir} when set, otherwise to {@code /dev/shm} when it exists, so the
+ * numbers reflect the writer rather than the disk. Result and attachment names rotate over a small set, which keeps
+ * the directory size bounded.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultsWriterBenchmark {
+
+    private static final int NAMES = 64;
+
+    @Param({"FILE", "BATCH", "NONE"})
+    public FileSystemResultsWriter.Durability durability;
+
+    @Param({"1024", "1048576"})
+    public int attachmentSize;
+
+    @Param({"0", "1", "4"})
+    public int writerThreads;
+
+    private Path directory;
+
+    private Path file;
+
+    private byte[] attachment;
+
+    private AllureResultsWriter writer;
+
+    private long sequence;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Path root = Paths.get(System.getProperty("allure.benchmarks.dir", defaultRoot()));
+        directory = Files.createTempDirectory(Files.createDirectories(root), "allure-results-");
+        file = Files.write(Files.createTempFile(root, "attachment-", ".bin"), new byte[attachmentSize]);
+        attachment = new byte[attachmentSize];
+        final FileSystemResultsWriter fileSystem = new FileSystemResultsWriter(directory, durability);
+        writer = writerThreads == 0
+                ? fileSystem
+                : new AsyncResultsWriter(fileSystem, AsyncResultsWriter.DEFAULT_QUEUE_CAPACITY, writerThreads,
+                AsyncResultsWriter.DEFAULT_BATCH_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (writer instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) writer).close();
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void testResult() {
+        writer.write(new TestResult().setUuid(name("result")).setName("test"));
+    }
+
+    @Benchmark
+    public void streamAttachment() {
+        writer.write(name("stream") + "-attachment.bin", new ByteArrayInputStream(attachment));
+    }
+
+    @Benchmark
+    public void fileAttachment() {
+        writer.write(name("file") + "-attachment.bin", file);
+    }
+
+    private String name(final String prefix) {
+        return prefix + "-" + (sequence++ % NAMES);
+    }
+
+    private static String defaultRoot() {
+        final Path shm = Paths.get("/dev/shm");
+        final Path root = Files.isDirectory(shm) && Files.isWritable(shm)
+                ? shm
+                : Paths.get(System.getProperty("java.io.tmpdir"));
+        return root.resolve("allure-benchmarks").toString();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a test result through the {@link Allure2ModelJackson} mapper, by step nesting depth and
+ * number of labels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int depth;
+
+    @Param({"0", "10", "50"})
+    public int labels;
+
+    private final ObjectMapper mapper = Allure2ModelJackson.createMapper();
+
+    private TestResult testResult;
+
+    @Setup
+    public void setUp() {
+        testResult = new TestResult()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("test")
+                .setFullName("io.qameta.allure.benchmarks.SerializationBenchmark.test")
+                .setStatus(Status.PASSED)
+                .setStage(Stage.FINISHED)
+                .setLabels(StepLifecycleBenchmark.labels(labels))
+                .setStart(1L)
+                .setStop(2L);
+        List<StepResult> steps = testResult.getSteps();
+        for (int level = 0; level < depth; level++) {
+            final StepResult step = new StepResult()
+                    .setName("step " + level)
+                    .setStatus(Status.PASSED)
+                    .setParameters(List.of(new Parameter().setName("level").setValue(String.valueOf(level))))
+                    .setStart(1L)
+                    .setStop(2L);
+            steps.add(step);
+            steps = step.getSteps();
+        }
+    }
+
+    @Benchmark
+    public byte[] testResult() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(testResult);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step start/stop throughput with sequence-backed random keys against the previous UUID + MD5 digest keys, which
+ * {@code uuidDigestKey} reproduces through {@link AllureExternalKey#of(Class, Object, Object...)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepKeyBenchmark {
+
+    private final AllureLifecycle lifecycle = new AllureLifecycle(new NoopResultsWriter());
+
+    private static final int STEPS_PER_TEST = 1024;
+
+    private AllureExternalKey testKey;
+
+    private int steps;
+
+    @Setup
+    public void setUp() {
+        testKey = AllureExternalKey.random(StepKeyBenchmark.class);
+        lifecycle.scheduleTest(testKey, new TestResult());
+        lifecycle.startTest(testKey);
+    }
+
+    @TearDown
+    public void tearDown() {
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+    }
+
+    @Benchmark
+    public AllureExternalKey randomKey() {
+        return AllureExternalKey.random(StepKeyBenchmark.class);
+    }
+
+    @Benchmark
+    public AllureExternalKey uuidDigestKey() {
+        return AllureExternalKey.of(StepKeyBenchmark.class, UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public void startStopStepWithRandomKey() {
+        final AllureExternalKey key = AllureExternalKey.random(StepKeyBenchmark.class);
+        lifecycle.startStep(testKey, key, new StepResult().setName("step"));
+        lifecycle.stopStep(key);
+        releaseSteps();
+    }
+
+    @Benchmark
+    public void startStopStepWithUuidDigestKey() {
+        final AllureExternalKey key = AllureExternalKey.of(StepKeyBenchmark.class, UUID.randomUUID().toString());
+        lifecycle.startStep(testKey, key, new StepResult().setName("step"));
+        lifecycle.stopStep(key);
+        releaseSteps();
+    }
+
+    /**
+     * Keeps the test's step list bounded, the same amortized cost for both key kinds.
+     */
+    private void releaseSteps() {
+        if (++steps == STEPS_PER_TEST) {
+            steps = 0;
+            lifecycle.updateTest(testKey, result -> result.getSteps().clear());
+        }
+    }
+}
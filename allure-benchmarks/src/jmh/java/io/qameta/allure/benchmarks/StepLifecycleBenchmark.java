@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full test lifecycle through {@link AllureLifecycle} with nested {@code startStep}/{@code stopStep} pairs, by step
+ * nesting depth and number of labels per test.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepLifecycleBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int depth;
+
+    @Param({"0", "10", "50"})
+    public int labels;
+
+    private AllureLifecycle lifecycle;
+
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        lifecycle = new AllureLifecycle(new NoopResultsWriter());
+    }
+
+    @Benchmark
+    public void test() {
+        final AllureExternalKey key = AllureExternalKey.of(StepLifecycleBenchmark.class, "test", sequence++);
+        lifecycle.scheduleTest(key, new TestResult().setName("test").setLabels(labels(labels)));
+        lifecycle.startTest(key);
+        for (int level = 0; level < depth; level++) {
+            lifecycle.startStep(new StepResult().setName("step " + level));
+        }
+        for (int level = 0; level < depth; level++) {
+            lifecycle.stopStep();
+        }
+        lifecycle.stopTest(key);
+        lifecycle.writeTest(key);
+    }
+
+    static List<Label> labels(final int count) {
+        final List<Label> result = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            result.add(new Label().setName("tag").setValue("tag-" + index));
+        }
+        return result;
+    }
+}
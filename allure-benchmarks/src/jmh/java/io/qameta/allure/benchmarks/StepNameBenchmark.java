@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.util.NamingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @Step} name template rendering: plain text, a direct parameter, and a nested property path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepNameBenchmark {
+
+    private final Map<String, Object> params = new HashMap<>();
+
+    public StepNameBenchmark() {
+        params.put("method", "login");
+        params.put("name", "admin");
+        params.put("user", new User("admin", new Address("Berlin")));
+    }
+
+    @Benchmark
+    public String literal() {
+        return NamingUtils.processNameTemplate("Open the login page", params);
+    }
+
+    @Benchmark
+    public String parameter() {
+        return NamingUtils.processNameTemplate("Log in as {name}", params);
+    }
+
+    @Benchmark
+    public String propertyPath() {
+        return NamingUtils.processNameTemplate("Log in as {user.name} from {user.address.city}", params);
+    }
+
+    /**
+     * Template parameter with private fields, read the way step templates read them.
+     */
+    private static final class User {
+
+        private final String name;
+
+        private final Address address;
+
+        private User(final String name, final Address address) {
+            this.name = name;
+            this.address = address;
+        }
+    }
+
+    /**
+     * Nested template parameter.
+     */
+    private static final class Address {
+
+        private final String city;
+
+        private Address(final String city) {
+            this.city = city;
+        }
+    }
+}
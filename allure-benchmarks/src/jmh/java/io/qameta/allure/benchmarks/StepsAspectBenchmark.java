@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.benchmarks;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.Step;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @Step} methods woven by {@code StepsAspects} at load time, by nesting depth. Each invocation runs a chain of
+ * {@code depth} nested step methods with a parameterized name inside a running test.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepsAspectBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int depth;
+
+    private AllureLifecycle lifecycle;
+
+    private AllureExternalKey testKey;
+
+    @Setup(Level.Iteration)
+    public void startTest() {
+        lifecycle = new AllureLifecycle(new NoopResultsWriter());
+        Allure.setLifecycle(lifecycle);
+        testKey = AllureExternalKey.random(StepsAspectBenchmark.class);
+        lifecycle.scheduleTest(testKey, new TestResult().setName("test"));
+        lifecycle.startTest(testKey);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopTest() {
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+    }
+
+    @Benchmark
+    public int steps() {
+        return step(depth, "user");
+    }
+
+    @Step("Step {level} for {name}")
+    int step(final int level, final String name) {
+        return level <= 1 ? level : step(level - 1, name) + 1;
+    }
+}
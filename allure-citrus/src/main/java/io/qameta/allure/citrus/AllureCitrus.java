@@ -53,15 +53,18 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createParameter;
 import static io.qameta.allure.util.ResultsUtils.createSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestClassLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
 import static io.qameta.allure.util.ResultsUtils.createTitlePath;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
 import static io.qameta.allure.util.ResultsUtils.getProvidedLabels;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
 import static io.qameta.allure.util.ResultsUtils.md5;
 
 /**
@@ -249,10 +252,10 @@ public class AllureCitrus implements TestListener, TestSuiteListener, TestAction
 
         result.getLabels().addAll(
                 Arrays.asList(
-                        createHostLabel(),
-                        createThreadLabel(),
-                        createFrameworkLabel("citrus"),
-                        createLanguageLabel("java")
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
+                        internLabel(FRAMEWORK_LABEL_NAME, "citrus"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java")
                 )
         );
 
@@ -338,7 +341,9 @@ public class AllureCitrus implements TestListener, TestSuiteListener, TestAction
 
     private List<Link> getLinks(final AnnotatedElement annotatedElement) {
         return Stream.of(
-                getAnnotations(annotatedElement, io.qameta.allure.Link.class).map(ResultsUtils::createLink),
+                getAnnotations(annotatedElement, io.qameta.allure.Link.class)
+                        .map(ResultsUtils::createLink)
+                        .map(ResultsUtils::internLink),
                 getAnnotations(annotatedElement, io.qameta.allure.Issue.class).map(ResultsUtils::createLink),
                 getAnnotations(annotatedElement, io.qameta.allure.TmsLink.class).map(ResultsUtils::createLink)
         )
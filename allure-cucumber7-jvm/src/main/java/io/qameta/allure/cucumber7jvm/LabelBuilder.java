@@ -35,14 +35,17 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createFeatureLabel;
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
 import static io.qameta.allure.util.ResultsUtils.createLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
 import static io.qameta.allure.util.ResultsUtils.createStoryLabel;
 import static io.qameta.allure.util.ResultsUtils.createSuiteLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
 
 /**
  * Scenario labels and links builder.
@@ -119,10 +122,10 @@ final class LabelBuilder {
         scenarioLabels.addAll(ResultsUtils.getProvidedLabels());
         scenarioLabels.addAll(
                 Arrays.asList(
-                        createHostLabel(),
-                        createThreadLabel(),
-                        createFrameworkLabel("cucumber7jvm"),
-                        createLanguageLabel("java"),
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
+                        internLabel(FRAMEWORK_LABEL_NAME, "cucumber7jvm"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java"),
                         createLabel("gherkin_uri", uri.toString())
                 )
         );
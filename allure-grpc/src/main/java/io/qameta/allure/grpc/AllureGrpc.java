@@ -42,7 +42,6 @@ import io.qameta.allure.model.StepResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -138,6 +137,9 @@ public class AllureGrpc implements ClientInterceptor {
                                                  final CallOptions callOptions,
                                                  final Channel nextChannel) {
         final Channel channel = Objects.requireNonNull(nextChannel, "nextChannel must not be null");
+        if (!Allure.isEnabled()) {
+            return channel.newCall(methodDescriptor, callOptions);
+        }
         final AllureLifecycle current = lifecycle;
         final Optional<AllureExternalKey> parent = current.getCurrentExecutableKey();
         if (parent.isEmpty()) {
@@ -339,7 +341,7 @@ public class AllureGrpc implements ClientInterceptor {
                 stepKey,
                 attachmentName,
                 HttpExchange.CONTENT_TYPE,
-                new ByteArrayInputStream(HttpExchangeSerializer.toJsonBytes(exchange)),
+                HttpExchangeSerializer.toAttachmentContent(exchange),
                 AttachmentOptions.empty()
         );
     }
@@ -67,6 +67,16 @@ public class AllureHamcrestAssert {
     public void initAssertThat() {
     }
 
+    /**
+     * Matches only while Allure is enabled, see {@link Allure#ENABLED_PROPERTY}.
+     *
+     * @return whether Allure is enabled
+     */
+    @Pointcut("if()")
+    public static boolean allureEnabled() {
+        return Allure.isEnabled();
+    }
+
     /**
      * <p>
      * assertThat(String comment, Object actual, Matcher expected) - one and only one central entry point for all
@@ -82,7 +92,7 @@ public class AllureHamcrestAssert {
      *
      * @param joinPoint - entry point with args and method name
      */
-    @Before("initAssertThat()")
+    @Before("initAssertThat() && allureEnabled()")
     public void catchAndStartStep(final JoinPoint joinPoint) {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no wasted work
@@ -109,7 +119,7 @@ public class AllureHamcrestAssert {
     }
 
     @AfterThrowing(
-            pointcut = "initAssertThat()",
+            pointcut = "initAssertThat() && allureEnabled()",
             throwing = "e"
     )
 
@@ -129,7 +139,7 @@ public class AllureHamcrestAssert {
     /**
      * Handles the step stop callback.
      */
-    @AfterReturning(pointcut = "initAssertThat()")
+    @AfterReturning(pointcut = "initAssertThat() && allureEnabled()")
     public void stepStop() {
         if (getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
@@ -16,6 +16,8 @@
 package io.qameta.allure.httpclient;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.http.BoundedCapture;
+import io.qameta.allure.http.HttpExchange;
 import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeRequest;
 import org.apache.http.Header;
@@ -25,9 +27,9 @@ import org.apache.http.HttpRequest;
 import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.protocol.HttpContext;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +42,22 @@ public class AllureHttpClientRequest implements HttpRequestInterceptor {
     static final String REQUEST_CONTEXT_KEY = AllureHttpClientRequest.class.getName() + ".request";
     static final String START_CONTEXT_KEY = AllureHttpClientRequest.class.getName() + ".start";
 
+    private long maxBodySize = HttpExchange.DEFAULT_MAX_BODY_SIZE;
+
+    /**
+     * Sets shared HTTP exchange builder customizer, typically the one passed to the response interceptor. Only the
+     * max body size it sets applies here, as the bound of the captured request body.
+     *
+     * @param exchangeCustomizer the exchange builder customizer
+     * @return this instance for method chaining
+     */
+    public AllureHttpClientRequest configureHttpExchange(final Consumer<HttpExchange.Builder> exchangeCustomizer) {
+        final HttpExchange.Builder builder = HttpExchange.builder();
+        Objects.requireNonNull(exchangeCustomizer).accept(builder);
+        this.maxBodySize = builder.getMaxBodySize();
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -49,7 +67,7 @@ public class AllureHttpClientRequest implements HttpRequestInterceptor {
             throws IOException {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no body copying
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
 
@@ -63,11 +81,7 @@ public class AllureHttpClientRequest implements HttpRequestInterceptor {
             final HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
 
             if (entity != null) {
-                final ByteArrayOutputStream os = new ByteArrayOutputStream();
-                entity.writeTo(os);
-
-                final String body = new String(os.toByteArray(), StandardCharsets.UTF_8);
-                builder.setBody(body(entity.getContentType(), body));
+                builder.setBody(body(entity, maxBodySize));
             }
         }
         if (context != null) {
@@ -76,16 +90,12 @@ public class AllureHttpClientRequest implements HttpRequestInterceptor {
         }
     }
 
-    private static HttpExchangeBody body(final Header contentType, final String value) {
-        return new HttpExchangeBody(
-                contentType == null ? null : contentType.getValue(),
-                "utf8",
-                value,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
+    private static HttpExchangeBody body(final HttpEntity entity, final long maxBodySize) throws IOException {
+        final BoundedCapture capture = new BoundedCapture(maxBodySize);
+        entity.writeTo(capture);
+        capture.close();
+        final Header contentType = entity.getContentType();
+        final String type = contentType == null ? null : contentType.getValue();
+        return capture.toBody(type, BoundedCapture.charsetOf(type));
     }
 }
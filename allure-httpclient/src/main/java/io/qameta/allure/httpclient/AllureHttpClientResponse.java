@@ -16,19 +16,22 @@
 package io.qameta.allure.httpclient;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.http.BoundedCapture;
 import io.qameta.allure.http.HttpExchange;
 import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeRequest;
 import io.qameta.allure.http.HttpExchangeResponse;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpResponseInterceptor;
-import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
 import org.apache.http.protocol.HttpContext;
-import org.apache.http.util.EntityUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -36,7 +39,9 @@ import java.util.stream.Stream;
 /**
  * Captures Apache HttpClient 4 responses as Allure HTTP exchange attachments.
  *
- * <p>Register this interceptor with {@link AllureHttpClientRequest} to include captured request metadata.</p>
+ * <p>Register this interceptor with {@link AllureHttpClientRequest} to include captured request metadata. The response
+ * body is read ahead up to the exchange body size limit; a streamed entity is replaced by one that replays those bytes
+ * before the rest of the body.</p>
  */
 public class AllureHttpClientResponse implements HttpResponseInterceptor {
 
@@ -65,7 +70,7 @@ public class AllureHttpClientResponse implements HttpResponseInterceptor {
             throws IOException {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no entity buffering
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
 
@@ -76,20 +81,16 @@ public class AllureHttpClientResponse implements HttpResponseInterceptor {
         Stream.of(response.getAllHeaders())
                 .forEach(header -> builder.addHeader(header.getName(), header.getValue()));
 
+        final HttpExchange.Builder exchangeBuilder = exchangeBuilder(request(context));
         if (response.getEntity() != null) {
-            if (!response.getEntity().isRepeatable()) {
-                final BufferedHttpEntity bufferedEntity = new BufferedHttpEntity(response.getEntity());
-                response.setEntity(bufferedEntity);
-            }
-
-            builder.setBody(body(response.getEntity().getContentType(), EntityUtils.toString(response.getEntity())));
+            builder.setBody(body(response, exchangeBuilder.getMaxBodySize()));
         } else {
             builder.setBody(HttpExchangeBody.utf8("No body present"));
         }
 
         Allure.addHttpExchange(
                 ATTACHMENT_NAME,
-                exchangeBuilder(request(context))
+                exchangeBuilder
                         .setResponse(builder.build())
                         .setStart(start(context))
                         .setStop(System.currentTimeMillis())
@@ -124,16 +125,52 @@ public class AllureHttpClientResponse implements HttpResponseInterceptor {
         return value instanceof Long ? (Long) value : null;
     }
 
-    private static HttpExchangeBody body(final Header contentType, final String value) {
-        return new HttpExchangeBody(
-                contentType == null ? null : contentType.getValue(),
-                "utf8",
-                value,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
+    private static HttpExchangeBody body(final HttpResponse response, final long maxBodySize) throws IOException {
+        final HttpEntity entity = response.getEntity();
+        final BoundedCapture capture = new BoundedCapture(maxBodySize);
+        final InputStream replay = capture.readAhead(entity.getContent());
+        if (entity.isRepeatable()) {
+            replay.close();
+        } else {
+            response.setEntity(new ReplayedEntity(entity, replay));
+        }
+        final Header contentType = entity.getContentType();
+        final String type = contentType == null ? null : contentType.getValue();
+        return capture.toBody(type, BoundedCapture.charsetOf(type));
+    }
+
+    /**
+     * A streamed entity whose content replays the bytes read ahead for the attachment before the rest of the body.
+     */
+    private static final class ReplayedEntity extends HttpEntityWrapper {
+
+        private final InputStream content;
+
+        ReplayedEntity(final HttpEntity entity, final InputStream content) {
+            super(entity);
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getContent() {
+            return content;
+        }
+
+        @Override
+        public void writeTo(final OutputStream output) throws IOException {
+            try (InputStream input = content) {
+                input.transferTo(output);
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
     }
 }
@@ -23,7 +23,9 @@ import io.qameta.allure.test.IsolatedLifecycle;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
@@ -31,6 +33,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,6 +42,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.delete;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.noContent;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
@@ -51,6 +55,8 @@ class AllureHttpClientTest {
 
     private static final String BODY_STRING = "Hello world!";
 
+    private static final String REQUEST_BODY_STRING = "hello request body";
+
     private WireMockServer server;
 
     @BeforeEach
@@ -79,6 +85,14 @@ class AllureHttpClientTest {
                 delete(urlEqualTo("/hello"))
                         .willReturn(noContent())
         );
+
+        stubFor(
+                post(urlEqualTo("/hello"))
+                        .willReturn(
+                                aResponse()
+                                        .withBody(BODY_STRING)
+                        )
+        );
     }
 
     @AfterEach
@@ -163,6 +177,31 @@ class AllureHttpClientTest {
                 .doesNotContain("\"request\":{\"body\"");
     }
 
+    @Test
+    void shouldCaptureRequestBodyUpToConfiguredMaxBodySize() {
+        final AllureResults results = executeWithAllure(() -> {
+            final HttpClientBuilder builder = HttpClientBuilder.create()
+                    .addInterceptorLast(new AllureHttpClientRequest()
+                            .configureHttpExchange(exchange -> exchange.setMaxBodySize(5)))
+                    .addInterceptorLast(new AllureHttpClientResponse());
+
+            try (CloseableHttpClient httpClient = builder.build()) {
+                final HttpPost httpPost = new HttpPost(String.format("http://localhost:%d/hello", server.port()));
+                httpPost.setEntity(new StringEntity(REQUEST_BODY_STRING, StandardCharsets.UTF_8));
+                try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                    assertThat(EntityUtils.toString(response.getEntity()))
+                            .isEqualTo(BODY_STRING);
+                }
+            }
+        });
+
+        assertThat(results.getAttachmentContentAsString(httpExchangeAttachment(results)))
+                .contains("\"method\":\"POST\"")
+                .contains("\"value\":\"hello\"")
+                .contains("\"truncated\":true")
+                .contains("\"value\":\"Hello world!\"");
+    }
+
     @Test
     void shouldNotConsumeBody() {
         final HttpClientBuilder builder = HttpClientBuilder.create()
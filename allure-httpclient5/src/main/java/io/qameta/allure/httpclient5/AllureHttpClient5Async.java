@@ -0,0 +1,401 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.httpclient5;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AttachmentOptions;
+import io.qameta.allure.http.BoundedCapture;
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.http.HttpExchangeBody;
+import io.qameta.allure.http.HttpExchangeError;
+import io.qameta.allure.http.HttpExchangeRequest;
+import io.qameta.allure.http.HttpExchangeResponse;
+import io.qameta.allure.http.HttpExchangeSerializer;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.AsyncDataConsumer;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Captures Apache HttpClient 5 async client exchanges as Allure HTTP exchange attachments.
+ *
+ * <p>Register this handler first in the execution chain of a {@code CloseableHttpAsyncClient}. The executable running
+ * when a request enters the chain, which the async client does on the thread that submits it, owns the exchange:
+ * the attachment is added to that executable from whichever I/O thread completes the exchange, so many requests can
+ * be in flight at once. The request {@link AsyncEntityProducer} and the response {@link AsyncDataConsumer} are teed
+ * into bounded captures while the bytes flow, and no body is held beyond the exchange max body size.</p>
+ */
+public class AllureHttpClient5Async implements AsyncExecChainHandler {
+
+    private static final String ATTACHMENT_NAME = "HTTP exchange";
+    private static final String NO_BODY = "No body present";
+
+    private Consumer<HttpExchange.Builder> exchangeCustomizer = builder -> {
+    };
+
+    /**
+     * Sets shared HTTP exchange builder customizer.
+     *
+     * @param exchangeCustomizer the exchange builder customizer
+     * @return this instance for method chaining
+     */
+    public AllureHttpClient5Async configureHttpExchange(final Consumer<HttpExchange.Builder> exchangeCustomizer) {
+        this.exchangeCustomizer = Objects.requireNonNull(exchangeCustomizer);
+        return this;
+    }
+
+    @Override
+    public void execute(final HttpRequest request,
+                        final AsyncEntityProducer entityProducer,
+                        final AsyncExecChain.Scope scope,
+                        final AsyncExecChain chain,
+                        final AsyncExecCallback asyncExecCallback) throws HttpException, IOException {
+        // enrichment-only integration: silently skip when no executable is running,
+        // so a disabled Allure reporter produces no warnings and no body buffering
+        final Optional<AllureExternalKey> executable = Allure.isEnabled()
+                ? Allure.getLifecycle().getCurrentExecutableKey()
+                : Optional.empty();
+        if (executable.isEmpty()) {
+            chain.proceed(request, entityProducer, scope, asyncExecCallback);
+            return;
+        }
+        final HttpExchangeRequest.Builder requestBuilder = HttpExchangeRequest
+                .builder(request.getMethod(), uri(request));
+        Stream.of(request.getHeaders())
+                .forEach(header -> requestBuilder.addHeader(header.getName(), header.getValue()));
+        final HttpExchange.Builder exchangeBuilder = HttpExchange.builder(requestBuilder.build())
+                .setStart(System.currentTimeMillis());
+        exchangeCustomizer.accept(exchangeBuilder);
+
+        final ExchangeCapture capture = new ExchangeCapture(
+                executable.get(), requestBuilder, exchangeBuilder, entityProducer
+        );
+        try {
+            chain.proceed(
+                    request,
+                    Objects.isNull(entityProducer) ? null : new TeeingEntityProducer(entityProducer, capture),
+                    scope,
+                    capture.callback(asyncExecCallback)
+            );
+        } catch (HttpException | IOException | RuntimeException e) {
+            capture.record(null, e);
+            throw e;
+        }
+    }
+
+    private static String uri(final HttpRequest request) {
+        try {
+            return request.getUri().toString();
+        } catch (URISyntaxException e) {
+            return request.getRequestUri();
+        }
+    }
+
+    /**
+     * The state of one exchange, shared by the I/O threads that produce the request and consume the response.
+     */
+    private static final class ExchangeCapture {
+
+        private final AllureExternalKey executable;
+
+        private final HttpExchangeRequest.Builder requestBuilder;
+
+        private final HttpExchange.Builder exchange;
+
+        private final EntityDetails requestDetails;
+
+        private final AtomicReference<BoundedCapture> requestBody = new AtomicReference<>();
+
+        private final AtomicReference<ResponseCapture> response = new AtomicReference<>();
+
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        ExchangeCapture(final AllureExternalKey executable,
+                        final HttpExchangeRequest.Builder requestBuilder,
+                        final HttpExchange.Builder exchange,
+                        final EntityDetails requestDetails) {
+            this.executable = executable;
+            this.requestBuilder = requestBuilder;
+            this.exchange = exchange;
+            this.requestDetails = requestDetails;
+        }
+
+        BoundedCapture requestCapture() {
+            final BoundedCapture current = requestBody.get();
+            if (Objects.nonNull(current) && !current.isComplete()) {
+                return current;
+            }
+            // a repeatable body produced again, for a redirect or a retry, replaces the previous capture
+            final BoundedCapture capture = new BoundedCapture(exchange.getMaxBodySize());
+            requestBody.set(capture);
+            return capture;
+        }
+
+        AsyncExecCallback callback(final AsyncExecCallback delegate) {
+            return new AsyncExecCallback() {
+                @Override
+                public AsyncDataConsumer handleResponse(final HttpResponse httpResponse,
+                                                        final EntityDetails entityDetails)
+                        throws HttpException, IOException {
+                    final ResponseCapture capture = new ResponseCapture(httpResponse, entityDetails,
+                            new BoundedCapture(exchange.getMaxBodySize()));
+                    response.set(capture);
+                    final AsyncDataConsumer consumer = delegate.handleResponse(httpResponse, entityDetails);
+                    return Objects.isNull(consumer) || Objects.isNull(entityDetails)
+                            ? consumer
+                            : new TeeingDataConsumer(consumer, capture.body());
+                }
+
+                @Override
+                public void handleInformationResponse(final HttpResponse httpResponse)
+                        throws HttpException, IOException {
+                    delegate.handleInformationResponse(httpResponse);
+                }
+
+                @Override
+                public void completed() {
+                    recordResponse(null);
+                    delegate.completed();
+                }
+
+                @Override
+                public void failed(final Exception cause) {
+                    recordResponse(cause);
+                    delegate.failed(cause);
+                }
+            };
+        }
+
+        void recordResponse(final Exception error) {
+            final ResponseCapture capture = response.get();
+            if (recorded.get() || Objects.isNull(capture)) {
+                record(null, error);
+                return;
+            }
+            final HttpExchangeResponse.Builder builder = HttpExchangeResponse.builder()
+                    .setStatus(capture.response().getCode())
+                    .setStatusText(capture.response().getReasonPhrase());
+            Stream.of(capture.response().getHeaders())
+                    .forEach(header -> builder.addHeader(header.getName(), header.getValue()));
+            final HttpExchangeBody body = Objects.isNull(capture.details())
+                    ? null
+                    : AllureHttpEntityUtils.getBody(capture.details(), capture.body());
+            builder.setBody(Objects.isNull(body) ? HttpExchangeBody.utf8(NO_BODY) : body);
+            record(builder.build(), error);
+        }
+
+        void record(final HttpExchangeResponse httpResponse, final Exception error) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            final BoundedCapture body = requestBody.get();
+            final HttpExchangeBody requestContent = Objects.isNull(body)
+                    ? null
+                    : AllureHttpEntityUtils.getBody(requestDetails, body);
+            if (Objects.nonNull(requestContent)) {
+                exchange.setRequest(requestBuilder.setBody(requestContent).build());
+            }
+            final HttpExchange httpExchange = exchange
+                    .setResponse(httpResponse)
+                    .setError(Objects.isNull(error)
+                            ? null
+                            : new HttpExchangeError(error.getClass().getName(), error.getMessage(), null))
+                    .setStop(System.currentTimeMillis())
+                    .build();
+            Allure.getLifecycle().addAttachmentStep(
+                    executable,
+                    ATTACHMENT_NAME,
+                    HttpExchange.CONTENT_TYPE,
+                    HttpExchangeSerializer.toAttachmentContent(httpExchange),
+                    AttachmentOptions.empty()
+            );
+        }
+    }
+
+    /**
+     * The response head and the bounded capture of its body.
+     */
+    private record ResponseCapture(HttpResponse response, EntityDetails details, BoundedCapture body) {
+    }
+
+    /**
+     * A request entity producer that copies every written chunk into the request capture.
+     */
+    @SuppressWarnings("PMD.TooManyMethods")
+    private static final class TeeingEntityProducer implements AsyncEntityProducer {
+
+        private final AsyncEntityProducer delegate;
+
+        private final ExchangeCapture exchange;
+
+        TeeingEntityProducer(final AsyncEntityProducer delegate, final ExchangeCapture exchange) {
+            this.delegate = delegate;
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void produce(final DataStreamChannel channel) throws IOException {
+            delegate.produce(new TeeingChannel(channel, exchange.requestCapture()));
+        }
+
+        @Override
+        public int available() {
+            return delegate.available();
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public void failed(final Exception cause) {
+            delegate.failed(cause);
+        }
+
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+
+        @Override
+        public long getContentLength() {
+            return delegate.getContentLength();
+        }
+
+        @Override
+        public String getContentType() {
+            return delegate.getContentType();
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return delegate.getContentEncoding();
+        }
+
+        @Override
+        public boolean isChunked() {
+            return delegate.isChunked();
+        }
+
+        @Override
+        public Set<String> getTrailerNames() {
+            return delegate.getTrailerNames();
+        }
+    }
+
+    /**
+     * A data channel that copies the bytes the channel accepted into a capture.
+     */
+    private static final class TeeingChannel implements DataStreamChannel {
+
+        private final DataStreamChannel delegate;
+
+        private final BoundedCapture capture;
+
+        TeeingChannel(final DataStreamChannel delegate, final BoundedCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void requestOutput() {
+            delegate.requestOutput();
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            final ByteBuffer written = src.duplicate();
+            final int count = delegate.write(src);
+            if (count > 0) {
+                written.limit(written.position() + count);
+                capture.write(written);
+            }
+            return count;
+        }
+
+        @Override
+        public void endStream() throws IOException {
+            capture.close();
+            delegate.endStream();
+        }
+
+        @Override
+        public void endStream(final List<? extends Header> trailers) throws IOException {
+            capture.close();
+            delegate.endStream(trailers);
+        }
+    }
+
+    /**
+     * A response data consumer that copies every received chunk into the response capture.
+     */
+    private static final class TeeingDataConsumer implements AsyncDataConsumer {
+
+        private final AsyncDataConsumer delegate;
+
+        private final BoundedCapture capture;
+
+        TeeingDataConsumer(final AsyncDataConsumer delegate, final BoundedCapture capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+            delegate.updateCapacity(capacityChannel);
+        }
+
+        @Override
+        public void consume(final ByteBuffer src) throws IOException {
+            // the consumer must take the whole buffer, so the capture reads it first without consuming it
+            capture.write(src);
+            delegate.consume(src);
+        }
+
+        @Override
+        public void streamEnd(final List<? extends Header> trailers) throws HttpException, IOException {
+            capture.close();
+            delegate.streamEnd(trailers);
+        }
+
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+    }
+}
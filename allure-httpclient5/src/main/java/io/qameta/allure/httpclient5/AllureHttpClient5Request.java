@@ -16,6 +16,7 @@
 package io.qameta.allure.httpclient5;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.http.HttpExchange;
 import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeRequest;
 import org.apache.hc.core5.http.EntityDetails;
@@ -24,6 +25,8 @@ import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
 
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -36,6 +39,22 @@ public class AllureHttpClient5Request implements HttpRequestInterceptor {
     static final String REQUEST_CONTEXT_KEY = AllureHttpClient5Request.class.getName() + ".request";
     static final String START_CONTEXT_KEY = AllureHttpClient5Request.class.getName() + ".start";
 
+    private long maxBodySize = HttpExchange.DEFAULT_MAX_BODY_SIZE;
+
+    /**
+     * Sets shared HTTP exchange builder customizer, typically the one passed to the response interceptor. Only the
+     * max body size it sets applies here, as the bound of the captured request body.
+     *
+     * @param exchangeCustomizer the exchange builder customizer
+     * @return this instance for method chaining
+     */
+    public AllureHttpClient5Request configureHttpExchange(final Consumer<HttpExchange.Builder> exchangeCustomizer) {
+        final HttpExchange.Builder builder = HttpExchange.builder();
+        Objects.requireNonNull(exchangeCustomizer).accept(builder);
+        this.maxBodySize = builder.getMaxBodySize();
+        return this;
+    }
+
     /**
      * Processes the HTTP request and adds an attachment to the Allure Attachment processor.
      *
@@ -49,7 +68,7 @@ public class AllureHttpClient5Request implements HttpRequestInterceptor {
                         final HttpContext context) {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no body copying
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
         final HttpExchangeRequest.Builder builder = HttpExchangeRequest
@@ -57,8 +76,13 @@ public class AllureHttpClient5Request implements HttpRequestInterceptor {
 
         Stream.of(request.getHeaders()).forEach(header -> builder.addHeader(header.getName(), header.getValue()));
 
-        if (entity instanceof HttpEntity && ((HttpEntity) entity).isRepeatable() && entity.getContentLength() != 0) {
-            builder.setBody(body(((HttpEntity) entity).getContentType(), AllureHttpEntityUtils.getBody((HttpEntity) entity)));
+        if (entity instanceof HttpEntity httpEntity && httpEntity.isRepeatable() && entity.getContentLength() != 0) {
+            final HttpExchangeBody body = AllureHttpEntityUtils.getBody(
+                    httpEntity, AllureHttpEntityUtils.capture(httpEntity, maxBodySize)
+            );
+            if (body != null) {
+                builder.setBody(body);
+            }
         }
 
         if (context != null) {
@@ -67,17 +91,4 @@ public class AllureHttpClient5Request implements HttpRequestInterceptor {
         }
     }
 
-    private static HttpExchangeBody body(final String contentType, final String value) {
-        return new HttpExchangeBody(
-                contentType,
-                "utf8",
-                value,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
-    }
-
 }
@@ -16,6 +16,7 @@
 package io.qameta.allure.httpclient5;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.http.BoundedCapture;
 import io.qameta.allure.http.HttpExchange;
 import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeRequest;
@@ -26,10 +27,12 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpResponseInterceptor;
-import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
 import org.apache.hc.core5.http.protocol.HttpContext;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -37,7 +40,9 @@ import java.util.stream.Stream;
 /**
  * Captures Apache HttpClient 5 responses as Allure HTTP exchange attachments.
  *
- * <p>Register this interceptor with {@link AllureHttpClient5Request} to include captured request metadata.</p>
+ * <p>Register this interceptor with {@link AllureHttpClient5Request} to include captured request metadata. The response
+ * body is read ahead up to the exchange body size limit; a streamed entity is replaced by one that replays those bytes
+ * before the rest of the body.</p>
  */
 public class AllureHttpClient5Response implements HttpResponseInterceptor {
     private static final String ATTACHMENT_NAME = "HTTP exchange";
@@ -72,7 +77,7 @@ public class AllureHttpClient5Response implements HttpResponseInterceptor {
             throws IOException {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no entity buffering
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
         final HttpExchangeResponse.Builder builder = HttpExchangeResponse.builder()
@@ -81,27 +86,16 @@ public class AllureHttpClient5Response implements HttpResponseInterceptor {
 
         Stream.of(response.getHeaders()).forEach(header -> builder.addHeader(header.getName(), header.getValue()));
 
+        final HttpExchange.Builder exchangeBuilder = exchangeBuilder(request(context));
         final HttpEntity originalHttpEntity = (HttpEntity) entity;
-        if (originalHttpEntity != null) {
-            HttpEntity capturedEntity = originalHttpEntity;
-            if (!originalHttpEntity.isRepeatable()) {
-                capturedEntity = new BufferedHttpEntity(originalHttpEntity);
-                replaceResponseEntity(response, context, capturedEntity);
-            }
-
-            final String responseBody = AllureHttpEntityUtils.getBody(capturedEntity);
-            if (responseBody == null || responseBody.isEmpty()) {
-                builder.setBody(HttpExchangeBody.utf8(NO_BODY));
-            } else {
-                builder.setBody(body(capturedEntity.getContentType(), responseBody));
-            }
-        } else {
-            builder.setBody(HttpExchangeBody.utf8(NO_BODY));
-        }
+        final HttpExchangeBody responseBody = originalHttpEntity == null
+                ? null
+                : body(response, context, originalHttpEntity, exchangeBuilder.getMaxBodySize());
+        builder.setBody(responseBody == null ? HttpExchangeBody.utf8(NO_BODY) : responseBody);
 
         Allure.addHttpExchange(
                 ATTACHMENT_NAME,
-                exchangeBuilder(request(context))
+                exchangeBuilder
                         .setResponse(builder.build())
                         .setStart(start(context))
                         .setStop(System.currentTimeMillis())
@@ -135,6 +129,21 @@ public class AllureHttpClient5Response implements HttpResponseInterceptor {
         return value instanceof Long ? (Long) value : null;
     }
 
+    private static HttpExchangeBody body(final HttpResponse response,
+                                         final HttpContext context,
+                                         final HttpEntity originalHttpEntity,
+                                         final long maxBodySize) throws IOException {
+        if (originalHttpEntity.isRepeatable()) {
+            return AllureHttpEntityUtils.getBody(
+                    originalHttpEntity, AllureHttpEntityUtils.capture(originalHttpEntity, maxBodySize)
+            );
+        }
+        final BoundedCapture capture = new BoundedCapture(maxBodySize);
+        final InputStream replay = capture.readAhead(originalHttpEntity.getContent());
+        replaceResponseEntity(response, context, new ReplayedEntity(originalHttpEntity, replay));
+        return AllureHttpEntityUtils.getBody(originalHttpEntity, capture);
+    }
+
     private static void replaceResponseEntity(final HttpResponse response,
                                               final HttpContext context,
                                               final HttpEntity capturedEntity) {
@@ -149,17 +158,46 @@ public class AllureHttpClient5Response implements HttpResponseInterceptor {
         }
     }
 
-    private static HttpExchangeBody body(final String contentType, final String value) {
-        return new HttpExchangeBody(
-                contentType,
-                "utf8",
-                value,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
+    /**
+     * A streamed entity whose content replays the bytes read ahead for the attachment before the rest of the body.
+     */
+    private static final class ReplayedEntity extends HttpEntityWrapper {
+
+        private final InputStream content;
+
+        ReplayedEntity(final HttpEntity entity, final InputStream content) {
+            super(entity);
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getContent() {
+            return content;
+        }
+
+        @Override
+        public void writeTo(final OutputStream output) throws IOException {
+            try (InputStream input = content) {
+                input.transferTo(output);
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return false;
+        }
+
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (InputStream ignored = content) {
+                super.close();
+            }
+        }
     }
 
 }
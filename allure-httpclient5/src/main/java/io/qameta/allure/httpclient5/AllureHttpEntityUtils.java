@@ -16,81 +16,86 @@
 package io.qameta.allure.httpclient5;
 
 import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.http.BoundedCapture;
+import io.qameta.allure.http.HttpExchangeBody;
+import org.apache.hc.core5.http.EntityDetails;
 import org.apache.hc.core5.http.HttpEntity;
-import org.apache.hc.core5.http.ParseException;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
 
-import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.util.zip.GZIPInputStream;
 
 /**
  * Utility class for working with HTTP entity in Allure framework.
  */
-@SuppressWarnings({"checkstyle:ParameterAssignment"})
 public final class AllureHttpEntityUtils {
 
+    private static final String READ_ERROR = "Can't read HTTP message body";
+
     private AllureHttpEntityUtils() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
     /**
-     * Retrieves the body of the HTTP entity as a string.
+     * Captures the head of a repeatable HTTP entity, reading no more than the limit and one byte past it.
      *
-     * @param httpEntity the HTTP entity
-     * @return the body of the HTTP entity as a string
+     * @param httpEntity  the repeatable HTTP entity
+     * @param maxBodySize the maximum number of bytes kept
+     * @return the captured body
      * @throws AllureResultsWriteException if an error occurs while reading the entity body
      */
-    static String getBody(final HttpEntity httpEntity) {
-        try {
-            final String contentEncoding = httpEntity.getContentEncoding();
-            if (contentEncoding != null && contentEncoding.contains("gzip")) {
-                return unpackGzipEntityString(httpEntity);
-            } else {
-                return EntityUtils.toString(httpEntity, getContentEncoding(httpEntity.getContentEncoding()));
-            }
-        } catch (IOException | ParseException e) {
-            throw new AllureResultsWriteException("Can't read request message body to String", e);
+    static BoundedCapture capture(final HttpEntity httpEntity, final long maxBodySize) {
+        final BoundedCapture capture = new BoundedCapture(maxBodySize);
+        try (InputStream ignored = capture.readAhead(httpEntity.getContent())) {
+            return capture;
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(READ_ERROR, e);
         }
     }
 
     /**
-     * Retrieves the content encoding of the HTTP entity.
+     * Decodes the captured body of the HTTP entity, decompressing a gzip content encoding first.
      *
-     * @param contentEncoding the content encoding value
-     * @return the charset corresponding to the content encoding, or UTF-8 if the encoding is invalid
+     * @param httpEntity the HTTP entity, or the details of an asynchronously produced or consumed entity
+     * @param capture    the captured entity bytes
+     * @return the body, or null when the entity is empty
+     * @throws AllureResultsWriteException if an error occurs while decompressing the entity body
      */
-    static Charset getContentEncoding(final String contentEncoding) {
-        try {
-            return Charset.forName(contentEncoding);
-        } catch (IllegalArgumentException ignored) {
-            return StandardCharsets.UTF_8;
+    static HttpExchangeBody getBody(final EntityDetails httpEntity, final BoundedCapture capture) {
+        final String contentEncoding = httpEntity.getContentEncoding();
+        final BoundedCapture body = contentEncoding != null && contentEncoding.contains("gzip")
+                ? unpackGzip(capture)
+                : capture;
+        if (body.size() == 0) {
+            return null;
         }
+        final String contentType = httpEntity.getContentType();
+        return body.toBody(contentType, BoundedCapture.charsetOf(contentType));
     }
 
     /**
-     * Unpacks the GZIP-encoded entity string.
+     * Unpacks the captured bytes of a GZIP-encoded entity into a capture of the same limit. A truncated capture
+     * unpacks to a truncated body.
      *
-     * @param entity the GZIP-encoded HTTP entity
-     * @return the unpacked entity string
-     * @throws IOException if an error occurs while unpacking the entity
+     * @param capture the captured GZIP-encoded bytes
+     * @return the unpacked body
+     * @throws AllureResultsWriteException if an error occurs while unpacking the entity
      */
-    static String unpackGzipEntityString(final HttpEntity entity) throws IOException {
-        final GZIPInputStream gis = new GZIPInputStream(entity.getContent());
-        final Charset contentEncoding = getContentEncoding(entity.getContentEncoding());
-        try (InputStreamReader inputStreamReader = new InputStreamReader(gis, contentEncoding)) {
-            try (BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
-                final StringBuilder outStr = new StringBuilder();
-                String line;
-                while ((line = bufferedReader.readLine()) != null) {
-                    outStr.append(line);
-                }
-                return outStr.toString();
-            }
+    static BoundedCapture unpackGzip(final BoundedCapture capture) {
+        final BoundedCapture unpacked = new BoundedCapture(capture.limit());
+        try (InputStream gis = new GZIPInputStream(capture.toInputStream())) {
+            gis.transferTo(unpacked);
+        } catch (EOFException e) {
+            // the capture ends before the gzip stream does, keep what was unpacked so far
+            return unpacked;
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(READ_ERROR, e);
+        }
+        if (capture.isComplete()) {
+            unpacked.close();
         }
+        return unpacked;
     }
 
 }
@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.httpclient5;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.test.AllureResults;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http.ContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.qameta.allure.httpclient5.HttpExchangeTestSupport.attachmentContent;
+import static io.qameta.allure.httpclient5.HttpExchangeTestSupport.executeWithAllure;
+import static io.qameta.allure.httpclient5.HttpExchangeTestSupport.httpExchangeAttachment;
+import static io.qameta.allure.test.RunUtils.runTests;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+class AllureHttpClient5AsyncTest {
+
+    private static final String BODY_STRING = "Hello world!";
+    private static final String POST_REQUEST_BODY = "hello post request body";
+    private static final String HELLO_RESOURCE_PATH = "/hello";
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        configureFor(server.port());
+
+        stubFor(
+                post(HELLO_RESOURCE_PATH).willReturn(
+                        aResponse()
+                                .withHeader("Content-Type", "text/plain")
+                                .withBody(BODY_STRING)
+                )
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (Objects.nonNull(server)) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void shouldCreateAsyncHttpExchangeAttachment() {
+        final AllureResults results = executeWithAllure(() -> {
+            try (CloseableHttpAsyncClient client = client(new AllureHttpClient5Async())) {
+                final SimpleHttpResponse response = client.execute(helloRequest(), null).get();
+                assertThat(response.getBodyText()).isEqualTo(BODY_STRING);
+            }
+        });
+
+        final Attachment attachment = httpExchangeAttachment(results);
+        assertThat(attachment.getName()).isEqualTo("HTTP exchange");
+        assertThat(attachment.getType()).isEqualTo(HttpExchange.CONTENT_TYPE);
+        assertThat(attachmentContent(results, attachment))
+                .contains("\"method\":\"POST\"")
+                .contains("\"url\":\"" + helloUrl() + "\"")
+                .contains("\"status\":200")
+                .contains("\"value\":\"" + POST_REQUEST_BODY + "\"")
+                .contains("\"value\":\"" + BODY_STRING + "\"");
+    }
+
+    @Test
+    void shouldCaptureBoundedBodiesWithoutChangingThem() {
+        final AllureHttpClient5Async handler = new AllureHttpClient5Async()
+                .configureHttpExchange(exchange -> exchange.setMaxBodySize(5));
+        final AllureResults results = executeWithAllure(() -> {
+            try (CloseableHttpAsyncClient client = client(handler)) {
+                final SimpleHttpResponse response = client.execute(helloRequest(), null).get();
+                assertThat(response.getBodyText()).isEqualTo(BODY_STRING);
+            }
+        });
+
+        assertThat(attachmentContent(results, httpExchangeAttachment(results)))
+                .contains("\"value\":\"hello\"")
+                .contains("\"value\":\"Hello\"")
+                .contains("\"truncated\":true");
+    }
+
+    @Test
+    void shouldAttachEveryInFlightExchange() {
+        final AllureResults results = executeWithAllure(() -> {
+            try (CloseableHttpAsyncClient client = client(new AllureHttpClient5Async())) {
+                final List<Future<SimpleHttpResponse>> responses = new ArrayList<>();
+                for (int index = 0; index < 50; index++) {
+                    responses.add(client.execute(helloRequest(), null));
+                }
+                for (final Future<SimpleHttpResponse> response : responses) {
+                    assertThat(response.get().getCode()).isEqualTo(200);
+                }
+            }
+        });
+
+        assertThat(results.getAttachmentsRecursively())
+                .hasSize(50)
+                .allMatch(attachment -> attachmentContent(results, attachment).contains("\"status\":200"));
+    }
+
+    @Test
+    void shouldAttachConnectionFailure() {
+        final AllureResults results = executeWithAllure(() -> {
+            try (CloseableHttpAsyncClient client = client(new AllureHttpClient5Async())) {
+                assertThatThrownBy(() -> client.execute(
+                        SimpleRequestBuilder.get("http://localhost:1/unreachable").build(), null
+                ).get()).isInstanceOf(ExecutionException.class);
+            }
+        });
+
+        assertThat(attachmentContent(results, httpExchangeAttachment(results)))
+                .contains("\"url\":\"http://localhost:1/unreachable\"")
+                .contains("\"error\":");
+    }
+
+    @Test
+    void shouldPassThroughWithoutRunningExecutable() {
+        final AllureResults results = runTests(lifecycle -> {
+            try (CloseableHttpAsyncClient client = client(new AllureHttpClient5Async())) {
+                assertThat(client.execute(helloRequest(), null).get().getBodyText())
+                        .isEqualTo(BODY_STRING);
+            }
+        });
+
+        assertThat(results.getAttachments())
+                .isEmpty();
+    }
+
+    private static CloseableHttpAsyncClient client(final AllureHttpClient5Async handler) {
+        final CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .addExecInterceptorFirst("allure", handler)
+                .build();
+        client.start();
+        return client;
+    }
+
+    private SimpleHttpRequest helloRequest() {
+        return SimpleRequestBuilder.post(helloUrl())
+                .setBody(POST_REQUEST_BODY, ContentType.TEXT_PLAIN)
+                .build();
+    }
+
+    private String helloUrl() {
+        return String.format("http://localhost:%d%s", server.port(), HELLO_RESOURCE_PATH);
+    }
+}
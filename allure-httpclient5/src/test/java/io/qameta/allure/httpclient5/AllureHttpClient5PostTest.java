@@ -134,6 +134,30 @@ class AllureHttpClient5PostTest {
                 .contains("\"value\":\"" + BODY_STRING + "\"");
     }
 
+    @Test
+    void shouldCaptureRequestBodyUpToConfiguredMaxBodySize() {
+        final AllureResults results = executeWithAllure(() -> {
+            final HttpClientBuilder builder = HttpClientBuilder.create()
+                    .addRequestInterceptorFirst(new AllureHttpClient5Request()
+                            .configureHttpExchange(exchange -> exchange.setMaxBodySize(5)))
+                    .addResponseInterceptorLast(new AllureHttpClient5Response());
+
+            try (CloseableHttpClient httpClient = builder.build()) {
+                final HttpPost httpPost = new HttpPost(String.format(HELLO_POST_RETURN_BODY, server.port()));
+                httpPost.setEntity(new StringEntity(POST_REQUEST_BODY, ContentType.APPLICATION_JSON));
+                httpClient.execute(httpPost, response -> {
+                    assertThat(EntityUtils.toString(response.getEntity())).isEqualTo(BODY_STRING);
+                    return response;
+                });
+            }
+        });
+
+        assertThat(attachmentContent(results, httpExchangeAttachment(results)))
+                .contains("\"value\":\"hello\"")
+                .contains("\"truncated\":true")
+                .contains("\"value\":\"" + BODY_STRING + "\"");
+    }
+
     @Test
     void shouldCreatePostExchangeAttachmentWithEmptyBody() {
         final AllureResults results = executeWithAllure(() -> {
@@ -47,6 +47,15 @@ public class AllureResultsWriterStub implements AllureResultsWriter, AllureResul
         testResults.add(testResult);
     }
 
+    /**
+     * Keeps the result like {@link #write(TestResult)}. The callback is never run, since tests read the result later
+     * on; what the result refers to is released once it is unreachable.
+     */
+    @Override
+    public void write(final TestResult testResult, final Runnable written) {
+        write(testResult);
+    }
+
     /**
      * {@inheritDoc}
      */
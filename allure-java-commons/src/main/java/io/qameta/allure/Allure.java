@@ -22,6 +22,7 @@ import io.qameta.allure.model.Link;
 import io.qameta.allure.model.Parameter;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.AllurePropertiesSnapshot;
 import io.qameta.allure.util.ExceptionUtils;
 
 import java.io.ByteArrayInputStream;
@@ -47,8 +48,22 @@ import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
 @SuppressWarnings("PMD.TooManyMethods")
 public final class Allure {
 
+    /**
+     * Property that turns Allure off for the whole JVM when set to {@code false}.
+     */
+    public static final String ENABLED_PROPERTY = "allure.enabled";
+
     private static final String TEXT_PLAIN = "text/plain";
 
+    /**
+     * Read once, so the JIT folds every check of it away.
+     */
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(
+            AllurePropertiesSnapshot.current().getProperty(ENABLED_PROPERTY, "true").trim()
+    );
+
+    private static final StepContext DISABLED_STEP_CONTEXT = new DisabledStepContext();
+
     private static AllureLifecycle lifecycle;
 
     /**
@@ -58,6 +73,18 @@ public final class Allure {
         throw new IllegalStateException("Do not instance");
     }
 
+    /**
+     * Returns whether Allure is enabled, that is unless the {@value #ENABLED_PROPERTY} property is {@code false}.
+     * The property is read once per JVM. Integrations check this before doing any work of their own; while Allure
+     * is disabled the methods of this class return immediately, step bodies still run, and the default lifecycle
+     * ignores every call.
+     *
+     * @return true if Allure is enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
     /**
      * Returns {@link AllureLifecycle} for low level operations with results.
      *
@@ -65,7 +92,7 @@ public final class Allure {
      */
     public static AllureLifecycle getLifecycle() {
         if (Objects.isNull(lifecycle)) {
-            lifecycle = new AllureLifecycle();
+            lifecycle = ENABLED ? new AllureLifecycle() : new DisabledLifecycle();
         }
         return lifecycle;
     }
@@ -95,6 +122,9 @@ public final class Allure {
      * @param status the step status.
      */
     public static void step(final String name, final Status status) {
+        if (!ENABLED) {
+            return;
+        }
         getLifecycle().logStep(new StepResult().setName(name).setStatus(status));
     }
 
@@ -170,6 +200,9 @@ public final class Allure {
      * @param runnable the step's body.
      */
     public static <T> T step(final ThrowableContextRunnable<T, StepContext> runnable) {
+        if (!ENABLED) {
+            return run(() -> runnable.run(DISABLED_STEP_CONTEXT));
+        }
         final AllureExternalKey key = AllureExternalKey.random(Allure.class);
         getLifecycle().startStep(key, new StepResult().setName("step"));
 
@@ -194,6 +227,50 @@ public final class Allure {
         }
     }
 
+    /**
+     * Syntax sugar for {@link #aggregatedStep(String, ThrowableRunnable)}.
+     *
+     * @param name     the name of step.
+     * @param runnable the step's body.
+     */
+    public static void aggregatedStep(final String name, final ThrowableRunnableVoid runnable) {
+        aggregatedStep(name, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs provided {@link ThrowableRunnable} as an invocation of the aggregated step with given name. Repeated
+     * invocations under the same parent collapse into one step that carries their count, duration statistics and
+     * first failures, which keeps results of tight loops small. Takes no effect if no test run at the moment.
+     *
+     * <pre><code>
+     * for (int i = 0; i &lt; 10_000; i++) {
+     *     Allure.aggregatedStep("send order", () -&gt; client.send(order));
+     * }
+     * </code></pre>
+     *
+     * @param name     the name of step.
+     * @param runnable the step's body.
+     * @see AllureLifecycle#startAggregatedStep(String)
+     */
+    public static <T> T aggregatedStep(final String name, final ThrowableRunnable<T> runnable) {
+        if (!ENABLED) {
+            return run(runnable);
+        }
+        final AllureStepInvocation invocation = getLifecycle().startAggregatedStep(name);
+        final T result;
+        try {
+            result = runnable.run();
+        } catch (Throwable throwable) {
+            invocation.stop(throwable);
+            throw ExceptionUtils.sneakyThrow(throwable);
+        }
+        invocation.stop();
+        return result;
+    }
+
     /**
      * Starts a stage — a lightweight marker for a semantic test phase, rendered as a regular step. A stage has no
      * explicit stop: it stays open, collecting the steps and attachments that follow, until the next stage starts
@@ -214,6 +291,9 @@ public final class Allure {
      * @param name the name of the stage.
      */
     public static void stage(final String name) {
+        if (!ENABLED) {
+            return;
+        }
         getLifecycle().startStage(new StepResult().setName(name));
     }
 
@@ -265,6 +345,9 @@ public final class Allure {
      * @param value the value of label.
      */
     public static void label(final String name, final String value) {
+        if (!ENABLED) {
+            return;
+        }
         final Label label = new Label().setName(name).setValue(value);
         getLifecycle().updateTestMetadata(metadata -> metadata.getLabels().add(label));
     }
@@ -325,6 +408,9 @@ public final class Allure {
      */
     public static <T> T parameter(final String name, final T value,
                                   final Boolean excluded, final Parameter.Mode mode) {
+        if (!ENABLED) {
+            return value;
+        }
         final Parameter parameter = createParameter(name, value, excluded, mode);
         getLifecycle().updateTestMetadata(metadata -> metadata.getParameters().add(parameter));
         return value;
@@ -382,6 +468,9 @@ public final class Allure {
      * @param url  the link's url.
      */
     public static void link(final String name, final String type, final String url) {
+        if (!ENABLED) {
+            return;
+        }
         final Link link = new Link().setName(name).setType(type).setUrl(url);
         getLifecycle().updateTestMetadata(metadata -> metadata.getLinks().add(link));
     }
@@ -394,6 +483,9 @@ public final class Allure {
      * @see #descriptionHtml(String)
      */
     public static void description(final String description) {
+        if (!ENABLED) {
+            return;
+        }
         getLifecycle().updateTestMetadata(metadata -> metadata.setDescription(description));
     }
 
@@ -406,6 +498,9 @@ public final class Allure {
      * @see #description(String)
      */
     public static void descriptionHtml(final String descriptionHtml) {
+        if (!ENABLED) {
+            return;
+        }
         getLifecycle().updateTestMetadata(metadata -> metadata.setDescriptionHtml(descriptionHtml));
     }
 
@@ -416,6 +511,9 @@ public final class Allure {
      * @param content the attachment content.
      */
     public static void attachment(final String name, final String content) {
+        if (!ENABLED) {
+            return;
+        }
         addAttachmentAsStep(
                 name,
                 TEXT_PLAIN,
@@ -442,6 +540,9 @@ public final class Allure {
      * @param content the attachment content.
      */
     public static void attachment(final String name, final String type, final String content) {
+        if (!ENABLED) {
+            return;
+        }
         addAttachmentAsStep(
                 name,
                 type,
@@ -460,6 +561,9 @@ public final class Allure {
      */
     public static void attachment(final String name, final String type,
                                   final String content, final AttachmentOptions options) {
+        if (!ENABLED) {
+            return;
+        }
         addAttachmentAsStep(name, type, content.getBytes(StandardCharsets.UTF_8), options);
     }
 
@@ -502,6 +606,9 @@ public final class Allure {
                                                           final String name, final String type,
                                                           final CompletionStage<? extends InputStream> body,
                                                           final AttachmentOptions options) {
+        if (!ENABLED) {
+            return CompletableFuture.completedFuture(null);
+        }
         return getLifecycle().addAttachmentStepAsync(name, type, body, options);
     }
 
@@ -509,16 +616,19 @@ public final class Allure {
      * Adds an HTTP exchange attachment.
      *
      * <p>Build the exchange with the desired capture options before calling this method. This method only
-     * writes the already captured exchange.</p>
+     * writes the already captured exchange, serializing it straight to the attachment output.</p>
      *
      * @param name the attachment name
      * @param exchange the HTTP exchange payload
      */
     public static void addHttpExchange(final String name, final HttpExchange exchange) {
-        addAttachmentAsStep(
+        if (!ENABLED) {
+            return;
+        }
+        getLifecycle().addAttachmentStep(
                 name,
                 HttpExchange.CONTENT_TYPE,
-                HttpExchangeSerializer.toJsonBytes(exchange),
+                HttpExchangeSerializer.toAttachmentContent(exchange),
                 AttachmentOptions.empty()
         );
     }
@@ -530,9 +640,20 @@ public final class Allure {
 
     private static void addAttachmentAsStep(final String name, final String type,
                                             final InputStream content, final AttachmentOptions options) {
+        if (!ENABLED) {
+            return;
+        }
         getLifecycle().addAttachmentStep(name, type, content, options);
     }
 
+    private static <T> T run(final ThrowableRunnable<T> runnable) {
+        try {
+            return runnable.run();
+        } catch (Throwable throwable) {
+            throw ExceptionUtils.sneakyThrow(throwable);
+        }
+    }
+
     /**
      * Runnable that allows to throw an exception and return any type.
      *
@@ -685,4 +806,35 @@ public final class Allure {
         }
     }
 
+    /**
+     * Step context of a step run while Allure is disabled: it records nothing.
+     */
+    private static final class DisabledStepContext implements StepContext {
+
+        @Override
+        public void name(final String name) {
+            // disabled
+        }
+
+        @Override
+        public <T> T parameter(final String name, final T value) {
+            return value;
+        }
+
+        @Override
+        public <T> T parameter(final String name, final T value, final Boolean excluded) {
+            return value;
+        }
+
+        @Override
+        public <T> T parameter(final String name, final T value, final Parameter.Mode mode) {
+            return value;
+        }
+
+        @Override
+        public <T> T parameter(final String name, final T value, final Boolean excluded, final Parameter.Mode mode) {
+            return value;
+        }
+    }
+
 }
@@ -22,7 +22,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Adapter-owned lifecycle identity.
@@ -38,24 +38,51 @@ import java.util.UUID;
  * per live entity: a retry of the same test must not recompute an equal key while the previous entity is still
  * unwritten — include an attempt counter in the values when the framework can re-run the same id within one run.</p>
  *
+ * <p>Random keys, for entities that have no framework identity, skip the digest entirely: they carry a per-JVM
+ * sequence number instead and are equal only to themselves.</p>
+ *
  * <p>Keys are process-local and in-memory only; they are never serialized into result files.</p>
  */
 public final class AllureExternalKey {
 
     private static final int DISPLAY_MAX_LENGTH = 160;
 
+    /**
+     * Fibonacci hashing multiplier, spreads consecutive sequence numbers over the whole hash range.
+     */
+    private static final long SEQUENCE_SPREAD = 0x9E37_79B9_7F4A_7C15L;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * The digest of the namespace and values, or {@code null} for a random key.
+     */
     private final byte[] digest;
 
+    private final long sequence;
+
     private final int hash;
 
+    private final Class<?> namespace;
+
     private final String display;
 
     private AllureExternalKey(final byte[] digest, final String display) {
         this.digest = digest;
+        this.sequence = 0;
         this.hash = Arrays.hashCode(digest);
+        this.namespace = null;
         this.display = display;
     }
 
+    private AllureExternalKey(final Class<?> namespace, final long sequence) {
+        this.digest = null;
+        this.sequence = sequence;
+        this.hash = Long.hashCode(sequence * SEQUENCE_SPREAD);
+        this.namespace = namespace;
+        this.display = null;
+    }
+
     /**
      * Creates a key with the given namespace class and at least one identifying value.
      *
@@ -79,13 +106,16 @@ public final class AllureExternalKey {
     }
 
     /**
-     * Creates a key with the given namespace class and a random UUIDv4 value, for frameworks that expose no stable id.
+     * Creates a unique key with the given namespace class, for entities that expose no stable id. The key is backed
+     * by a per-JVM sequence number rather than a digest, so it is cheap enough to create for every step; it is equal
+     * only to itself and never to a key created by {@link #of(Class, Object, Object...)}.
      *
      * @param namespace the integration class that owns the key
      * @return the key
      */
     public static AllureExternalKey random(final Class<?> namespace) {
-        return of(namespace, UUID.randomUUID().toString());
+        Objects.requireNonNull(namespace, "namespace");
+        return new AllureExternalKey(namespace, SEQUENCE.incrementAndGet());
     }
 
     @Override
@@ -97,6 +127,9 @@ public final class AllureExternalKey {
             return false;
         }
         final AllureExternalKey that = (AllureExternalKey) o;
+        if (Objects.isNull(digest) || Objects.isNull(that.digest)) {
+            return Objects.isNull(digest) && Objects.isNull(that.digest) && sequence == that.sequence;
+        }
         return hash == that.hash && Arrays.equals(digest, that.digest);
     }
 
@@ -107,7 +140,9 @@ public final class AllureExternalKey {
 
     @Override
     public String toString() {
-        return display;
+        return Objects.isNull(display)
+                ? namespace.getSimpleName() + "[#" + sequence + ']'
+                : display;
     }
 
     private static void appendValue(final MessageDigest digest, final StringBuilder display, final Object value) {
@@ -17,6 +17,8 @@ package io.qameta.allure;
 
 import io.qameta.allure.internal.AllureExecutionContext;
 import io.qameta.allure.internal.AllureThreadContext;
+import io.qameta.allure.internal.SpilledStepList;
+import io.qameta.allure.internal.StepSpill;
 import io.qameta.allure.listener.ContainerLifecycleListener;
 import io.qameta.allure.listener.FixtureLifecycleListener;
 import io.qameta.allure.listener.LifecycleNotifier;
@@ -37,31 +39,37 @@ import io.qameta.allure.model.TestResultContainer;
 import io.qameta.allure.model.WithAttachments;
 import io.qameta.allure.model.WithMetadata;
 import io.qameta.allure.model.WithSteps;
+import io.qameta.allure.util.AllurePropertiesSnapshot;
 import io.qameta.allure.util.ExceptionUtils;
-import io.qameta.allure.util.PropertiesUtils;
 import io.qameta.allure.util.WellKnownFileExtensionsUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -119,14 +127,70 @@ public class AllureLifecycle {
 
     private static final String START_STEP = "start step";
 
+    private static final String RESULTS_DIRECTORY_PROPERTY = "allure.results.directory";
+
+    private static final String RESULTS_WRITER_PROPERTY = "allure.results.writer";
+
+    private static final String RESULTS_DURABILITY_PROPERTY = "allure.results.durability";
+
+    private static final String RESULTS_FORMAT_PROPERTY = "allure.results.format";
+
+    private static final String RESULTS_DEDUP_PROPERTY = "allure.results.dedup";
+
+    private static final String RESULTS_DETAIL_PROPERTY = "allure.results.detail";
+
+    private static final String RESULTS_SPILL_PROPERTY = "allure.results.spill.threshold";
+
+    private static final String LISTENERS_OBSERVERS_PROPERTY = "allure.listeners.observers";
+
+    private static final String ASYNC = "async";
+
+    private static final String ARCHIVE = "archive";
+
+    private static final String ON_FAILURE = "on-failure";
+
+    private static final AllureStepInvocation NO_INVOCATION = failure -> {
+    };
+
     private final AllureResultsWriter writer;
 
     private final AllureThreadContext threadContext;
 
     private final LifecycleNotifier notifier;
 
+    /**
+     * Directory test attachments are spooled to until the test is written, or {@code null} when attachments are
+     * written directly.
+     */
+    private final Path spoolDirectory;
+
+    private final FileSystemResultsWriter spool;
+
+    /**
+     * Depth below which the steps of passed tests are dropped when attachments are spooled, or a negative value to
+     * keep every step.
+     */
+    private final int passedStepDepth;
+
+    /**
+     * Number of completed steps a test keeps in the heap before further completed steps are spilled to disk, or
+     * zero to never spill.
+     */
+    private final int spillThreshold;
+
+    /**
+     * Key → live item. Used for lookups only: the state shared between threads — the steps a test or scope owns, the
+     * tests linked to a scope, a scope's fixtures and metadata — lives in the items themselves, so parallel tests
+     * never contend on a common index entry.
+     */
     private final Map<AllureExternalKey, Object> items = new ConcurrentHashMap<>();
 
+    /**
+     * Parent key → aggregated steps of the parent by name. An entry lives until its parent stops, which stops the
+     * aggregated steps.
+     */
+    private final Map<AllureExternalKey, Map<String, StepAggregate>> aggregates = new ConcurrentHashMap<>();
+
     /**
      * Creates a new lifecycle with default results writer. Shortcut
      * for {@link #AllureLifecycle(AllureResultsWriter)}
@@ -151,9 +215,46 @@ public class AllureLifecycle {
      * @param writer the results writer.
      */
     AllureLifecycle(final AllureResultsWriter writer, final LifecycleNotifier lifecycleNotifier) {
+        this(writer, lifecycleNotifier, getDefaultSpoolDirectory(), getDefaultPassedStepDepth());
+    }
+
+    /**
+     * Creates a new lifecycle instance that keeps the attachments of a test only if the test does not pass. Test
+     * attachments are spooled to the given directory and written by {@link #writeTest(AllureExternalKey)} only when
+     * the test failed, is broken, or has no status; otherwise they are dropped from the result together with their
+     * attachment steps. Steps are spilled as configured by the {@value #RESULTS_SPILL_PROPERTY} property.
+     *
+     * @param writer          the results writer.
+     * @param spoolDirectory  the directory to spool test attachments to, or {@code null} to write them directly.
+     * @param passedStepDepth the number of step levels kept for passed tests, or a negative value to keep all.
+     */
+    AllureLifecycle(final AllureResultsWriter writer, final LifecycleNotifier lifecycleNotifier,
+                    final Path spoolDirectory, final int passedStepDepth) {
+        this(writer, lifecycleNotifier, spoolDirectory, passedStepDepth, getDefaultSpillThreshold());
+    }
+
+    /**
+     * Creates a new lifecycle instance with the given detail policy that bounds the heap a test with very many
+     * steps takes. Once a test has completed more than {@code spillThreshold} steps, the finished children of every
+     * further step that stops, and at last those of the test itself, are serialized to a spill file of the test and
+     * dropped from the heap; the test result is then written by streaming the spilled steps from that file.
+     *
+     * @param writer          the results writer.
+     * @param spoolDirectory  the directory to spool test attachments to, or {@code null} to write them directly.
+     * @param passedStepDepth the number of step levels kept for passed tests, or a negative value to keep all.
+     * @param spillThreshold  the number of completed steps a test keeps in the heap, or zero to never spill.
+     */
+    AllureLifecycle(final AllureResultsWriter writer, final LifecycleNotifier lifecycleNotifier,
+                    final Path spoolDirectory, final int passedStepDepth, final int spillThreshold) {
         this.notifier = lifecycleNotifier;
         this.writer = writer;
         this.threadContext = new AllureThreadContext();
+        this.spoolDirectory = spoolDirectory;
+        this.spool = Objects.isNull(spoolDirectory)
+                ? null
+                : new FileSystemResultsWriter(spoolDirectory, FileSystemResultsWriter.Durability.NONE);
+        this.passedStepDepth = passedStepDepth;
+        this.spillThreshold = spillThreshold;
     }
 
     // ── Scopes ───────────────────────────────────────────────────────────────────────────────
@@ -165,9 +266,7 @@ public class AllureLifecycle {
      */
     public void registerScope(final AllureExternalKey key) {
         Objects.requireNonNull(key, EXTERNAL_KEY);
-        final ScopeResult scope = new ScopeResult()
-                .setUuid(UUID.randomUUID().toString());
-        if (Objects.nonNull(items.putIfAbsent(key, new ScopeItem(scope)))) {
+        if (Objects.nonNull(items.putIfAbsent(key, new ScopeItem(UUID.randomUUID().toString())))) {
             LOGGER.warn(KEY_ALREADY_EXISTS, "register scope", key);
         }
     }
@@ -186,6 +285,7 @@ public class AllureLifecycle {
             return;
         }
         test.scopes().add(scopeKey);
+        scope.liveTests().add(testKey);
         addTest(scope, test.result().getUuid());
     }
 
@@ -215,24 +315,21 @@ public class AllureLifecycle {
         if (Objects.isNull(scope)) {
             return;
         }
-        final TestResultContainer container;
-        synchronized (scope) {
-            container = toScopeContainer(scope.result());
-        }
+        final TestResultContainer container = toScopeContainer(scope);
         // the scope may be written before its linked tests stop (for example TestNG per-method scopes are written
         // at test start) — drain its metadata into the still-live tests now, claiming the link so the merge at
         // stopTest cannot apply it twice
-        items.values().forEach(item -> {
+        for (final AllureExternalKey testKey : scope.liveTests()) {
+            scope.liveTests().remove(testKey);
+            final Object item = items.get(testKey);
             if (item instanceof TestItem && ((TestItem) item).scopes().remove(key)) {
-                synchronized (scope) {
-                    mergeScopeMetadata(scope.result(), ((TestItem) item).result());
-                }
+                mergeScopeMetadata(scope.metadata().get(), ((TestItem) item).result());
             }
-        });
+        }
         notifier.beforeContainerWrite(container);
-        waitForFutures(scope.futures());
+        waitForFutures(scope.owner().futures());
         writer.write(container);
-        sweepOwnedSteps(key);
+        sweepOwnedSteps(scope.owner());
         items.remove(key);
         notifier.afterContainerWrite(container);
     }
@@ -376,6 +473,7 @@ public class AllureLifecycle {
         if (isCurrentRoot(key)) {
             closeOpenStages();
         }
+        stopAggregatedSteps(key);
         notifier.beforeTestStop(testResult);
         testResult
                 .setStage(Stage.FINISHED)
@@ -383,7 +481,7 @@ public class AllureLifecycle {
         if (Objects.isNull(testResult.getParameters())) {
             testResult.setParameters(new ArrayList<>());
         }
-        applyScopeMetadata(item);
+        applyScopeMetadata(key, item);
         applyDefaultLabels(item);
         if (Objects.isNull(testResult.getHistoryId()) && Objects.nonNull(testResult.getTestCaseId())) {
             testResult.setHistoryId(calculateHistoryId(testResult.getTestCaseId(), testResult.getParameters()));
@@ -392,6 +490,9 @@ public class AllureLifecycle {
             threadContext.clear();
         }
         notifier.afterTestStop(testResult);
+        if (spillThreshold > 0 && item.completedSteps().get() > spillThreshold) {
+            spillSteps(item, item, testResult);
+        }
     }
 
     private static String calculateHistoryId(final String testCaseId, final List<Parameter> parameters) {
@@ -423,12 +524,29 @@ public class AllureLifecycle {
         if (Objects.isNull(item)) {
             return;
         }
+        stopAggregatedSteps(key);
         notifier.beforeTestWrite(item.result());
-        waitForFutures(item.futures());
-        writer.write(item.result());
-        sweepOwnedSteps(key);
+        waitForFutures(item.owner().futures());
+        if (Objects.nonNull(spool)) {
+            applyDetailPolicy(item);
+        }
+        // the spill is discarded once both the writer, possibly on a writer thread, and the listeners are done
+        final AtomicInteger readers = new AtomicInteger(2);
+        final Runnable release = () -> {
+            if (readers.decrementAndGet() == 0) {
+                discardSpill(item);
+            }
+        };
+        writer.write(item.result(), release);
+        sweepOwnedSteps(item.owner());
+        // a test written without being stopped is still linked to its scopes
+        item.scopes().forEach(scopeKey -> unlinkFromScope(scopeKey, key));
         items.remove(key);
-        notifier.afterTestWrite(item.result());
+        try {
+            notifier.afterTestWrite(item.result());
+        } finally {
+            release.run();
+        }
     }
 
     // ── Fixtures ─────────────────────────────────────────────────────────────────────────────
@@ -470,15 +588,13 @@ public class AllureLifecycle {
             LOGGER.warn(KEY_ALREADY_EXISTS, START_FIXTURE, key);
             return;
         }
-        synchronized (scope) {
-            scope.result().getFixtures().add(
-                    new ScopeFixtureResult()
-                            .setUuid(UUID.randomUUID().toString())
-                            .setValue(result)
-                            .setType(type)
-                            .setScopeUuid(scope.result().getUuid())
-            );
-        }
+        scope.fixtures().add(
+                new ScopeFixtureResult()
+                        .setUuid(UUID.randomUUID().toString())
+                        .setValue(result)
+                        .setType(type)
+                        .setScopeUuid(scope.uuid())
+        );
         notifier.beforeFixtureStart(result);
         final FixtureItem item = new FixtureItem(result, scopeKey, type, threadContext.copy());
         items.put(key, item);
@@ -534,6 +650,7 @@ public class AllureLifecycle {
         if (isCurrentRoot(key)) {
             closeOpenStages();
         }
+        stopAggregatedSteps(key);
         notifier.beforeFixtureStop(fixture);
         fixture.setStage(Stage.FINISHED);
         fixture.setStop(System.currentTimeMillis());
@@ -621,7 +738,10 @@ public class AllureLifecycle {
         final AllureExecutionContext snapshot = bind
                 ? threadContext.copy()
                 : deriveSnapshot(parentKey, parent, key);
-        items.put(key, new StepItem(result, writeOwnerOf(parentKey, parent), snapshot, stage));
+        final AllureExternalKey writeOwnerKey = writeOwnerOf(parentKey, parent);
+        items.put(key, new StepItem(result, parentKey, writeOwnerKey, snapshot, stage));
+        ownerOf(writeOwnerKey).ifPresent(owner -> owner.steps().add(key));
+        // the lock is the parent's own: it is only ever contended when several threads add to the same parent
         synchronized (parent) {
             ((WithSteps) parentModel).getSteps().add(result);
         }
@@ -748,15 +868,79 @@ public class AllureLifecycle {
         if (Objects.isNull(item)) {
             return;
         }
+        stopAggregatedSteps(key);
         final StepResult step = item.result();
         notifier.beforeStepStop(step);
         step.setStage(Stage.FINISHED);
         step.setStop(System.currentTimeMillis());
         items.remove(key);
+        ownerOf(item.writeOwnerKey()).ifPresent(owner -> owner.steps().remove(key));
         if (unbind) {
             threadContext.stop();
         }
         notifier.afterStepStop(step);
+        final Object owner = spillThreshold > 0 ? items.get(item.writeOwnerKey()) : null;
+        if (owner instanceof TestItem && ((TestItem) owner).completedSteps().incrementAndGet() > spillThreshold) {
+            spillSteps((TestItem) owner, item, step);
+        }
+    }
+
+    /**
+     * Moves the finished children of a step or test that has just stopped to the spill file of their test, once the
+     * test is past its spill threshold. A step is spilled only once its parent stops, never at its own stop: until
+     * then an adapter may still change it, as AssertJ does with a chain step it records as stopped. Steps of
+     * fixtures stay in the heap.
+     *
+     * @param test   the test that owns the steps
+     * @param parent the item of the stopped step or test, locked like {@code startStep} does when adding to it
+     * @param model  the stopped step or test
+     */
+    private static void spillSteps(final TestItem test, final Object parent, final WithSteps model) {
+        // a step spilled now, or a parent spilled later, would not see the status an async attachment still sets
+        if (test.pendingSteps().get() > 0) {
+            return;
+        }
+        try {
+            synchronized (parent) {
+                final List<StepResult> steps = model.getSteps();
+                if (steps instanceof SpilledStepList) {
+                    ((SpilledStepList) steps).spillFinished();
+                    return;
+                }
+                if (Objects.isNull(steps) || steps.isEmpty()) {
+                    return;
+                }
+                final SpilledStepList spilled = new SpilledStepList(spillOf(test), steps);
+                spilled.spillFinished();
+                if (model instanceof TestResult) {
+                    ((TestResult) model).setSteps(spilled);
+                } else {
+                    ((StepResult) model).setSteps(spilled);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not spill Allure step, keeping it in memory", e);
+        }
+    }
+
+    private static void discardSpill(final TestItem test) {
+        final StepSpill spill = test.spill().get();
+        if (Objects.nonNull(spill)) {
+            spill.discard();
+        }
+    }
+
+    private static StepSpill spillOf(final TestItem test) throws IOException {
+        final StepSpill current = test.spill().get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        final StepSpill created = StepSpill.create();
+        if (test.spill().compareAndSet(null, created)) {
+            return created;
+        }
+        created.discard();
+        return test.spill().get();
     }
 
     /**
@@ -794,6 +978,95 @@ public class AllureLifecycle {
         }
     }
 
+    // ── Aggregated steps ─────────────────────────────────────────────────────────────────────
+
+    /**
+     * Starts an invocation of the aggregated step with the given name under the current executable and makes the
+     * aggregated step current on the calling thread until the invocation stops. All invocations with the same name
+     * under the same parent collapse into one step, so a step repeated thousands of times in a loop costs one
+     * result instead of thousands. The aggregated step is started by the first invocation and stopped together
+     * with its parent; it then carries the number of invocations and failures, the min, mean, p50, p99 and max
+     * invocation durations as parameters, and the first {@value StepAggregate#FAILURES_KEPT} failures verbatim as
+     * child steps. Steps and attachments added by an invocation become children of the aggregated step.
+     *
+     * <p>Takes no effect if no executable is running: the returned invocation then does nothing.</p>
+     *
+     * @param name the name of the aggregated step
+     * @return the invocation, to be stopped once on the calling thread
+     */
+    public AllureStepInvocation startAggregatedStep(final String name) {
+        final Optional<AllureExternalKey> current = threadContext.getCurrentExecutable();
+        if (current.isEmpty()) {
+            return NO_INVOCATION;
+        }
+        final Map<String, StepAggregate> siblings = aggregates.computeIfAbsent(
+                current.get(), key -> new ConcurrentHashMap<>()
+        );
+        StepAggregate aggregate = siblings.get(name);
+        if (Objects.isNull(aggregate)) {
+            aggregate = startAggregate(current.get(), name, siblings);
+            if (Objects.isNull(aggregate)) {
+                return NO_INVOCATION;
+            }
+        }
+        threadContext.start(aggregate.key());
+        return new StepInvocation(this, aggregate, System.nanoTime());
+    }
+
+    private StepAggregate startAggregate(final AllureExternalKey parentKey, final String name,
+                                         final Map<String, StepAggregate> siblings) {
+        // the lock keeps two threads from starting the same aggregated step; it is only taken by first invocations
+        synchronized (siblings) {
+            final StepAggregate started = siblings.get(name);
+            if (Objects.nonNull(started)) {
+                return started;
+            }
+            final AllureExternalKey key = AllureExternalKey.random(AllureLifecycle.class);
+            startStep(parentKey, key, new StepResult().setName(name), false);
+            if (!items.containsKey(key)) {
+                return null;
+            }
+            final StepAggregate aggregate = new StepAggregate(key, name);
+            siblings.put(name, aggregate);
+            return aggregate;
+        }
+    }
+
+    private void stopAggregatedStep(final StepAggregate aggregate, final long startNanos, final Throwable failure) {
+        final long nanos = System.nanoTime() - startNanos;
+        if (threadContext.getLocalKeys().contains(aggregate.key())) {
+            closeOpenStagesAbove(aggregate.key());
+        }
+        if (threadContext.getCurrent().filter(aggregate.key()::equals).isPresent()) {
+            threadContext.stop();
+        }
+        final Status status = Objects.isNull(failure) ? null : getStatus(failure).orElse(Status.BROKEN);
+        final long failures = aggregate.record(nanos, status);
+        if (failures > 0 && failures <= StepAggregate.FAILURES_KEPT) {
+            logStep(aggregate.key(), new StepResult()
+                    .setName(aggregate.name())
+                    .setStatus(status)
+                    .setStatusDetails(getStatusDetails(failure).orElse(null)));
+        }
+    }
+
+    /**
+     * Stops the aggregated steps of the given parent, writing their statistics first.
+     */
+    private void stopAggregatedSteps(final AllureExternalKey parentKey) {
+        if (aggregates.isEmpty()) {
+            return;
+        }
+        final Map<String, StepAggregate> siblings = aggregates.remove(parentKey);
+        if (Objects.isNull(siblings)) {
+            return;
+        }
+        for (final StepAggregate aggregate : siblings.values()) {
+            updateStep(aggregate.key(), aggregate::applyTo);
+            stopStep(aggregate.key(), false);
+        }
+    }
+
     // ── Attachments ──────────────────────────────────────────────────────────────────────────
 
     /**
@@ -808,7 +1081,7 @@ public class AllureLifecycle {
     public void addAttachment(final AllureExternalKey key, final String name, final String type,
                               final InputStream stream, final AttachmentOptions options) {
         addAttachmentLink(key, name, type, options)
-                .ifPresent(source -> writer.write(source, stream));
+                .ifPresent(source -> writeAttachment(spoolingTestOf(key), source, stream));
     }
 
     /**
@@ -829,6 +1102,56 @@ public class AllureLifecycle {
         addAttachment(current.get(), name, type, stream, options);
     }
 
+    /**
+     * Adds attachment to a running test, fixture, or step by key. The content writes itself to the output of the
+     * results writer, so writers that support it never hold the whole attachment in memory.
+     *
+     * @param key     the external executable key
+     * @param name    the name of attachment
+     * @param type    the content type of attachment
+     * @param content attachment content
+     * @param options the attachment options
+     */
+    public void addAttachment(final AllureExternalKey key, final String name, final String type,
+                              final AttachmentContent content, final AttachmentOptions options) {
+        addAttachmentLink(key, name, type, options)
+                .ifPresent(source -> writeAttachment(spoolingTestOf(key), source, content));
+    }
+
+    /**
+     * Adds a file attachment to a running test, fixture, or step by key. The file is handed to the results writer
+     * as is, so writers that support it can copy large files without reading them into memory.
+     *
+     * @param key     the external executable key
+     * @param name    the name of attachment
+     * @param type    the content type of attachment
+     * @param file    the file that contains attachment content
+     * @param options the attachment options
+     */
+    public void addAttachment(final AllureExternalKey key, final String name, final String type,
+                              final Path file, final AttachmentOptions options) {
+        addAttachmentLink(key, name, type, options)
+                .ifPresent(source -> writeAttachment(spoolingTestOf(key), source, file));
+    }
+
+    /**
+     * Adds a file attachment to the current test, fixture, or step if one is running.
+     *
+     * @param name    the name of attachment
+     * @param type    the content type of attachment
+     * @param file    the file that contains attachment content
+     * @param options the attachment options
+     */
+    public void addAttachment(final String name, final String type,
+                              final Path file, final AttachmentOptions options) {
+        final Optional<AllureExternalKey> current = threadContext.getCurrentExecutable();
+        if (current.isEmpty()) {
+            LOGGER.warn(NO_CONTEXT_FOR_ATTACHMENT);
+            return;
+        }
+        addAttachment(current.get(), name, type, file, options);
+    }
+
     /**
      * Adds an async attachment to a running test, fixture, or step by key. The attachment content is awaited before
      * the owning test or scope is written.
@@ -875,20 +1198,25 @@ public class AllureLifecycle {
                                                        final BiConsumer<Void, Throwable> onComplete) {
         final Optional<String> source = addAttachmentLink(key, name, type, options);
         if (source.isEmpty()) {
+            if (Objects.nonNull(onComplete)) {
+                onComplete.accept(null, null);
+            }
             return CompletableFuture.completedFuture(null);
         }
         final String attachmentSource = source.get();
+        // resolved now: the item may be stopped and released before the content arrives
+        final Optional<TestItem> test = spoolingTestOf(key);
         CompletableFuture<Void> future = body
-                .thenAccept(stream -> writer.write(attachmentSource, stream))
+                .thenAccept(stream -> writeAttachment(test, attachmentSource, stream))
                 .toCompletableFuture();
         if (Objects.nonNull(onComplete)) {
             future = future.whenComplete(onComplete);
         }
-        final Optional<Set<CompletableFuture<?>>> futures = futuresOf(writeOwnerOf(key, items.get(key)));
-        if (futures.isEmpty()) {
+        final Optional<WriteOwner> owner = ownerOf(writeOwnerOf(key, items.get(key)));
+        if (owner.isEmpty()) {
             LOGGER.warn("Could not track async attachment: no write owner found for key {}", key);
         } else {
-            registerFuture(futures.get(), future);
+            registerFuture(owner.get().futures(), future);
         }
         return future;
     }
@@ -910,24 +1238,27 @@ public class AllureLifecycle {
             LOGGER.warn(NO_CONTEXT_FOR_ATTACHMENT);
             return;
         }
-        final AllureExternalKey key = AllureExternalKey.random(AllureLifecycle.class);
-        startStep(current.get(), key, new StepResult().setName(attachmentStepName(name)), true);
-        if (!items.containsKey(key)) {
+        addAttachmentStep(current.get(), name, true, key -> addAttachment(key, name, type, content, options));
+    }
+
+    /**
+     * Adds an attachment wrapped in its own instant step under the current executable. The content writes itself to
+     * the output of the results writer. Takes no effect if no executable is running.
+     *
+     * @param name    the name of attachment
+     * @param type    the content type of attachment
+     * @param content attachment content
+     * @param options the attachment options
+     * @see #addAttachmentStep(String, String, InputStream, AttachmentOptions)
+     */
+    public void addAttachmentStep(final String name, final String type,
+                                  final AttachmentContent content, final AttachmentOptions options) {
+        final Optional<AllureExternalKey> current = threadContext.getCurrentExecutable();
+        if (current.isEmpty()) {
+            LOGGER.warn(NO_CONTEXT_FOR_ATTACHMENT);
             return;
         }
-        try {
-            addAttachment(key, name, type, content, options);
-            updateStep(key, step -> step.setStatus(Status.PASSED));
-        } catch (Throwable throwable) {
-            updateStep(
-                    key, step -> step
-                            .setStatus(getStatus(throwable).orElse(Status.BROKEN))
-                            .setStatusDetails(getStatusDetails(throwable).orElse(null))
-            );
-            throw ExceptionUtils.sneakyThrow(throwable);
-        } finally {
-            stopStep(key, true);
-        }
+        addAttachmentStep(current.get(), name, true, key -> addAttachment(key, name, type, content, options));
     }
 
     /**
@@ -942,13 +1273,34 @@ public class AllureLifecycle {
      */
     public void addAttachmentStep(final AllureExternalKey parentKey, final String name, final String type,
                                   final InputStream content, final AttachmentOptions options) {
+        addAttachmentStep(parentKey, name, false, key -> addAttachment(key, name, type, content, options));
+    }
+
+    /**
+     * Adds an attachment wrapped in its own instant step under the specified parent. The content writes itself to
+     * the output of the results writer. Pure manual linkage: no thread state is touched.
+     *
+     * @param parentKey the external parent key
+     * @param name      the name of attachment
+     * @param type      the content type of attachment
+     * @param content   attachment content
+     * @param options   the attachment options
+     * @see #addAttachmentStep(AllureExternalKey, String, String, InputStream, AttachmentOptions)
+     */
+    public void addAttachmentStep(final AllureExternalKey parentKey, final String name, final String type,
+                                  final AttachmentContent content, final AttachmentOptions options) {
+        addAttachmentStep(parentKey, name, false, key -> addAttachment(key, name, type, content, options));
+    }
+
+    private void addAttachmentStep(final AllureExternalKey parentKey, final String name, final boolean bindThread,
+                                   final Consumer<AllureExternalKey> attachment) {
         final AllureExternalKey key = AllureExternalKey.random(AllureLifecycle.class);
-        startStep(parentKey, key, new StepResult().setName(attachmentStepName(name)), false);
+        startStep(parentKey, key, new StepResult().setName(attachmentStepName(name)), bindThread);
         if (!items.containsKey(key)) {
             return;
         }
         try {
-            addAttachment(key, name, type, content, options);
+            attachment.accept(key);
             updateStep(key, step -> step.setStatus(Status.PASSED));
         } catch (Throwable throwable) {
             updateStep(
@@ -958,7 +1310,7 @@ public class AllureLifecycle {
             );
             throw ExceptionUtils.sneakyThrow(throwable);
         } finally {
-            stopStep(key, false);
+            stopStep(key, bindThread);
         }
     }
 
@@ -992,12 +1344,7 @@ public class AllureLifecycle {
         try {
             // the status update runs inside the tracked future, so a failed async attachment is
             // guaranteed to mark the step before the owning result is written
-            return addAttachmentAsync(key, name, type, body, options, (result, throwable) -> {
-                if (Objects.nonNull(throwable)) {
-                    step.setStatus(getStatus(throwable).orElse(Status.BROKEN))
-                            .setStatusDetails(getStatusDetails(throwable).orElse(null));
-                }
-            });
+            return addAttachmentAsync(key, name, type, body, options, attachmentStepStatus(key, step));
         } finally {
             stopStep(key, true);
         }
@@ -1030,17 +1377,28 @@ public class AllureLifecycle {
         try {
             // the status update runs inside the tracked future, so a failed async attachment is
             // guaranteed to mark the step before the owning result is written
-            return addAttachmentAsync(key, name, type, body, options, (result, throwable) -> {
-                if (Objects.nonNull(throwable)) {
-                    step.setStatus(getStatus(throwable).orElse(Status.BROKEN))
-                            .setStatusDetails(getStatusDetails(throwable).orElse(null));
-                }
-            });
+            return addAttachmentAsync(key, name, type, body, options, attachmentStepStatus(key, step));
         } finally {
             stopStep(key, false);
         }
     }
 
+    /**
+     * Returns the completion callback that marks an async attachment step broken when its content fails. Until the
+     * callback has run, no step of the owning test is spilled, so the step is still in the heap when it is marked.
+     */
+    private BiConsumer<Void, Throwable> attachmentStepStatus(final AllureExternalKey key, final StepResult step) {
+        final Optional<TestItem> test = owningTestOf(key);
+        test.ifPresent(item -> item.pendingSteps().incrementAndGet());
+        return (result, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                step.setStatus(getStatus(throwable).orElse(Status.BROKEN))
+                        .setStatusDetails(getStatusDetails(throwable).orElse(null));
+            }
+            test.ifPresent(item -> item.pendingSteps().decrementAndGet());
+        };
+    }
+
     private static String attachmentStepName(final String name) {
         return firstNonEmpty(name).orElse("Attachment");
     }
@@ -1064,6 +1422,132 @@ public class AllureLifecycle {
         return Optional.of(attachment.getSource());
     }
 
+    private void writeAttachment(final Optional<TestItem> test, final String source, final InputStream stream) {
+        if (test.isEmpty()) {
+            writer.write(source, stream);
+            return;
+        }
+        spool.write(source, stream);
+        test.get().spooled().add(source);
+    }
+
+    private void writeAttachment(final Optional<TestItem> test, final String source,
+                                 final AttachmentContent content) {
+        if (test.isEmpty()) {
+            writer.write(source, content);
+            return;
+        }
+        spool.write(source, content);
+        test.get().spooled().add(source);
+    }
+
+    private void writeAttachment(final Optional<TestItem> test, final String source, final Path file) {
+        if (test.isEmpty()) {
+            writer.write(source, file);
+            return;
+        }
+        spool.write(source, file);
+        test.get().spooled().add(source);
+    }
+
+    /**
+     * Returns the test whose write decides about an attachment of the given item, if attachments are spooled. Scope
+     * and fixture attachments are never spooled: a scope has no single outcome.
+     */
+    private Optional<TestItem> spoolingTestOf(final AllureExternalKey key) {
+        if (Objects.isNull(spool)) {
+            return Optional.empty();
+        }
+        return owningTestOf(key);
+    }
+
+    private Optional<TestItem> owningTestOf(final AllureExternalKey key) {
+        final AllureExternalKey ownerKey = writeOwnerOf(key, items.get(key));
+        final Object owner = Objects.isNull(ownerKey) ? null : items.get(ownerKey);
+        return owner instanceof TestItem ? Optional.of((TestItem) owner) : Optional.empty();
+    }
+
+    /**
+     * Commits the spooled attachments of a test that did not pass, or drops them — with the attachment steps left
+     * empty — and prunes deep steps of a test that passed.
+     */
+    private void applyDetailPolicy(final TestItem item) {
+        final TestResult result = item.result();
+        final Set<String> sources = new HashSet<>();
+        String source = item.spooled().poll();
+        while (Objects.nonNull(source)) {
+            sources.add(source);
+            source = item.spooled().poll();
+        }
+        final Status status = result.getStatus();
+        if (Objects.isNull(status) || Status.FAILED.equals(status) || Status.BROKEN.equals(status)) {
+            for (final String spooled : sources) {
+                final Path file = spoolDirectory.resolve(spooled);
+                // an async attachment whose content failed never reached the spool
+                if (Files.exists(file)) {
+                    writer.writeTemporary(spooled, file);
+                }
+                deleteSpooled(file);
+            }
+            return;
+        }
+        try {
+            if (!sources.isEmpty()) {
+                result.setAttachments(withoutSources(result.getAttachments(), sources));
+                SpilledStepList.update(result.getSteps(), step -> withoutSpooledAttachments(step, sources));
+                sources.forEach(spooled -> deleteSpooled(spoolDirectory.resolve(spooled)));
+            }
+            if (Status.PASSED.equals(status) && passedStepDepth >= 0) {
+                pruneSteps(result.getSteps(), passedStepDepth);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not update spilled Allure steps of test {}", result.getUuid(), e);
+        }
+    }
+
+    private static SpilledStepList.Change withoutSpooledAttachments(final StepResult step,
+                                                                    final Set<String> sources) throws IOException {
+        final int attachments = step.getAttachments().size();
+        step.setAttachments(withoutSources(step.getAttachments(), sources));
+        final boolean stepsChanged = SpilledStepList.update(
+                step.getSteps(), child -> withoutSpooledAttachments(child, sources)
+        );
+        final boolean attachmentsRemoved = attachments > step.getAttachments().size();
+        if (attachmentsRemoved && step.getAttachments().isEmpty() && step.getSteps().isEmpty()) {
+            return SpilledStepList.Change.REMOVED;
+        }
+        return attachmentsRemoved || stepsChanged ? SpilledStepList.Change.CHANGED : SpilledStepList.Change.UNCHANGED;
+    }
+
+    private static List<Attachment> withoutSources(final List<Attachment> attachments, final Set<String> sources) {
+        final List<Attachment> kept = new ArrayList<>(attachments.size());
+        for (final Attachment attachment : attachments) {
+            if (!sources.contains(attachment.getSource())) {
+                kept.add(attachment);
+            }
+        }
+        return kept;
+    }
+
+    private static boolean pruneSteps(final List<StepResult> steps, final int depth) throws IOException {
+        if (depth == 0) {
+            final boolean pruned = !steps.isEmpty();
+            steps.clear();
+            return pruned;
+        }
+        return SpilledStepList.update(steps, step -> pruneSteps(step.getSteps(), depth - 1)
+                ? SpilledStepList.Change.CHANGED
+                : SpilledStepList.Change.UNCHANGED);
+    }
+
+    private static void deleteSpooled(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete spooled Allure attachment {}", file, e);
+        }
+    }
+
     private static String createAttachmentSource(final String type, final AttachmentOptions options) {
         final String extension = Optional.ofNullable(options)
                 .map(AttachmentOptions::getFileExtension)
@@ -1117,11 +1601,7 @@ public class AllureLifecycle {
         if (item instanceof FixtureItem && ScopeFixtureType.BEFORE.equals(((FixtureItem) item).type())) {
             final ScopeItem scope = getItem(((FixtureItem) item).scopeKey(), ScopeItem.class, "update test metadata");
             if (Objects.nonNull(scope)) {
-                synchronized (scope) {
-                    update.accept(scope.result());
-                    // the consumer is the only code that can break the lists-are-mutable invariant
-                    normalizeScope(scope.result());
-                }
+                updateScopeMetadata(scope, update);
             }
         }
         // after-fixture metadata is dropped by design — the scope's tests are already stopped
@@ -1244,7 +1724,7 @@ public class AllureLifecycle {
             return ((StepItem) item).result();
         }
         if (item instanceof ScopeItem) {
-            return ((ScopeItem) item).result();
+            return ((ScopeItem) item).metadata().get();
         }
         return null;
     }
@@ -1282,16 +1762,16 @@ public class AllureLifecycle {
         return null;
     }
 
-    private Optional<Set<CompletableFuture<?>>> futuresOf(final AllureExternalKey ownerKey) {
+    private Optional<WriteOwner> ownerOf(final AllureExternalKey ownerKey) {
         if (Objects.isNull(ownerKey)) {
             return Optional.empty();
         }
         final Object item = items.get(ownerKey);
         if (item instanceof TestItem) {
-            return Optional.of(((TestItem) item).futures());
+            return Optional.of(((TestItem) item).owner());
         }
         if (item instanceof ScopeItem) {
-            return Optional.of(((ScopeItem) item).futures());
+            return Optional.of(((ScopeItem) item).owner());
         }
         return Optional.empty();
     }
@@ -1306,25 +1786,56 @@ public class AllureLifecycle {
         return snapshot;
     }
 
-    private void sweepOwnedSteps(final AllureExternalKey ownerKey) {
-        items.entrySet().removeIf(
-                entry -> entry.getValue() instanceof StepItem
-                        && ownerKey.equals(((StepItem) entry.getValue()).writeOwnerKey())
-        );
+    /**
+     * Releases the steps of the given write owner that were never stopped.
+     */
+    private void sweepOwnedSteps(final WriteOwner owner) {
+        for (final AllureExternalKey step : owner.steps()) {
+            owner.steps().remove(step);
+            items.remove(step);
+            aggregates.remove(step);
+        }
     }
 
-    private void addTest(final ScopeItem scope, final String testUuid) {
+    private void unlinkFromScope(final AllureExternalKey scopeKey, final AllureExternalKey testKey) {
+        final Object scope = items.get(scopeKey);
+        if (scope instanceof ScopeItem) {
+            ((ScopeItem) scope).liveTests().remove(testKey);
+        }
+    }
+
+    private static void addTest(final ScopeItem scope, final String testUuid) {
         if (firstNonEmpty(testUuid).isEmpty()) {
             return;
         }
-        synchronized (scope) {
-            if (!scope.result().getTests().contains(testUuid)) {
-                scope.result().getTests().add(testUuid);
-            }
+        if (scope.testUuids().add(testUuid)) {
+            scope.tests().add(testUuid);
         }
     }
 
-    private void applyScopeMetadata(final TestItem item) {
+    /**
+     * Applies a metadata update to a copy of the scope's metadata and publishes the copy. Updates come from before
+     * fixtures and are rare, so they are serialized on the scope; the frequent readers — every test of the scope
+     * merging the metadata at stop — read the published snapshot without locking, which is never modified again.
+     */
+    private static void updateScopeMetadata(final ScopeItem scope, final Consumer<WithMetadata> update) {
+        synchronized (scope) {
+            final ScopeResult current = scope.metadata().get();
+            final ScopeResult next = new ScopeResult()
+                    .setUuid(current.getUuid())
+                    .setLabels(new ArrayList<>(current.getLabels()))
+                    .setLinks(new ArrayList<>(current.getLinks()))
+                    .setParameters(new ArrayList<>(current.getParameters()))
+                    .setDescription(current.getDescription())
+                    .setDescriptionHtml(current.getDescriptionHtml());
+            update.accept(next);
+            // the consumer is the only code that can break the lists-are-non-null invariant
+            normalizeScope(next);
+            scope.metadata().set(next);
+        }
+    }
+
+    private void applyScopeMetadata(final AllureExternalKey key, final TestItem item) {
         for (final AllureExternalKey scopeKey : List.copyOf(item.scopes())) {
             // claim the link before merging, so a concurrent writeScope drain cannot apply it twice
             if (!item.scopes().remove(scopeKey)) {
@@ -1333,9 +1844,8 @@ public class AllureLifecycle {
             final Object found = items.get(scopeKey);
             if (found instanceof ScopeItem) {
                 final ScopeItem scope = (ScopeItem) found;
-                synchronized (scope) {
-                    mergeScopeMetadata(scope.result(), item.result());
-                }
+                scope.liveTests().remove(key);
+                mergeScopeMetadata(scope.metadata().get(), item.result());
             }
         }
     }
@@ -1380,11 +1890,11 @@ public class AllureLifecycle {
         }
     }
 
-    private static TestResultContainer toScopeContainer(final ScopeResult scope) {
+    private static TestResultContainer toScopeContainer(final ScopeItem scope) {
         final TestResultContainer container = new TestResultContainer()
-                .setUuid(scope.getUuid())
-                .setChildren(new ArrayList<>(new LinkedHashSet<>(scope.getTests())));
-        for (ScopeFixtureResult fixture : scope.getFixtures()) {
+                .setUuid(scope.uuid())
+                .setChildren(new ArrayList<>(scope.tests()));
+        for (ScopeFixtureResult fixture : scope.fixtures()) {
             final FixtureResult result = fixture.getValue();
             if (Objects.isNull(result)) {
                 continue;
@@ -1399,14 +1909,12 @@ public class AllureLifecycle {
     }
 
     /**
-     * Re-establishes the internal invariant that all scope lists are non-null and mutable. The model guarantees it
-     * at construction and every internal mutation preserves it; the only code that can break it is the user-supplied
+     * Re-establishes the internal invariant that all scope metadata lists are non-null. The model guarantees it at
+     * construction and every internal copy preserves it; the only code that can break it is the user-supplied
      * metadata consumer, so this runs once right after that consumer — never defensively anywhere else. Copying also
-     * detaches any list alias the consumer may have retained.
+     * detaches any list alias the consumer may have retained, so the published snapshot cannot change afterwards.
      */
     private static void normalizeScope(final ScopeResult scope) {
-        scope.setTests(new ArrayList<>(Objects.requireNonNullElse(scope.getTests(), List.of())));
-        scope.setFixtures(new ArrayList<>(Objects.requireNonNullElse(scope.getFixtures(), List.of())));
         scope.setLabels(new ArrayList<>(Objects.requireNonNullElse(scope.getLabels(), List.of())));
         scope.setLinks(new ArrayList<>(Objects.requireNonNullElse(scope.getLinks(), List.of())));
         scope.setParameters(new ArrayList<>(Objects.requireNonNullElse(scope.getParameters(), List.of())));
@@ -1417,13 +1925,17 @@ public class AllureLifecycle {
     /**
      * Internal item of a scheduled or running test: the result model, the scopes the test is linked to (their
      * metadata is merged into the test at stop), the default labels (applied at stop for label names the test has
-     * no labels for), and the async attachment futures awaited before the test is written.
+     * no labels for), the test's write owner state, the sources of the attachments spooled until the test is
+     * written, the number of its steps completed so far, and the file its completed steps are spilled to, created
+     * once the spill threshold is crossed.
      */
     private record TestItem(TestResult result, Set<AllureExternalKey> scopes, List<Label> defaultLabels,
-            Set<CompletableFuture<?>> futures) {
+            WriteOwner owner, Queue<String> spooled, AtomicInteger completedSteps, AtomicReference<StepSpill> spill,
+            AtomicInteger pendingSteps) {
 
         private TestItem(final TestResult result) {
-            this(result, ConcurrentHashMap.newKeySet(), new CopyOnWriteArrayList<>(), ConcurrentHashMap.newKeySet());
+            this(result, ConcurrentHashMap.newKeySet(), new CopyOnWriteArrayList<>(), new WriteOwner(),
+                    new ConcurrentLinkedQueue<>(), new AtomicInteger(), new AtomicReference<>(), new AtomicInteger());
         }
     }
 
@@ -1436,22 +1948,52 @@ public class AllureLifecycle {
     }
 
     /**
-     * Internal item of a running step: the result model, the write owner (the test or scope whose write awaits the
-     * step's async attachments), the execution context captured at start (feeds {@code bind}/{@code bindDetached}),
-     * and whether the step is a stage.
+     * Internal item of a running step: the result model, the parent, the write owner (the test or scope whose write
+     * awaits the step's async attachments), the execution context captured at start (feeds
+     * {@code bind}/{@code bindDetached}), and whether the step is a stage.
      */
-    private record StepItem(StepResult result, AllureExternalKey writeOwnerKey,
+    private record StepItem(StepResult result, AllureExternalKey parentKey, AllureExternalKey writeOwnerKey,
             AllureExecutionContext contextSnapshot, boolean stage) {
     }
 
     /**
-     * Internal item of a registered scope: the result model and the async attachment futures awaited before the
-     * scope is written.
+     * Internal item of a registered scope, shared by every test and fixture of the scope: the uuids of the linked
+     * tests in link order, the fixtures, the keys of the linked tests that are still live, the published metadata
+     * snapshot (replaced, never modified, by each update), and the scope's write owner state. All of them accept
+     * concurrent appends without locking.
+     */
+    private record ScopeItem(String uuid, Set<String> testUuids, Queue<String> tests,
+            Queue<ScopeFixtureResult> fixtures, Set<AllureExternalKey> liveTests,
+            AtomicReference<ScopeResult> metadata, WriteOwner owner) {
+
+        private ScopeItem(final String uuid) {
+            this(uuid, ConcurrentHashMap.newKeySet(), new ConcurrentLinkedQueue<>(), new ConcurrentLinkedQueue<>(),
+                    ConcurrentHashMap.newKeySet(), new AtomicReference<>(new ScopeResult().setUuid(uuid)),
+                    new WriteOwner());
+        }
+    }
+
+    /**
+     * State of a test or scope as a write owner: the keys of the live steps it owns, released when it is written,
+     * and the async attachment futures awaited before it is written.
+     */
+    private record WriteOwner(Set<AllureExternalKey> steps, Set<CompletableFuture<?>> futures) {
+
+        private WriteOwner() {
+            this(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Running invocation of an aggregated step returned by {@code startAggregatedStep}.
      */
-    private record ScopeItem(ScopeResult result, Set<CompletableFuture<?>> futures) {
+    private record StepInvocation(AllureLifecycle lifecycle, StepAggregate aggregate, long startNanos)
+            implements
+                AllureStepInvocation {
 
-        private ScopeItem(final ScopeResult result) {
-            this(result, ConcurrentHashMap.newKeySet());
+        @Override
+        public void stop(final Throwable failure) {
+            lifecycle.stopAggregatedStep(aggregate, startNanos, failure);
         }
     }
 
@@ -1475,19 +2017,181 @@ public class AllureLifecycle {
         }
     }
 
-    private static FileSystemResultsWriter getDefaultWriter() {
-        final Properties properties = PropertiesUtils.loadAllureProperties();
-        final String path = properties.getProperty("allure.results.directory", "allure-results");
-        return new FileSystemResultsWriter(Paths.get(path));
+    private static AllureResultsWriter getDefaultWriter() {
+        final AllurePropertiesSnapshot properties = AllurePropertiesSnapshot.current();
+        final Path path = getResultsDirectory(properties);
+        final boolean async = ASYNC.equalsIgnoreCase(
+                properties.getProperty(RESULTS_WRITER_PROPERTY, "filesystem").trim()
+        );
+        final boolean archive = ARCHIVE.equalsIgnoreCase(
+                properties.getProperty(RESULTS_FORMAT_PROPERTY, "directory").trim()
+        );
+        final AllureResultsWriter target;
+        final boolean needsClose;
+        if (archive) {
+            target = new ArchiveResultsWriter(path);
+            needsClose = true;
+        } else {
+            final FileSystemResultsWriter.Durability durability = getDurability(
+                    properties,
+                    async ? FileSystemResultsWriter.Durability.BATCH : FileSystemResultsWriter.Durability.FILE
+            );
+            target = new FileSystemResultsWriter(path, durability);
+            needsClose = FileSystemResultsWriter.Durability.BATCH.equals(durability);
+        }
+        final AllureResultsWriter deduplicated = withDeduplication(properties, path, target);
+        if (!async) {
+            if (needsClose) {
+                // the async writer closes its delegate after draining, so only a direct archive or a direct batch
+                // writer needs its own hook to finish the archive or to force the last batch to disk
+                Runtime.getRuntime().addShutdownHook(
+                        new Thread(() -> closeQuietly(deduplicated), "allure-results-writer-shutdown")
+                );
+            }
+            return deduplicated;
+        }
+        return new AsyncResultsWriter(
+                deduplicated,
+                getPositiveInt(properties, "allure.results.writer.queueSize", AsyncResultsWriter.DEFAULT_QUEUE_CAPACITY),
+                getPositiveInt(properties, "allure.results.writer.threads", AsyncResultsWriter.DEFAULT_THREADS),
+                getPositiveInt(properties, "allure.results.writer.batchSize", AsyncResultsWriter.DEFAULT_BATCH_SIZE)
+        );
+    }
+
+    private static void closeQuietly(final AllureResultsWriter writer) {
+        if (!(writer instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) writer).close();
+        } catch (Exception e) {
+            LOGGER.error("Could not close Allure results writer", e);
+        }
+    }
+
+    private static AllureResultsWriter withDeduplication(final AllurePropertiesSnapshot properties,
+                                                         final Path spoolDirectory,
+                                                         final AllureResultsWriter target) {
+        if (!Boolean.parseBoolean(properties.getProperty(RESULTS_DEDUP_PROPERTY, "false").trim())) {
+            return target;
+        }
+        return new DeduplicatingResultsWriter(
+                target,
+                spoolDirectory,
+                getPositiveInt(
+                        properties, RESULTS_DEDUP_PROPERTY + ".maxEntries", DeduplicatingResultsWriter.DEFAULT_MAX_ENTRIES
+                )
+        );
+    }
+
+    private static Path getDefaultSpoolDirectory() {
+        final AllurePropertiesSnapshot properties = AllurePropertiesSnapshot.current();
+        final String value = properties.getProperty(RESULTS_DETAIL_PROPERTY, "full").trim();
+        if (ON_FAILURE.equalsIgnoreCase(value)) {
+            // next to the results directory, so that committed attachments are linked rather than copied
+            final Path results = getResultsDirectory(properties).toAbsolutePath();
+            final Path spoolDirectory = results.resolveSibling(
+                    "." + results.getFileName() + "-spool-" + UUID.randomUUID()
+            );
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> deleteSpoolDirectory(spoolDirectory), "allure-spool-cleanup")
+            );
+            return spoolDirectory;
+        }
+        if (!"full".equalsIgnoreCase(value)) {
+            LOGGER.warn("Unknown {} value {}, using full", RESULTS_DETAIL_PROPERTY, value);
+        }
+        return null;
+    }
+
+    private static void deleteSpoolDirectory(final Path spoolDirectory) {
+        if (!Files.isDirectory(spoolDirectory)) {
+            return;
+        }
+        // attachments still spooled belong to tests that never finished
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            files.forEach(AllureLifecycle::deleteSpooled);
+        } catch (IOException e) {
+            LOGGER.warn("Could not list Allure spool directory {}", spoolDirectory, e);
+        }
+        try {
+            Files.deleteIfExists(spoolDirectory);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete Allure spool directory {}", spoolDirectory, e);
+        }
+    }
+
+    private static Path getResultsDirectory(final AllurePropertiesSnapshot properties) {
+        return Paths.get(properties.getProperty(RESULTS_DIRECTORY_PROPERTY, "allure-results"));
+    }
+
+    private static int getDefaultSpillThreshold() {
+        final String value = AllurePropertiesSnapshot.current().getProperty(RESULTS_SPILL_PROPERTY);
+        if (Objects.isNull(value) || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid {} value {}, keeping all steps in memory", RESULTS_SPILL_PROPERTY, value);
+            return 0;
+        }
+    }
+
+    private static int getDefaultPassedStepDepth() {
+        final String value = AllurePropertiesSnapshot.current()
+                .getProperty(RESULTS_DETAIL_PROPERTY + ".passedStepDepth");
+        if (Objects.isNull(value) || value.isBlank()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid {}.passedStepDepth value {}, keeping all steps", RESULTS_DETAIL_PROPERTY, value);
+            return -1;
+        }
+    }
+
+    private static FileSystemResultsWriter.Durability getDurability(final AllurePropertiesSnapshot properties,
+                                                                   final FileSystemResultsWriter.Durability fallback) {
+        final String value = properties.getProperty(RESULTS_DURABILITY_PROPERTY);
+        if (Objects.isNull(value) || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return FileSystemResultsWriter.Durability.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown {} value {}, using {}", RESULTS_DURABILITY_PROPERTY, value, fallback);
+            return fallback;
+        }
+    }
+
+    private static int getPositiveInt(final AllurePropertiesSnapshot properties, final String name,
+                                      final int fallback) {
+        final String value = properties.getProperty(name);
+        if (Objects.isNull(value) || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            final int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : fallback;
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid {} value {}, using {}", name, value, fallback);
+            return fallback;
+        }
     }
 
     private static LifecycleNotifier getDefaultNotifier() {
         final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final boolean asyncObservers = ASYNC.equalsIgnoreCase(
+                AllurePropertiesSnapshot.current().getProperty(LISTENERS_OBSERVERS_PROPERTY, "sync").trim()
+        );
         return new LifecycleNotifier(
                 load(ContainerLifecycleListener.class, classLoader),
                 load(TestLifecycleListener.class, classLoader),
                 load(FixtureLifecycleListener.class, classLoader),
-                load(StepLifecycleListener.class, classLoader)
+                load(StepLifecycleListener.class, classLoader),
+                asyncObservers
         );
     }
 }
@@ -18,7 +18,12 @@ package io.qameta.allure;
 import io.qameta.allure.model.TestResult;
 import io.qameta.allure.model.TestResultContainer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * @since 1.0-BETA2
@@ -34,6 +39,27 @@ public interface AllureResultsWriter {
      */
     void write(TestResult testResult);
 
+    /**
+     * Writes Allure test result bean and runs the given callback once the writer no longer reads it, so that the
+     * caller can release what the result refers to, such as the spill file of its steps.
+     *
+     * <p>The default implementation calls {@link #write(TestResult)} and then the callback. Writers that write the
+     * result later, or pass it on to a writer that does, should override it and run the callback once that write is
+     * done. Writers that keep the result to read it later may never run the callback.</p>
+     *
+     * @param testResult the given bean to write.
+     * @param written    the callback to run once the result is written.
+     * @throws AllureResultsWriteException if some error occurs
+     * during operation.
+     */
+    default void write(final TestResult testResult, final Runnable written) {
+        try {
+            write(testResult);
+        } finally {
+            written.run();
+        }
+    }
+
     /**
      * Writes Allure test result container bean.
      *
@@ -54,4 +80,64 @@ public interface AllureResultsWriter {
      */
     void write(String source, InputStream attachment);
 
+    /**
+     * Writes given file as an attachment. The file itself is left in place, and the caller may delete it once
+     * this method returns.
+     *
+     * <p>The default implementation streams the file through {@link #write(String, InputStream)}. Writers that
+     * can copy files without reading them into the Java heap should override it.</p>
+     *
+     * @param source the file name of the attachment, see {@link #write(String, InputStream)}.
+     * @param file   the file that contains attachment body.
+     * @throws AllureResultsWriteException if some error occurs
+     * during operation.
+     */
+    default void write(final String source, final Path file) {
+        final InputStream attachment;
+        try {
+            attachment = Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not read Allure attachment " + file, e);
+        }
+        write(source, attachment);
+    }
+
+    /**
+     * Writes attachment content that is produced while it is written, such as a serialized HTTP exchange.
+     *
+     * <p>The default implementation collects the content in memory and passes it to
+     * {@link #write(String, InputStream)}. Writers that own an output should override it and let the content write
+     * to that output directly.</p>
+     *
+     * @param source  the file name of the attachment, see {@link #write(String, InputStream)}.
+     * @param content the attachment content.
+     * @throws AllureResultsWriteException if some error occurs
+     * during operation.
+     */
+    default void write(final String source, final AttachmentContent content) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try {
+            content.writeTo(buffer);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not write Allure attachment", e);
+        }
+        write(source, new ByteArrayInputStream(buffer.toByteArray()));
+    }
+
+    /**
+     * Writes a temporary file that Allure created itself, such as a spooled attachment, as an attachment. Nobody
+     * modifies such a file after this call, and the caller deletes it once this method returns, so unlike
+     * {@link #write(String, Path)} the writer may share the file's content with the attachment instead of copying it.
+     *
+     * <p>The default implementation calls {@link #write(String, Path)}.</p>
+     *
+     * @param source the file name of the attachment, see {@link #write(String, InputStream)}.
+     * @param file   the temporary file that contains attachment body.
+     * @throws AllureResultsWriteException if some error occurs
+     * during operation.
+     */
+    default void writeTemporary(final String source, final Path file) {
+        write(source, file);
+    }
+
 }
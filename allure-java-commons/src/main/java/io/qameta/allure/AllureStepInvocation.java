@@ -0,0 +1,37 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+/**
+ * Invocation of an aggregated step returned by {@link AllureLifecycle#startAggregatedStep(String)}. Stopping it
+ * records its duration and outcome in the aggregated step and restores the calling thread's previous current step.
+ */
+public interface AllureStepInvocation {
+
+    /**
+     * Stops the invocation as passed.
+     */
+    default void stop() {
+        stop(null);
+    }
+
+    /**
+     * Stops the invocation.
+     *
+     * @param failure the throwable the invocation failed with, or {@code null} if it passed
+     */
+    void stop(Throwable failure);
+}
@@ -0,0 +1,266 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static io.qameta.allure.FileSystemResultsWriter.generateTestResultContainerName;
+import static io.qameta.allure.FileSystemResultsWriter.generateTestResultName;
+
+/**
+ * Writes Allure results and attachments into a single zip archive instead of one file each.
+ *
+ * <p>Every result, container, and attachment becomes an entry named exactly like the file the
+ * {@link FileSystemResultsWriter} would create, so unpacking the archive yields a regular results directory. Each
+ * writer creates its own archive with a random name in the output directory, and entry names are unique across
+ * runs, so the archives of several forked JVMs can be unpacked into one directory or merged entry by entry.</p>
+ *
+ * <p>Entries are streamed through one open file channel: results are serialized straight into the archive and
+ * attachments are copied in chunks, so memory use does not depend on their size. Writes from several threads are
+ * serialized. The archive is written as {@code <name>.zip.part} and renamed to {@code <name>.zip} by
+ * {@link #close()}, so a {@code .zip} file is always complete. Nothing is created until the first write.</p>
+ *
+ * <p>Unlike a result file, an entry cannot be removed once written: an attachment whose stream fails keeps the
+ * content read before the failure, and writing a second entry with the same name fails.</p>
+ */
+public class ArchiveResultsWriter implements AllureResultsWriter, Flushable, AutoCloseable {
+
+    /**
+     * Suffix of a finished archive.
+     */
+    public static final String ARCHIVE_SUFFIX = ".zip";
+
+    private static final String PART_SUFFIX = ".part";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String TEST_RESULT_ENTITY_NAME = "test result";
+
+    private static final String TEST_RESULT_CONTAINER_ENTITY_NAME = "test result container";
+
+    private static final String ATTACHMENT_ENTITY_NAME = "attachment";
+
+    private final Path outputDirectory;
+
+    private final Path archive;
+
+    private final Path partial;
+
+    private final ObjectMapper mapper;
+
+    private final Lock lock = new ReentrantLock();
+
+    private ZipOutputStream output;
+
+    private FileChannel channel;
+
+    private boolean closed;
+
+    /**
+     * Creates an archive results writer with the supplied values.
+     *
+     * @param outputDirectory the directory the archive is created in
+     */
+    public ArchiveResultsWriter(final Path outputDirectory) {
+        this.outputDirectory = Objects.requireNonNull(outputDirectory, "outputDirectory");
+        this.archive = outputDirectory.resolve("allure-results-" + UUID.randomUUID() + ARCHIVE_SUFFIX);
+        this.partial = archive.resolveSibling(archive.getFileName() + PART_SUFFIX);
+        this.mapper = Allure2ModelJackson.createMapper();
+    }
+
+    /**
+     * Returns the path of the finished archive. The file exists only after {@link #close()}, and only if something
+     * was written.
+     *
+     * @return the archive path
+     */
+    public Path getArchive() {
+        return archive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResult testResult) {
+        final String name = Objects.isNull(testResult.getUuid())
+                ? generateTestResultName()
+                : generateTestResultName(testResult.getUuid());
+        writeEntry(name, TEST_RESULT_ENTITY_NAME, entry -> {
+            final DataOutput data = new DataOutputStream(entry);
+            mapper.writeValue(data, testResult);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResultContainer testResultContainer) {
+        final String name = Objects.isNull(testResultContainer.getUuid())
+                ? generateTestResultContainerName()
+                : generateTestResultContainerName(testResultContainer.getUuid());
+        writeEntry(name, TEST_RESULT_CONTAINER_ENTITY_NAME, entry -> {
+            final DataOutput data = new DataOutputStream(entry);
+            mapper.writeValue(data, testResultContainer);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final String source, final InputStream attachment) {
+        try (InputStream is = attachment) {
+            writeEntry(source, ATTACHMENT_ENTITY_NAME, is::transferTo);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(getErrorMessage(ATTACHMENT_ENTITY_NAME), e);
+        }
+    }
+
+    /**
+     * Lets the content write itself straight into the archive entry.
+     *
+     * @param source  the file name of the attachment
+     * @param content the attachment content
+     */
+    @Override
+    public void write(final String source, final AttachmentContent content) {
+        writeEntry(source, ATTACHMENT_ENTITY_NAME, content::writeTo);
+    }
+
+    /**
+     * Copies given file into the archive in chunks, without reading it into memory.
+     *
+     * @param source the file name of the attachment
+     * @param file   the file that contains attachment body
+     */
+    @Override
+    public void write(final String source, final Path file) {
+        writeEntry(source, ATTACHMENT_ENTITY_NAME, entry -> Files.copy(file, entry));
+    }
+
+    /**
+     * Pushes the buffered entries to the archive file.
+     *
+     * @throws AllureResultsWriteException if some error occurs during operation.
+     */
+    @Override
+    public void flush() {
+        lock.lock();
+        try {
+            if (Objects.nonNull(output) && !closed) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not flush Allure results archive", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the archive directory, forces the archive to disk, and renames it into place. Later writes fail.
+     *
+     * @throws AllureResultsWriteException if some error occurs during operation.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (Objects.isNull(output)) {
+                return;
+            }
+            output.finish();
+            output.flush();
+            channel.force(true);
+            output.close();
+            Files.move(partial, archive, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not finish Allure results archive " + archive, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeEntry(final String name, final String entityName, final EntryWriter body) {
+        lock.lock();
+        try {
+            final ZipOutputStream zip = open();
+            zip.putNextEntry(new ZipEntry(name));
+            body.write(zip);
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(getErrorMessage(entityName), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ZipOutputStream open() throws IOException {
+        if (closed) {
+            throw new IOException("Allure results archive " + archive + " is closed");
+        }
+        if (Objects.isNull(output)) {
+            Files.createDirectories(outputDirectory);
+            channel = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            output = new ZipOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            // results are small and attachments are mostly compressed already, so favour speed over ratio
+            output.setLevel(Deflater.BEST_SPEED);
+        }
+        return output;
+    }
+
+    private static String getErrorMessage(final String entityName) {
+        return "Could not write Allure " + entityName;
+    }
+
+    /**
+     * Writer callback over the archive stream positioned at a new entry.
+     */
+    private interface EntryWriter {
+
+        void write(OutputStream entry) throws IOException;
+    }
+}
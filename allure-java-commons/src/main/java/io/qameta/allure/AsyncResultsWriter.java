@@ -0,0 +1,364 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes Allure results from dedicated background threads.
+ *
+ * <p>Test results, containers, and in-memory attachments are handed to a bounded queue and written by the delegate on
+ * writer threads, so the test thread pays for neither serialization nor disk I/O. When the queue is full the caller
+ * blocks until a writer thread frees a slot. After every drained batch a {@link Flushable} delegate is flushed, which
+ * lets a {@link FileSystemResultsWriter} in {@link FileSystemResultsWriter.Durability#BATCH} mode force a whole batch
+ * to disk at once. Pending writes are drained by {@link #close()}, which also runs on JVM shutdown and then closes an
+ * {@link AutoCloseable} delegate such as an {@link ArchiveResultsWriter}.</p>
+ *
+ * <p>A result file remains a completion marker: a test result or container is written only after every attachment
+ * handed to this writer before it. A writer thread that reaches such a result runs the attachments still pending
+ * itself rather than waiting for them, so results and attachments may share a batch or a single thread. File
+ * attachments, {@link AttachmentContent}, and attachment streams other than
+ * {@link ByteArrayInputStream} are written on the calling thread, since callers usually close or change their
+ * backing resource as soon as the call returns.</p>
+ */
+public class AsyncResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+    /**
+     * Default capacity of the write queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Default number of writer threads.
+     */
+    public static final int DEFAULT_THREADS = 1;
+
+    /**
+     * Default maximum number of writes handled between two flushes of the delegate.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncResultsWriter.class);
+
+    private static final Task POISON = new Task(() -> {
+    });
+
+    private final AllureResultsWriter delegate;
+
+    private final BlockingQueue<Task> queue;
+
+    private final int batchSize;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final Set<Task> pendingAttachments = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final Thread shutdownHook;
+
+    /**
+     * Creates an async results writer with default queue capacity, thread count, and batch size.
+     *
+     * @param delegate the writer that performs the actual writes
+     */
+    public AsyncResultsWriter(final AllureResultsWriter delegate) {
+        this(delegate, DEFAULT_QUEUE_CAPACITY, DEFAULT_THREADS, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an async results writer with the supplied values.
+     *
+     * @param delegate      the writer that performs the actual writes
+     * @param queueCapacity the maximum number of pending writes before callers block
+     * @param threads       the number of writer threads
+     * @param batchSize     the maximum number of writes handled between two flushes of the delegate
+     */
+    public AsyncResultsWriter(final AllureResultsWriter delegate, final int queueCapacity,
+                              final int threads, final int batchSize) {
+        if (queueCapacity < 1 || threads < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("queue capacity, threads and batch size must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        for (int index = 0; index < threads; index++) {
+            final Thread worker = new Thread(this::drain, "allure-results-writer-" + index);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+        this.shutdownHook = new Thread(this::close, "allure-results-writer-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResult testResult) {
+        final Task[] attachments = pendingAttachments.toArray(new Task[0]);
+        submit(new Task(() -> {
+            runPending(attachments);
+            delegate.write(testResult);
+        }));
+    }
+
+    /**
+     * Queues the result like {@link #write(TestResult)} and runs the callback on the writer thread once the delegate
+     * has written it, or failed to.
+     *
+     * @param testResult the result
+     * @param written    the callback to run once the result is written
+     */
+    @Override
+    public void write(final TestResult testResult, final Runnable written) {
+        final Task[] attachments = pendingAttachments.toArray(new Task[0]);
+        final Task task = new Task(() -> {
+            runPending(attachments);
+            delegate.write(testResult);
+        });
+        task.done().whenComplete((result, throwable) -> written.run());
+        submit(task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResultContainer testResultContainer) {
+        final Task[] attachments = pendingAttachments.toArray(new Task[0]);
+        submit(new Task(() -> {
+            runPending(attachments);
+            delegate.write(testResultContainer);
+        }));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final String source, final InputStream attachment) {
+        if (!(attachment instanceof ByteArrayInputStream)) {
+            delegate.write(source, attachment);
+            return;
+        }
+        final Task task = new Task(() -> delegate.write(source, attachment));
+        submit(task);
+        // tracked only once queued, and dropped again at once if a writer thread already ran it
+        pendingAttachments.add(task);
+        task.done().whenComplete((result, throwable) -> pendingAttachments.remove(task));
+    }
+
+    /**
+     * Writes the file on the calling thread, since callers may delete it as soon as the call returns.
+     *
+     * @param source the file name of the attachment
+     * @param file   the file that contains attachment body
+     */
+    @Override
+    public void write(final String source, final Path file) {
+        delegate.write(source, file);
+    }
+
+    /**
+     * Writes the content on the calling thread, since it may read state the caller changes once the call returns.
+     *
+     * @param source  the file name of the attachment
+     * @param content the attachment content
+     */
+    @Override
+    public void write(final String source, final AttachmentContent content) {
+        delegate.write(source, content);
+    }
+
+    /**
+     * Writes the temporary file on the calling thread, since callers delete it as soon as the call returns.
+     *
+     * @param source the file name of the attachment
+     * @param file   the temporary file that contains attachment body
+     */
+    @Override
+    public void writeTemporary(final String source, final Path file) {
+        delegate.writeTemporary(source, file);
+    }
+
+    /**
+     * Writes every pending result, flushes the delegate, and stops the writer threads, then closes the delegate if it
+     * is {@link AutoCloseable}. Results handed to the writer afterwards are passed to the delegate on the calling
+     * thread.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int index = 0; index < workers.size(); index++) {
+                queue.put(POISON);
+            }
+            for (final Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for Allure results writer threads");
+        }
+        final List<Task> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(Task::run);
+        flushDelegate();
+        closeDelegate();
+        removeShutdownHook();
+    }
+
+    private void submit(final Task task) {
+        if (closed.get()) {
+            task.run();
+            return;
+        }
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.run();
+            return;
+        }
+        // close may have drained the queue for the last time between the check above and the put
+        if (closed.get() && queue.remove(task)) {
+            task.run();
+        }
+    }
+
+    private void drain() {
+        final List<Task> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            int poisons = 0;
+            for (final Task task : batch) {
+                if (POISON.equals(task)) {
+                    poisons++;
+                } else {
+                    task.run();
+                }
+            }
+            batch.clear();
+            flushDelegate();
+            if (poisons > 0) {
+                returnPoisons(poisons - 1);
+                return;
+            }
+        }
+    }
+
+    private void returnPoisons(final int count) {
+        try {
+            for (int index = 0; index < count; index++) {
+                queue.put(POISON);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushDelegate() {
+        if (!(delegate instanceof Flushable)) {
+            return;
+        }
+        try {
+            ((Flushable) delegate).flush();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Could not flush Allure results", e);
+        }
+    }
+
+    private void closeDelegate() {
+        if (!(delegate instanceof AutoCloseable)) {
+            return;
+        }
+        try {
+            ((AutoCloseable) delegate).close();
+        } catch (Exception e) {
+            LOGGER.error("Could not close Allure results writer", e);
+        }
+    }
+
+    private void removeShutdownHook() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignored) {
+            // the JVM is already shutting down, the hook is the caller
+        }
+    }
+
+    private static void runPending(final Task... attachments) {
+        for (final Task attachment : attachments) {
+            attachment.run();
+        }
+        for (final Task attachment : attachments) {
+            attachment.done().handle((result, throwable) -> null).join();
+        }
+    }
+
+    /**
+     * A queued write and the future completed once it is done. Only the first call of {@link #run()} writes, so a
+     * pending attachment can be run by the thread that needs it while its queued copy becomes a no-op.
+     */
+    private record Task(Runnable action, CompletableFuture<Void> done, AtomicBoolean claimed) implements Runnable {
+
+        private Task(final Runnable action) {
+            this(action, new CompletableFuture<>(), new AtomicBoolean());
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                action.run();
+                done.complete(null);
+            } catch (RuntimeException e) {
+                LOGGER.error("Could not write Allure results", e);
+                done.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Attachment content that writes itself to the output of a results writer, so it never has to exist as a whole
+ * in memory. See {@link AllureResultsWriter#write(String, AttachmentContent)}.
+ */
+@FunctionalInterface
+public interface AttachmentContent {
+
+    /**
+     * Writes the content. The output may be unbuffered, so write in chunks rather than byte by byte, and leave it
+     * open: the writer closes it.
+     *
+     * @param output the output the attachment is written to
+     * @throws IOException if the content could not be written
+     */
+    void writeTo(OutputStream output) throws IOException;
+}
@@ -0,0 +1,357 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.internal.SpilledStepList;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.ExecutableItem;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.qameta.allure.AllureConstants.ATTACHMENT_FILE_SUFFIX;
+
+/**
+ * Writes each distinct attachment content only once.
+ *
+ * <p>Attachment content is hashed with SHA-256 while it is read. When content with the same hash and file extension
+ * was already written, the attachment is dropped and its source is remembered as an alias of the existing one; the
+ * test results and containers passed to this writer afterwards have those sources replaced before they reach the
+ * delegate, so every attachment of the report points at a file that exists. Result files are written after the
+ * attachments they reference, which is what makes the aliases known in time.</p>
+ *
+ * <p>In-memory attachment streams are hashed in place. Other streams and {@link AttachmentContent} are spooled to a
+ * temporary file in the spool directory while they are hashed, and the file is passed on to the delegate, which can
+ * link it instead of copying it when the spool directory is on the same file store. The index of written contents is
+ * shared by all threads and holds at most {@code maxEntries} hashes; once it is full, new contents are written
+ * without being indexed.</p>
+ */
+public class DeduplicatingResultsWriter implements AllureResultsWriter, Flushable, AutoCloseable {
+
+    /**
+     * Default maximum number of indexed attachment contents.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeduplicatingResultsWriter.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final String WRITE_ERROR = "Could not write Allure attachment";
+
+    private final AllureResultsWriter delegate;
+
+    private final Path spoolDirectory;
+
+    private final int maxEntries;
+
+    /**
+     * Content hash and file extension → source of the attachment written with that content.
+     */
+    private final Map<String, String> written = new ConcurrentHashMap<>();
+
+    /**
+     * Source of a dropped attachment → source of the written attachment with the same content.
+     */
+    private final Map<String, String> aliases = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a deduplicating results writer with the default index size.
+     *
+     * @param delegate       the writer that performs the actual writes
+     * @param spoolDirectory the directory for temporary copies of streamed attachments
+     */
+    public DeduplicatingResultsWriter(final AllureResultsWriter delegate, final Path spoolDirectory) {
+        this(delegate, spoolDirectory, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a deduplicating results writer with the supplied values.
+     *
+     * @param delegate       the writer that performs the actual writes
+     * @param spoolDirectory the directory for temporary copies of streamed attachments
+     * @param maxEntries     the maximum number of indexed attachment contents
+     */
+    public DeduplicatingResultsWriter(final AllureResultsWriter delegate, final Path spoolDirectory,
+                                      final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("max entries must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.spoolDirectory = Objects.requireNonNull(spoolDirectory, "spoolDirectory");
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResult testResult) {
+        if (!aliases.isEmpty()) {
+            resolveAliases(testResult);
+        }
+        delegate.write(testResult);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResult testResult, final Runnable written) {
+        if (!aliases.isEmpty()) {
+            resolveAliases(testResult);
+        }
+        delegate.write(testResult, written);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final TestResultContainer testResultContainer) {
+        if (!aliases.isEmpty()) {
+            testResultContainer.getBefores().forEach(this::resolveAliases);
+            testResultContainer.getAfters().forEach(this::resolveAliases);
+        }
+        delegate.write(testResultContainer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final String source, final InputStream attachment) {
+        if (attachment instanceof ByteArrayInputStream) {
+            final byte[] content = readAll(attachment);
+            final String key = key(newDigest().digest(content), source);
+            if (!isDuplicate(key, source)) {
+                delegate.write(source, new ByteArrayInputStream(content));
+                index(key, source);
+            }
+            return;
+        }
+        try (InputStream is = attachment) {
+            writeSpooled(source, is::transferTo);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(WRITE_ERROR, e);
+        }
+    }
+
+    /**
+     * Hashes the content while it is spooled to a temporary file, then passes the file on to the delegate unless its
+     * content was already written.
+     *
+     * @param source  the file name of the attachment
+     * @param content the attachment content
+     */
+    @Override
+    public void write(final String source, final AttachmentContent content) {
+        try {
+            writeSpooled(source, content);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(WRITE_ERROR, e);
+        }
+    }
+
+    /**
+     * Hashes the file, then passes it on to the delegate unless its content was already written.
+     *
+     * @param source the file name of the attachment
+     * @param file   the file that contains attachment body
+     */
+    @Override
+    public void write(final String source, final Path file) {
+        final String key = key(hash(file), source);
+        if (!isDuplicate(key, source)) {
+            delegate.write(source, file);
+            index(key, source);
+        }
+    }
+
+    /**
+     * Hashes the temporary file, then passes it on to the delegate unless its content was already written.
+     *
+     * @param source the file name of the attachment
+     * @param file   the temporary file that contains attachment body
+     */
+    @Override
+    public void writeTemporary(final String source, final Path file) {
+        final String key = key(hash(file), source);
+        if (!isDuplicate(key, source)) {
+            delegate.writeTemporary(source, file);
+            index(key, source);
+        }
+    }
+
+    /**
+     * Flushes the delegate if it is {@link Flushable}.
+     *
+     * @throws IOException if the delegate could not be flushed
+     */
+    @Override
+    public void flush() throws IOException {
+        if (delegate instanceof Flushable) {
+            ((Flushable) delegate).flush();
+        }
+    }
+
+    /**
+     * Closes the delegate if it is {@link AutoCloseable}.
+     *
+     * @throws Exception if the delegate could not be closed
+     */
+    @Override
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable) {
+            ((AutoCloseable) delegate).close();
+        }
+    }
+
+    private void writeSpooled(final String source, final AttachmentContent content) throws IOException {
+        Path spool = null;
+        try {
+            spool = Files.createTempFile(createSpoolDirectory(), ".allure-dedup-", ".tmp");
+            final MessageDigest digest = newDigest();
+            try (OutputStream output = new DigestOutputStream(Files.newOutputStream(spool), digest)) {
+                content.writeTo(output);
+            }
+            final String key = key(digest.digest(), source);
+            if (!isDuplicate(key, source)) {
+                delegate.writeTemporary(source, spool);
+                index(key, source);
+            }
+        } finally {
+            deleteIfExists(spool);
+        }
+    }
+
+    private static byte[] hash(final Path file) {
+        final MessageDigest digest = newDigest();
+        try (InputStream is = new DigestInputStream(Files.newInputStream(file), digest)) {
+            is.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(WRITE_ERROR, e);
+        }
+        return digest.digest();
+    }
+
+    private boolean isDuplicate(final String key, final String source) {
+        final String existing = written.get(key);
+        if (Objects.isNull(existing) || existing.equals(source)) {
+            return false;
+        }
+        aliases.put(source, existing);
+        return true;
+    }
+
+    private void index(final String key, final String source) {
+        // the index only stops growing; an eviction would turn a later duplicate into a second copy, never worse
+        if (written.size() < maxEntries) {
+            written.putIfAbsent(key, source);
+        }
+    }
+
+    private void resolveAliases(final ExecutableItem item) {
+        resolveAttachments(item);
+        try {
+            SpilledStepList.update(item.getSteps(), this::resolveStep);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not update spilled Allure steps", e);
+        }
+    }
+
+    /**
+     * Steps spilled by the lifecycle are read back as copies, so a step whose attachments changed is reported as
+     * changed and written back to the spill.
+     */
+    private SpilledStepList.Change resolveStep(final StepResult step) throws IOException {
+        final boolean attachments = resolveAttachments(step);
+        final boolean steps = SpilledStepList.update(step.getSteps(), this::resolveStep);
+        return attachments || steps ? SpilledStepList.Change.CHANGED : SpilledStepList.Change.UNCHANGED;
+    }
+
+    private boolean resolveAttachments(final ExecutableItem item) {
+        boolean resolved = false;
+        for (final Attachment attachment : item.getAttachments()) {
+            final String source = attachment.getSource();
+            final String existing = Objects.isNull(source) ? null : aliases.remove(source);
+            if (Objects.nonNull(existing)) {
+                attachment.setSource(existing);
+                resolved = true;
+            }
+        }
+        return resolved;
+    }
+
+    private Path createSpoolDirectory() throws IOException {
+        return Files.createDirectories(spoolDirectory);
+    }
+
+    /**
+     * The file extension is part of the key, so an attachment never points at a file of another type.
+     */
+    private static String key(final byte[] hash, final String source) {
+        final int suffix = source.lastIndexOf(ATTACHMENT_FILE_SUFFIX);
+        final String extension = suffix < 0 ? "" : source.substring(suffix + ATTACHMENT_FILE_SUFFIX.length());
+        return HexFormat.of().formatHex(hash) + extension;
+    }
+
+    private static byte[] readAll(final InputStream attachment) {
+        try (InputStream is = attachment) {
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(WRITE_ERROR, e);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not find " + DIGEST_ALGORITHM + " digest", e);
+        }
+    }
+
+    private static void deleteIfExists(final Path file) {
+        if (Objects.isNull(file)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete temporary Allure attachment file {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.listener.LifecycleNotifier;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.model.WithMetadata;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Lifecycle used when Allure is turned off with {@code allure.enabled=false}. Every method returns immediately: no
+ * result is kept, no listener is loaded, and no results writer or directory is created.
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class DisabledLifecycle extends AllureLifecycle {
+
+    private static final AllureStepInvocation NO_INVOCATION = failure -> {
+    };
+
+    private static final AllureThreadBinding NO_BINDING = () -> {
+    };
+
+    DisabledLifecycle() {
+        super(new NoResultsWriter(), new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()), null, -1, 0);
+    }
+
+    @Override
+    public void registerScope(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void addTestToScope(final AllureExternalKey scopeKey, final AllureExternalKey testKey) {
+        // disabled
+    }
+
+    @Override
+    public void addTestToScope(final AllureExternalKey scopeKey, final String testUuid) {
+        // disabled
+    }
+
+    @Override
+    public void writeScope(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void scheduleTest(final AllureExternalKey key, final TestResult result) {
+        // disabled
+    }
+
+    @Override
+    public void scheduleTest(final Collection<AllureExternalKey> scopeKeys,
+                             final AllureExternalKey key,
+                             final TestResult result) {
+        // disabled
+    }
+
+    @Override
+    public void startTest(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void updateTest(final AllureExternalKey key, final Consumer<TestResult> update) {
+        // disabled
+    }
+
+    @Override
+    public void updateTest(final Consumer<TestResult> update) {
+        // disabled
+    }
+
+    @Override
+    public void addDefaultLabels(final AllureExternalKey key, final Collection<Label> labels) {
+        // disabled
+    }
+
+    @Override
+    public void stopTest(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void writeTest(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void startBeforeFixture(final AllureExternalKey scopeKey, final AllureExternalKey fixtureKey,
+                                   final FixtureResult result) {
+        // disabled
+    }
+
+    @Override
+    public void startAfterFixture(final AllureExternalKey scopeKey, final AllureExternalKey fixtureKey,
+                                  final FixtureResult result) {
+        // disabled
+    }
+
+    @Override
+    public void updateFixture(final AllureExternalKey key, final Consumer<FixtureResult> update) {
+        // disabled
+    }
+
+    @Override
+    public void updateFixture(final Consumer<FixtureResult> update) {
+        // disabled
+    }
+
+    @Override
+    public void stopFixture(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void startStep(final StepResult result) {
+        // disabled
+    }
+
+    @Override
+    public void startStep(final AllureExternalKey key, final StepResult result) {
+        // disabled
+    }
+
+    @Override
+    public void startStep(final AllureExternalKey parentKey, final AllureExternalKey key, final StepResult result) {
+        // disabled
+    }
+
+    @Override
+    public void startStage(final StepResult result) {
+        // disabled
+    }
+
+    @Override
+    public void updateStep(final AllureExternalKey key, final Consumer<StepResult> update) {
+        // disabled
+    }
+
+    @Override
+    public void updateStep(final Consumer<StepResult> update) {
+        // disabled
+    }
+
+    @Override
+    public void stopStep(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void stopStep() {
+        // disabled
+    }
+
+    @Override
+    public void logStep(final StepResult result) {
+        // disabled
+    }
+
+    @Override
+    public void logStep(final AllureExternalKey parentKey, final StepResult result) {
+        // disabled
+    }
+
+    @Override
+    public AllureStepInvocation startAggregatedStep(final String name) {
+        return NO_INVOCATION;
+    }
+
+    @Override
+    public void addAttachment(final AllureExternalKey key, final String name, final String type,
+                              final InputStream stream, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachment(final String name, final String type,
+                              final InputStream stream, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachment(final AllureExternalKey key, final String name, final String type,
+                              final Path file, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachment(final String name, final String type,
+                              final Path file, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachment(final AllureExternalKey key, final String name, final String type,
+                              final AttachmentContent content, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public CompletableFuture<Void> addAttachmentAsync(final AllureExternalKey key, final String name,
+                                                      final String type,
+                                                      final CompletionStage<? extends InputStream> body,
+                                                      final AttachmentOptions options) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> addAttachmentAsync(final String name, final String type,
+                                                      final CompletionStage<? extends InputStream> body,
+                                                      final AttachmentOptions options) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void addAttachmentStep(final String name, final String type,
+                                  final AttachmentContent content, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachmentStep(final AllureExternalKey parentKey, final String name, final String type,
+                                  final AttachmentContent content, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachmentStep(final String name, final String type,
+                                  final InputStream content, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public void addAttachmentStep(final AllureExternalKey parentKey, final String name, final String type,
+                                  final InputStream content, final AttachmentOptions options) {
+        // disabled
+    }
+
+    @Override
+    public CompletableFuture<Void> addAttachmentStepAsync(final String name, final String type,
+                                                          final CompletionStage<? extends InputStream> body,
+                                                          final AttachmentOptions options) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> addAttachmentStepAsync(final AllureExternalKey parentKey, final String name,
+                                                          final String type,
+                                                          final CompletionStage<? extends InputStream> body,
+                                                          final AttachmentOptions options) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void updateTestMetadata(final Consumer<WithMetadata> update) {
+        // disabled
+    }
+
+    @Override
+    public Optional<AllureExternalKey> getCurrentRootKey() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<AllureExternalKey> getCurrentExecutableKey() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void setCurrent(final AllureExternalKey key) {
+        // disabled
+    }
+
+    @Override
+    public void clearCurrent() {
+        // disabled
+    }
+
+    @Override
+    public AllureThreadBinding bind(final AllureExternalKey key) {
+        return NO_BINDING;
+    }
+
+    @Override
+    public AllureThreadBinding bindDetached(final AllureExternalKey key) {
+        return NO_BINDING;
+    }
+
+    /**
+     * Writer that is never called, since nothing is written while Allure is disabled.
+     */
+    private static final class NoResultsWriter implements AllureResultsWriter {
+
+        @Override
+        public void write(final TestResult testResult) {
+            // disabled
+        }
+
+        @Override
+        public void write(final TestResultContainer testResultContainer) {
+            // disabled
+        }
+
+        @Override
+        public void write(final String source, final InputStream attachment) {
+            // disabled
+        }
+    }
+}
@@ -24,24 +24,28 @@ import org.slf4j.LoggerFactory;
 
 import java.io.DataOutput;
 import java.io.DataOutputStream;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Writes Allure result model objects and attachments to the file system.
  *
  * <p>Create a writer with an output directory and pass it to an {@link AllureLifecycle} when results should be persisted as standard Allure files. The writer creates directories as needed and names files consistently with the Allure format.</p>
  */
-public class FileSystemResultsWriter implements AllureResultsWriter {
+public class FileSystemResultsWriter implements AllureResultsWriter, Flushable, AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemResultsWriter.class);
 
@@ -55,14 +59,30 @@ public class FileSystemResultsWriter implements AllureResultsWriter {
 
     private final ObjectMapper mapper;
 
+    private final Durability durability;
+
+    private final Queue<Path> unsynced = new ConcurrentLinkedQueue<>();
+
     /**
-     * Creates a file system results writer with the supplied values.
+     * Creates a file system results writer with the supplied values. Every file is forced to disk before it is
+     * renamed into place.
      *
      * @param outputDirectory the output directory
      */
     public FileSystemResultsWriter(final Path outputDirectory) {
+        this(outputDirectory, Durability.FILE);
+    }
+
+    /**
+     * Creates a file system results writer with the supplied values.
+     *
+     * @param outputDirectory the output directory
+     * @param durability      when written files are forced to disk
+     */
+    public FileSystemResultsWriter(final Path outputDirectory, final Durability durability) {
         this.outputDirectory = outputDirectory;
         this.mapper = Allure2ModelJackson.createMapper();
+        this.durability = Objects.requireNonNull(durability, "durability");
     }
 
     /**
@@ -111,6 +131,39 @@ public class FileSystemResultsWriter implements AllureResultsWriter {
         }
     }
 
+    /**
+     * Lets the content write itself straight to the channel of the attachment file.
+     *
+     * @param source  the file name of the attachment
+     * @param content the attachment content
+     */
+    @Override
+    public void write(final String source, final AttachmentContent content) {
+        final Path file = outputDirectory.resolve(source);
+        write(file, ATTACHMENT_ENTITY_NAME, channel -> content.writeTo(Channels.newOutputStream(channel)));
+    }
+
+    /**
+     * Copies given file as an attachment with {@link FileChannel#transferTo}, without reading it into memory. The
+     * attachment never shares its content with the file, so the caller may keep changing it afterwards.
+     *
+     * @param source the file name of the attachment
+     * @param attachment the file that contains attachment body
+     */
+    @Override
+    public void write(final String source, final Path attachment) {
+        final Path file = outputDirectory.resolve(source);
+        write(file, ATTACHMENT_ENTITY_NAME, channel -> {
+            try (FileChannel input = FileChannel.open(attachment, StandardOpenOption.READ)) {
+                final long size = input.size();
+                long position = 0;
+                while (position < size) {
+                    position += input.transferTo(position, size - position, channel);
+                }
+            }
+        });
+    }
+
     private void write(final Path file, final String entityName, final ChannelConsumer consumer) {
         ensureInitialized();
         Path tempFile = null;
@@ -118,20 +171,134 @@ public class FileSystemResultsWriter implements AllureResultsWriter {
             tempFile = Files.createTempFile(outputDirectory, ".allure-write-", ".tmp");
             try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
                 consumer.accept(channel);
-                channel.force(true);
+                if (Durability.FILE.equals(durability)) {
+                    channel.force(true);
+                }
             }
             Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
             tempFile = null;
+            if (Durability.BATCH.equals(durability)) {
+                unsynced.add(file);
+            }
         } catch (IOException e) {
             deleteIfExists(tempFile);
             throw new AllureResultsWriteException(getErrorMessage(entityName), e);
         }
     }
 
+    /**
+     * Hard links given temporary file into the output directory when both live on the same file store, and copies
+     * it like {@link #write(String, Path)} otherwise.
+     *
+     * @param source the file name of the attachment
+     * @param attachment the temporary file that contains attachment body
+     */
+    @Override
+    public void writeTemporary(final String source, final Path attachment) {
+        ensureInitialized();
+        if (!link(attachment, outputDirectory.resolve(source))) {
+            write(source, attachment);
+        }
+    }
+
+    private boolean link(final Path attachment, final Path file) {
+        final Path tempLink = outputDirectory.resolve(".allure-link-" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createLink(tempLink, attachment);
+        } catch (FileSystemException | UnsupportedOperationException e) {
+            // different file store, or links are not supported: fall back to copying
+            LOGGER.debug("Could not link Allure attachment {}", attachment, e);
+            return false;
+        } catch (IOException e) {
+            throw new AllureResultsWriteException(getErrorMessage(ATTACHMENT_ENTITY_NAME), e);
+        }
+        try {
+            if (Durability.FILE.equals(durability)) {
+                force(tempLink);
+            }
+            Files.move(tempLink, file, StandardCopyOption.REPLACE_EXISTING);
+            if (Durability.BATCH.equals(durability)) {
+                unsynced.add(file);
+            }
+            return true;
+        } catch (IOException e) {
+            deleteIfExists(tempLink);
+            throw new AllureResultsWriteException(getErrorMessage(ATTACHMENT_ENTITY_NAME), e);
+        }
+    }
+
+    /**
+     * Forces the files written since the previous flush to disk, followed by the output directory itself so that
+     * their renames are durable too. Does nothing unless the writer uses {@link Durability#BATCH}.
+     *
+     * @throws AllureResultsWriteException if some error occurs during operation.
+     */
+    @Override
+    public void flush() {
+        if (!Durability.BATCH.equals(durability) || unsynced.isEmpty()) {
+            return;
+        }
+        try {
+            Path file = unsynced.poll();
+            while (Objects.nonNull(file)) {
+                force(file);
+                file = unsynced.poll();
+            }
+            force(outputDirectory);
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not flush Allure results", e);
+        }
+    }
+
+    /**
+     * Flushes the files written since the previous flush, so that a writer using {@link Durability#BATCH} without
+     * an {@link AsyncResultsWriter} in front of it still forces its last results to disk.
+     *
+     * @throws AllureResultsWriteException if some error occurs during operation.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private static void force(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not every platform can open a directory as a channel; file contents are already forced
+            if (!Files.isDirectory(path)) {
+                throw e;
+            }
+            LOGGER.debug("Could not force Allure results directory {}", path, e);
+        }
+    }
+
     private static String getErrorMessage(final String entityName) {
         return "Could not write Allure " + entityName;
     }
 
+    /**
+     * When written files are forced to disk.
+     */
+    public enum Durability {
+
+        /**
+         * Every file is forced to disk before it is renamed into place.
+         */
+        FILE,
+
+        /**
+         * Files are renamed into place without forcing; {@link FileSystemResultsWriter#flush()} forces everything
+         * written since the previous flush in one go, and {@link FileSystemResultsWriter#close()} forces the rest.
+         */
+        BATCH,
+
+        /**
+         * Files are never forced to disk; the operating system decides when they are persisted.
+         */
+        NONE
+    }
+
     /**
      * Writer callback over the open file channel of a result file being written atomically.
      */
@@ -36,4 +36,13 @@ public @interface Step {
      */
     String value() default "";
 
+    /**
+     * Returns whether invocations of the step are aggregated: repeated invocations with the same name under the
+     * same parent collapse into one step that carries their count, duration statistics and first failures. See
+     * {@link AllureLifecycle#startAggregatedStep(String)}.
+     *
+     * @return true to aggregate invocations of the step
+     */
+    boolean aggregate() default false;
+
 }
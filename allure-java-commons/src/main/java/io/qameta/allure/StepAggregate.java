@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.internal.LatencyHistogram;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Statistics of the invocations of one aggregated step: how many ran, how long they took, and how many failed. The
+ * invocations may run on several threads.
+ */
+final class StepAggregate {
+
+    /**
+     * Number of failed invocations kept verbatim as child steps of the aggregated step.
+     */
+    static final int FAILURES_KEPT = 5;
+
+    private final AllureExternalKey key;
+
+    private final String name;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LatencyHistogram durations = new LatencyHistogram();
+
+    private long failures;
+
+    private Status status;
+
+    StepAggregate(final AllureExternalKey key, final String name) {
+        this.key = key;
+        this.name = name;
+    }
+
+    AllureExternalKey key() {
+        return key;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Records an invocation.
+     *
+     * @param nanos   the duration of the invocation
+     * @param failure the status of a failed invocation, or {@code null} if it passed
+     * @return the number of failed invocations so far if this one failed, or zero
+     */
+    long record(final long nanos, final Status failure) {
+        lock.lock();
+        try {
+            durations.record(nanos);
+            if (Objects.isNull(failure)) {
+                return 0;
+            }
+            if (Objects.isNull(status)) {
+                status = failure;
+            }
+            failures++;
+            return failures;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the statistics to the aggregated step as its status and parameters.
+     */
+    void applyTo(final StepResult step) {
+        lock.lock();
+        try {
+            final long count = durations.count();
+            step.setStatus(Objects.isNull(status) ? Status.PASSED : status);
+            if (failures > 0) {
+                step.setStatusDetails(new StatusDetails()
+                        .setMessage(String.format(Locale.ROOT, "%d of %d invocations failed", failures, count)));
+            }
+            final List<Parameter> parameters = new ArrayList<>(step.getParameters());
+            parameters.add(parameter("invocations", Long.toString(count)));
+            parameters.add(parameter("failures", Long.toString(failures)));
+            parameters.add(parameter("min", millis(durations.min())));
+            parameters.add(parameter("mean", millis(durations.mean())));
+            parameters.add(parameter("p50", millis(durations.percentile(50))));
+            parameters.add(parameter("p99", millis(durations.percentile(99))));
+            parameters.add(parameter("max", millis(durations.max())));
+            step.setParameters(parameters);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Parameter parameter(final String name, final String value) {
+        return new Parameter().setName(name).setValue(value).setExcluded(true);
+    }
+
+    private static String millis(final double nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000);
+    }
+}
@@ -56,6 +56,16 @@ public class AttachmentsAspects {
         //pointcut body, should be empty
     }
 
+    /**
+     * Matches only while Allure is enabled, see {@link Allure#ENABLED_PROPERTY}.
+     *
+     * @return whether Allure is enabled
+     */
+    @Pointcut("if()")
+    public static boolean allureEnabled() {
+        return Allure.isEnabled();
+    }
+
     /**
      * Handles the attachment callback.
      * If returned data is neither a byte array nor {@link AttachmentBytes}, then use its string representation.
@@ -64,7 +74,7 @@ public class AttachmentsAspects {
      * @param result    the model object or framework result to process
      */
     @AfterReturning(
-            pointcut = "anyMethod() && withAttachmentAnnotation()",
+            pointcut = "anyMethod() && withAttachmentAnnotation() && allureEnabled()",
             returning = "result"
     )
     public void attachment(final JoinPoint joinPoint, final Object result) {
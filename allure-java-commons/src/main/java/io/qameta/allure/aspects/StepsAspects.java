@@ -18,6 +18,7 @@ package io.qameta.allure.aspects;
 import io.qameta.allure.Allure;
 import io.qameta.allure.AllureExternalKey;
 import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureStepInvocation;
 import io.qameta.allure.Step;
 import io.qameta.allure.model.Parameter;
 import io.qameta.allure.model.Status;
@@ -49,11 +50,12 @@ import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
 public class StepsAspects {
 
     /**
-     * Keys of the steps this aspect has started on the current thread, most recent first. The aspect owns its keys
-     * so the final status update addresses exactly its own step — never a stage the user opened inside the method.
-     * Deliberately not inheritable: a child thread runs its own start/stop pairs.
+     * Keys of the steps this aspect has started on the current thread, most recent first, or the
+     * {@link AllureStepInvocation} of an aggregated step. The aspect owns its keys so the final status update
+     * addresses exactly its own step — never a stage the user opened inside the method. Deliberately not
+     * inheritable: a child thread runs its own start/stop pairs.
      */
-    private static final ThreadLocal<Deque<AllureExternalKey>> CURRENT_STEPS = ThreadLocal.withInitial(LinkedList::new);
+    private static final ThreadLocal<Deque<Object>> CURRENT_STEPS = ThreadLocal.withInitial(LinkedList::new);
 
     /**
      * Configures the step annotation.
@@ -71,12 +73,22 @@ public class StepsAspects {
         //pointcut body, should be empty
     }
 
+    /**
+     * Matches only while Allure is enabled, see {@link Allure#ENABLED_PROPERTY}.
+     *
+     * @return whether Allure is enabled
+     */
+    @Pointcut("if()")
+    public static boolean allureEnabled() {
+        return Allure.isEnabled();
+    }
+
     /**
      * Handles the step start callback.
      *
      * @param joinPoint the join point
      */
-    @Before("anyMethod() && withStepAnnotation()")
+    @Before("anyMethod() && withStepAnnotation() && allureEnabled()")
     public void stepStart(final JoinPoint joinPoint) {
         // enrichment aspect: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no wasted work
@@ -87,6 +99,10 @@ public class StepsAspects {
         final Step step = methodSignature.getMethod().getAnnotation(Step.class);
 
         final String name = getName(step.value(), joinPoint);
+        if (step.aggregate()) {
+            CURRENT_STEPS.get().push(getLifecycle().startAggregatedStep(name));
+            return;
+        }
         final List<Parameter> parameters = getParameters(methodSignature, joinPoint.getArgs());
 
         final StepResult result = new StepResult()
@@ -104,14 +120,19 @@ public class StepsAspects {
      * @param e the e
      */
     @AfterThrowing(
-            pointcut = "anyMethod() && withStepAnnotation()",
+            pointcut = "anyMethod() && withStepAnnotation() && allureEnabled()",
             throwing = "e"
     )
     public void stepFailed(final Throwable e) {
-        final AllureExternalKey key = CURRENT_STEPS.get().poll();
-        if (Objects.isNull(key)) {
+        final Object current = CURRENT_STEPS.get().poll();
+        if (current instanceof AllureStepInvocation) {
+            ((AllureStepInvocation) current).stop(e);
+            return;
+        }
+        if (!(current instanceof AllureExternalKey)) {
             return;
         }
+        final AllureExternalKey key = (AllureExternalKey) current;
         getLifecycle().updateStep(
                 key,
                 s -> s
@@ -124,12 +145,17 @@ public class StepsAspects {
     /**
      * Handles the step stop callback.
      */
-    @AfterReturning(pointcut = "anyMethod() && withStepAnnotation()")
+    @AfterReturning(pointcut = "anyMethod() && withStepAnnotation() && allureEnabled()")
     public void stepStop() {
-        final AllureExternalKey key = CURRENT_STEPS.get().poll();
-        if (Objects.isNull(key)) {
+        final Object current = CURRENT_STEPS.get().poll();
+        if (current instanceof AllureStepInvocation) {
+            ((AllureStepInvocation) current).stop();
+            return;
+        }
+        if (!(current instanceof AllureExternalKey)) {
             return;
         }
+        final AllureExternalKey key = (AllureExternalKey) current;
         getLifecycle().updateStep(key, step -> {
             if (Objects.isNull(step.getStatus())) {
                 step.setStatus(Status.PASSED);
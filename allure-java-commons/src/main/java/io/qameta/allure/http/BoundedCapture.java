@@ -0,0 +1,400 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Captures at most a fixed number of bytes of an HTTP body while counting all of them, so capturing a body never
+ * allocates more than the capture limit whatever the payload size.
+ *
+ * <p>Bytes are written to the capture directly, since it is an {@link OutputStream}, or copied into it by a tee:
+ * {@link #tee(InputStream)} records what the caller reads, {@link #tee(OutputStream)} records what the caller writes,
+ * and {@link #readAhead(InputStream)} captures the head of a body up front and returns a stream that replays it
+ * before the rest. Bytes past the limit are counted and dropped. The capture knows the exact body size once the end
+ * of the body was seen: when a tee reached the end of its input, or when the capture or the output tee was
+ * closed.</p>
+ *
+ * <p>A capture belongs to one body and is not thread-safe.</p>
+ */
+public final class BoundedCapture extends OutputStream {
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final int READ_CHUNK = 8192;
+
+    private static final String CHARSET_PARAMETER = "charset=";
+
+    private final int limit;
+
+    private byte[] buffer = new byte[0];
+
+    private int count;
+
+    private long size;
+
+    private boolean complete;
+
+    /**
+     * Creates a capture that keeps at most the given number of bytes.
+     *
+     * @param limit the maximum number of bytes kept, usually {@link HttpExchange.Builder#getMaxBodySize()}
+     */
+    public BoundedCapture(final long limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be greater than or equal to 0");
+        }
+        this.limit = (int) Math.min(limit, MAX_ARRAY_SIZE);
+    }
+
+    /**
+     * Returns the charset named by the {@code charset} parameter of a content type, or UTF-8 when the parameter is
+     * missing or names an unsupported charset.
+     *
+     * @param contentType the content type, may be null
+     * @return the charset of the body
+     */
+    public static Charset charsetOf(final String contentType) {
+        if (Objects.isNull(contentType)) {
+            return StandardCharsets.UTF_8;
+        }
+        for (final String parameter : contentType.split(";")) {
+            final String value = parameter.trim();
+            if (value.toLowerCase(Locale.ROOT).startsWith(CHARSET_PARAMETER)) {
+                try {
+                    return Charset.forName(value.substring(CHARSET_PARAMETER.length()).replace("\"", "").trim());
+                } catch (IllegalArgumentException ignored) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public void write(final int b) {
+        if (count < limit) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+        size++;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        final int kept = Math.min(length, limit - count);
+        if (kept > 0) {
+            ensureCapacity(count + kept);
+            System.arraycopy(bytes, offset, buffer, count, kept);
+            count += kept;
+        }
+        size += length;
+    }
+
+    /**
+     * Records the remaining bytes of the buffer without consuming them.
+     *
+     * @param bytes the bytes to record
+     */
+    public void write(final ByteBuffer bytes) {
+        final int length = bytes.remaining();
+        final int kept = Math.min(length, limit - count);
+        if (kept > 0) {
+            ensureCapacity(count + kept);
+            bytes.duplicate().get(buffer, count, kept);
+            count += kept;
+        }
+        size += length;
+    }
+
+    /**
+     * Marks the end of the body, so {@link #size()} is the exact body size.
+     */
+    @Override
+    public void close() {
+        complete = true;
+    }
+
+    /**
+     * Returns a stream that records every byte read from the source. Reaching the end of the source marks the end
+     * of the body.
+     *
+     * @param source the body stream
+     * @return the recording stream
+     */
+    public InputStream tee(final InputStream source) {
+        return new TeeInputStream(source);
+    }
+
+    /**
+     * Returns a stream that records every byte written to the target. Closing it marks the end of the body.
+     *
+     * @param target the stream the body is written to
+     * @return the recording stream
+     */
+    public OutputStream tee(final OutputStream target) {
+        return new TeeOutputStream(target);
+    }
+
+    /**
+     * Captures the body up to the limit by reading it now, and returns a stream that replays the captured bytes
+     * followed by the rest of the source. If the source ends within the limit, the capture is complete; otherwise
+     * it is truncated and the body size is unknown. The source is closed with the returned stream.
+     *
+     * @param source the body stream
+     * @return the stream to read the whole body from
+     * @throws IOException if the source could not be read
+     */
+    public InputStream readAhead(final InputStream source) throws IOException {
+        final int start = count;
+        while (count < limit) {
+            ensureCapacity((int) Math.min((long) count + READ_CHUNK, limit));
+            final int read = source.read(buffer, count, buffer.length - count);
+            if (read < 0) {
+                return replay(start, source, true);
+            }
+            count += read;
+        }
+        final int next = source.read();
+        if (next < 0) {
+            return replay(start, source, true);
+        }
+        size++;
+        final InputStream head = new SequenceInputStream(
+                replay(start, source, false),
+                new ByteArrayInputStream(new byte[]{(byte) next})
+        );
+        return new SequenceInputStream(head, source);
+    }
+
+    /**
+     * Counts the bytes read ahead and returns a stream over them, followed by the exhausted source when the end was
+     * reached, so that closing the stream still closes the source.
+     */
+    private InputStream replay(final int start, final InputStream source, final boolean end) {
+        size += count - start;
+        complete = end;
+        final InputStream head = new ByteArrayInputStream(buffer, start, count - start);
+        return end ? new SequenceInputStream(head, source) : head;
+    }
+
+    /**
+     * Returns the maximum number of bytes kept.
+     *
+     * @return the capture limit
+     */
+    public long limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of bytes seen so far, kept or not.
+     *
+     * @return the body size seen so far
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the end of the body was seen.
+     *
+     * @return true if the body size is exact
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns whether bytes were dropped, or may follow unseen.
+     *
+     * @return true if the captured bytes are not the whole body
+     */
+    public boolean isTruncated() {
+        return !complete || size > count;
+    }
+
+    /**
+     * Returns a copy of the captured bytes.
+     *
+     * @return the captured bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Returns a stream over the captured bytes without copying them.
+     *
+     * @return the captured bytes as a stream
+     */
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(buffer, 0, count);
+    }
+
+    /**
+     * Decodes the captured bytes. Malformed input is replaced; an incomplete character cut off by the limit is
+     * dropped.
+     *
+     * @param charset the charset of the body
+     * @return the captured text
+     */
+    public String decode(final Charset charset) {
+        final CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final boolean endOfInput = !isTruncated();
+        final ByteBuffer input = ByteBuffer.wrap(buffer, 0, count);
+        CharBuffer output = CharBuffer.allocate(Math.max(INITIAL_CAPACITY, count));
+        CoderResult result = decoder.decode(input, output, endOfInput);
+        while (result.isOverflow()) {
+            output = grow(output);
+            result = decoder.decode(input, output, endOfInput);
+        }
+        if (endOfInput) {
+            result = decoder.flush(output);
+            while (result.isOverflow()) {
+                output = grow(output);
+                result = decoder.flush(output);
+            }
+        }
+        return output.flip().toString();
+    }
+
+    /**
+     * Returns the captured body as text, with its size when known and the truncation flag.
+     *
+     * @param contentType the content type recorded with the body, may be null
+     * @param charset     the charset of the body
+     * @return the captured body
+     */
+    public HttpExchangeBody toBody(final String contentType, final Charset charset) {
+        return new HttpExchangeBody(
+                contentType,
+                "utf8",
+                decode(charset),
+                complete ? size : null,
+                isTruncated() ? true : null,
+                null,
+                null,
+                null
+        );
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > buffer.length) {
+            final int grown = (int) Math.min(Math.max((long) buffer.length * 2, INITIAL_CAPACITY), limit);
+            buffer = Arrays.copyOf(buffer, Math.max(grown, capacity));
+        }
+    }
+
+    private static CharBuffer grow(final CharBuffer output) {
+        final CharBuffer grown = CharBuffer.allocate(output.capacity() * 2);
+        return grown.put(output.flip());
+    }
+
+    /**
+     * Input stream that records the bytes read through it.
+     */
+    private final class TeeInputStream extends FilterInputStream {
+
+        private TeeInputStream(final InputStream source) {
+            super(source);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read < 0) {
+                complete = true;
+            } else {
+                write(read);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            final int read = super.read(bytes, offset, length);
+            if (read < 0) {
+                complete = true;
+            } else {
+                write(bytes, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // skipped bytes would be missing from the capture, so read them instead
+            final byte[] skipped = new byte[(int) Math.min(n, INITIAL_CAPACITY)];
+            final int read = read(skipped, 0, skipped.length);
+            return Math.max(read, 0);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /**
+     * Output stream that records the bytes written through it.
+     */
+    private final class TeeOutputStream extends FilterOutputStream {
+
+        private TeeOutputStream(final OutputStream target) {
+            super(target);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            BoundedCapture.this.write(b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            out.write(bytes, offset, length);
+            BoundedCapture.this.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            BoundedCapture.this.close();
+            super.close();
+        }
+    }
+}
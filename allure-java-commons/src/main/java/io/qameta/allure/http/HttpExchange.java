@@ -266,6 +266,15 @@ public record HttpExchange(int schemaVersion, HttpExchangeRequest request, HttpE
             return this;
         }
 
+        /**
+         * Returns the maximum captured body size in bytes.
+         *
+         * @return the maximum body size
+         */
+        public long getMaxBodySize() {
+            return maxBodySize;
+        }
+
         public HttpExchange build() {
             return new HttpExchangeProcessor(captureOptions()).process(
                     new HttpExchange(request, response, error, start, stop)
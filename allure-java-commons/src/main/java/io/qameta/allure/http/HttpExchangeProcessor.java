@@ -15,7 +15,6 @@
  */
 package io.qameta.allure.http;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 
@@ -144,12 +143,12 @@ final class HttpExchangeProcessor {
         if (body == null) {
             return null;
         }
-        final TruncatedValue value = truncate(body.value());
+        final TruncatedValue value = bounded(body.value(), body.size(), body.truncated());
         return new HttpExchangeBody(
                 body.contentType(),
                 body.encoding(),
                 value.value(),
-                body.size() == null ? value.size() : body.size(),
+                value.size(),
                 truncatedFlag(body.truncated(), value.truncated()),
                 nameValues(body.form(), NameValueKind.FORM),
                 parts(body.parts()),
@@ -166,7 +165,7 @@ final class HttpExchangeProcessor {
     }
 
     private HttpExchangeBodyPart part(final HttpExchangeBodyPart part) {
-        final TruncatedValue value = truncate(part.value());
+        final TruncatedValue value = bounded(part.value(), part.size(), part.truncated());
         return new HttpExchangeBodyPart(
                 part.name(),
                 part.fileName(),
@@ -174,7 +173,7 @@ final class HttpExchangeProcessor {
                 part.contentType(),
                 part.encoding(),
                 value.value(),
-                part.size() == null ? value.size() : part.size(),
+                value.size(),
                 truncatedFlag(part.truncated(), value.truncated())
         );
     }
@@ -227,14 +226,31 @@ final class HttpExchangeProcessor {
         return existing;
     }
 
+    /**
+     * Truncates a body value unless the integration already bounded it: a body flagged as truncated, or one whose
+     * recorded size fits the limit, keeps its value and size. The recorded size counts the bytes of the body's own
+     * charset, so measuring the decoded text again in UTF-8 could cut a body that fit, and a truncated body whose
+     * size is unknown must not report the length of the captured prefix as its size.
+     */
+    private TruncatedValue bounded(final String value, final Long size, final Boolean truncated) {
+        if (Boolean.TRUE.equals(truncated) || size != null && size <= options.getMaxBodySize()) {
+            return new TruncatedValue(value, size, false);
+        }
+        final TruncatedValue truncatedValue = truncate(value);
+        return size == null
+                ? truncatedValue
+                : new TruncatedValue(truncatedValue.value(), size, truncatedValue.truncated());
+    }
+
     private TruncatedValue truncate(final String value) {
         if (value == null) {
             return new TruncatedValue(null, null, false);
         }
-        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        // measured rather than encoded, so a large body is not copied only to learn its size
+        final long length = utf8Length(value);
         final long maxBodySize = options.getMaxBodySize();
-        if (bytes.length <= maxBodySize) {
-            return new TruncatedValue(value, (long) bytes.length, false);
+        if (length <= maxBodySize) {
+            return new TruncatedValue(value, length, false);
         }
 
         long size = 0;
@@ -250,11 +266,23 @@ final class HttpExchangeProcessor {
             size += characterSize;
             offset += Character.charCount(codePoint);
         }
-        return new TruncatedValue(result.toString(), (long) bytes.length, true);
+        return new TruncatedValue(result.toString(), length, true);
+    }
+
+    private static long utf8Length(final String value) {
+        long length = 0;
+        int offset = 0;
+        while (offset < value.length()) {
+            final int codePoint = value.codePointAt(offset);
+            length += utf8Length(codePoint);
+            offset += Character.charCount(codePoint);
+        }
+        return length;
     }
 
     private static int utf8Length(final int codePoint) {
-        if (codePoint <= 0x7F) {
+        // an unpaired surrogate is encoded as a single replacement byte
+        if (codePoint <= 0x7F || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
             return 1;
         }
         if (codePoint <= 0x7FF) {
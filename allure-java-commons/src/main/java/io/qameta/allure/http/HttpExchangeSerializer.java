@@ -15,11 +15,17 @@
  */
 package io.qameta.allure.http;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AttachmentContent;
 import io.qameta.allure.internal.Allure2ModelJackson;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * Serializes HTTP exchange attachments using the Jackson runtime bundled with {@code allure-java-commons}.
  */
@@ -27,6 +33,9 @@ public final class HttpExchangeSerializer {
 
     private static final ObjectMapper MAPPER = Allure2ModelJackson.createMapper();
 
+    private static final ObjectWriter STREAM_WRITER = MAPPER.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     private HttpExchangeSerializer() {
         throw new IllegalStateException("Do not instance HttpExchangeSerializer");
     }
@@ -47,4 +56,27 @@ public final class HttpExchangeSerializer {
             throw new AllureResultsWriteException("Could not serialize HTTP exchange attachment", e);
         }
     }
+
+    /**
+     * Serializes the exchange as UTF-8 JSON straight to the given output, without building the document in memory
+     * first. The output is left open.
+     *
+     * @param exchange the exchange to serialize
+     * @param output   the output to write to
+     * @throws IOException if the exchange could not be written
+     */
+    public static void writeTo(final HttpExchange exchange, final OutputStream output) throws IOException {
+        STREAM_WRITER.writeValue(output, exchange);
+    }
+
+    /**
+     * Returns attachment content that serializes the exchange while the results writer writes it, see
+     * {@link #writeTo(HttpExchange, OutputStream)}.
+     *
+     * @param exchange the exchange to serialize
+     * @return the attachment content
+     */
+    public static AttachmentContent toAttachmentContent(final HttpExchange exchange) {
+        return output -> writeTo(exchange, output);
+    }
 }
@@ -15,17 +15,28 @@
  */
 package io.qameta.allure.internal;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.qameta.allure.model.FixtureResult;
 import io.qameta.allure.model.Parameter;
 import io.qameta.allure.model.Stage;
 import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Locale;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
@@ -58,12 +69,19 @@ public final class Allure2ModelJackson {
                 .configure(USE_WRAPPER_NAME_AS_PROPERTY_NAME, true)
                 .serializationInclusion(NON_NULL)
                 .configure(INDENT_OUTPUT, Boolean.getBoolean(INDENT_OUTPUT_PROPERTY_NAME))
+                .addMixIn(TestResult.class, LazyCollectionsMixin.class)
+                .addMixIn(StepResult.class, LazyCollectionsMixin.class)
+                .addMixIn(FixtureResult.class, LazyCollectionsMixin.class)
                 .build()
                 .registerModule(
                         new SimpleModule()
                                 .addSerializer(Status.class, new StatusSerializer())
                                 .addSerializer(Stage.class, new StageSerializer())
                                 .addSerializer(Parameter.Mode.class, new ParameterModeSerializer())
+                                .addSerializer(SpilledStepList.class, new SpilledStepListSerializer())
+                                .addDeserializer(Status.class, new EnumNameDeserializer<>(Status.class))
+                                .addDeserializer(Stage.class, new EnumNameDeserializer<>(Stage.class))
+                                .addDeserializer(Parameter.Mode.class, new EnumNameDeserializer<>(Parameter.Mode.class))
                 );
     }
 
@@ -117,4 +135,137 @@ public final class Allure2ModelJackson {
             gen.writeString(value.name().toLowerCase(Locale.ENGLISH));
         }
     }
+
+    /**
+     * Writes a step list of a running test, copying spilled steps from the spill file. When the list belongs to a
+     * step that is itself being spilled, its spilled children are linked rather than copied.
+     */
+    private static class SpilledStepListSerializer extends StdSerializer<SpilledStepList> {
+        protected SpilledStepListSerializer() {
+            super(SpilledStepList.class);
+        }
+
+        @Override
+        public void serialize(final SpilledStepList value,
+                              final JsonGenerator gen,
+                              final SerializerProvider provider)
+                throws IOException {
+            final StepSpill spill = value.spill();
+            gen.writeStartArray();
+            for (final Object entry : value.entries()) {
+                if (entry instanceof StepResult) {
+                    provider.defaultSerializeValue(entry, gen);
+                    continue;
+                }
+                // writes only the separator that precedes the spilled step
+                gen.writeRawValue("");
+                if (spill.isWriting(gen)) {
+                    spill.link(gen, (StepSpill.Fragment) entry);
+                } else {
+                    spill.copy((StepSpill.Fragment) entry, gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads an enum written by one of the serializers above, so that spilled steps can be read back.
+     */
+    private static class EnumNameDeserializer<E extends Enum<E>> extends StdDeserializer<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<E> type;
+
+        protected EnumNameDeserializer(final Class<E> type) {
+            super(type);
+            this.type = type;
+        }
+
+        @Override
+        public E deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+            final String value = parser.getValueAsString();
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ENGLISH));
+            } catch (IllegalArgumentException e) {
+                return type.cast(context.handleWeirdStringValue(type, value, "not one of the %s values", type));
+            }
+        }
+    }
+
+    /**
+     * Reads the lazily allocated collections of test, step and fixture results from their fields rather than their
+     * getters, so writing a result does not allocate collections it never used. A collection that was never
+     * allocated is written as an empty array, exactly as an allocated empty one.
+     */
+    @SuppressWarnings({"unused", "PMD.UnusedPrivateField"})
+    private abstract static class LazyCollectionsMixin {
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = EmptyArraySerializer.class)
+        private List<?> titlePath;
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = EmptyArraySerializer.class)
+        private List<?> labels;
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = EmptyArraySerializer.class)
+        private List<?> links;
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = EmptyArraySerializer.class)
+        private List<?> steps;
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = EmptyArraySerializer.class)
+        private List<?> attachments;
+
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.ALWAYS)
+        @JsonSerialize(nullsUsing = EmptyArraySerializer.class)
+        private List<?> parameters;
+
+        @JsonIgnore
+        abstract List<?> getTitlePath();
+
+        @JsonIgnore
+        abstract List<?> getLabels();
+
+        @JsonIgnore
+        abstract List<?> getLinks();
+
+        @JsonIgnore
+        abstract List<?> getSteps();
+
+        @JsonIgnore
+        abstract List<?> getAttachments();
+
+        @JsonIgnore
+        abstract List<?> getParameters();
+    }
+
+    /**
+     * Writes a {@code null} collection as an empty array.
+     */
+    private static class EmptyArraySerializer extends StdSerializer<Object> {
+        protected EmptyArraySerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(final Object value,
+                              final JsonGenerator gen,
+                              final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartArray();
+            gen.writeEndArray();
+        }
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.internal;
+
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.StepResult;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Step list of a running test whose completed steps may live in a {@link StepSpill} instead of the heap.
+ *
+ * <p>Spilled steps are written by {@link Allure2ModelJackson} straight from the spill file. Reading one of them
+ * through this list deserializes a copy, so changes made to it are lost; steps that were not spilled are returned as
+ * is. Code that changes the steps of a finished test goes through {@link #update(List, StepUpdate)}, which writes
+ * changed spilled steps back to the spill. Java serialization writes a plain list with every step read back.</p>
+ */
+public final class SpilledStepList extends AbstractList<StepResult> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient StepSpill spill;
+
+    /**
+     * The steps in order: a {@link StepResult} that is still in the heap or the {@link StepSpill.Fragment} of a
+     * spilled one.
+     */
+    private final transient List<Object> entries;
+
+    /**
+     * Creates a list that holds the given steps in the heap.
+     *
+     * @param spill the spill later steps are moved to
+     * @param steps the current steps
+     */
+    public SpilledStepList(final StepSpill spill, final Collection<StepResult> steps) {
+        this.spill = spill;
+        this.entries = new ArrayList<>(steps);
+    }
+
+    /**
+     * Moves every step of this list that is still in the heap and no longer running to the spill. Called once the
+     * parent of the steps has stopped, so nothing changes them any more.
+     *
+     * @throws IOException if a step could not be written to the spill
+     */
+    public void spillFinished() throws IOException {
+        for (int index = 0; index < entries.size(); index++) {
+            final Object entry = entries.get(index);
+            if (entry instanceof StepResult && !Stage.RUNNING.equals(((StepResult) entry).getStage())) {
+                entries.set(index, spill.write((StepResult) entry));
+            }
+        }
+    }
+
+    /**
+     * Applies a change to every step of the given list, removing the steps it asks to remove. Spilled steps of a
+     * {@link SpilledStepList} are read back, changed and written back to the spill one at a time, so at most one
+     * spilled step is in the heap at once; steps of any other list are changed in place.
+     *
+     * @param steps  the steps to change
+     * @param change the change of a single step
+     * @return {@code true} if a step was changed or removed
+     * @throws IOException if a changed step could not be written back to the spill
+     */
+    public static boolean update(final List<StepResult> steps, final StepUpdate change)
+            throws IOException {
+        if (steps instanceof SpilledStepList) {
+            return ((SpilledStepList) steps).updateEntries(change);
+        }
+        boolean changed = false;
+        final Iterator<StepResult> iterator = steps.iterator();
+        while (iterator.hasNext()) {
+            final Change outcome = change.apply(iterator.next());
+            if (Change.REMOVED.equals(outcome)) {
+                iterator.remove();
+            }
+            changed = changed || !Change.UNCHANGED.equals(outcome);
+        }
+        return changed;
+    }
+
+    private boolean updateEntries(final StepUpdate change) throws IOException {
+        boolean changed = false;
+        int index = 0;
+        while (index < entries.size()) {
+            final Object entry = entries.get(index);
+            final StepResult step = resolve(entry);
+            final Change outcome = change.apply(step);
+            if (Change.REMOVED.equals(outcome)) {
+                entries.remove(index);
+                modCount++;
+                changed = true;
+                continue;
+            }
+            if (Change.CHANGED.equals(outcome)) {
+                if (entry instanceof StepSpill.Fragment) {
+                    entries.set(index, spill.write(step));
+                }
+                changed = true;
+            }
+            index++;
+        }
+        return changed;
+    }
+
+    StepSpill spill() {
+        return spill;
+    }
+
+    List<Object> entries() {
+        return entries;
+    }
+
+    @Override
+    public StepResult get(final int index) {
+        return resolve(entries.get(index));
+    }
+
+    @Override
+    public StepResult set(final int index, final StepResult element) {
+        return resolve(entries.set(index, element));
+    }
+
+    @Override
+    public void add(final int index, final StepResult element) {
+        entries.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public StepResult remove(final int index) {
+        final Object removed = entries.remove(index);
+        modCount++;
+        return resolve(removed);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        modCount++;
+    }
+
+    private StepResult resolve(final Object entry) {
+        return entry instanceof StepResult ? (StepResult) entry : spill.read((StepSpill.Fragment) entry);
+    }
+
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+
+    /**
+     * A change of a single step, applied by {@link #update(List, StepUpdate)}.
+     */
+    @FunctionalInterface
+    public interface StepUpdate {
+
+        /**
+         * Changes the given step in place.
+         *
+         * @param step the step
+         * @return what the change did to the step
+         * @throws IOException if a spilled child of the step could not be written back
+         */
+        Change apply(StepResult step) throws IOException;
+    }
+
+    /**
+     * What a change passed to {@link #update(List, StepUpdate)} did to a step.
+     */
+    public enum Change {
+
+        /**
+         * The step was not changed.
+         */
+        UNCHANGED,
+
+        /**
+         * The step was changed in place; a spilled step is written back.
+         */
+        CHANGED,
+
+        /**
+         * The step is removed from the list.
+         */
+        REMOVED
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.qameta.allure.model.StepResult;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only spill file that holds the JSON of completed steps of one running test.
+ *
+ * <p>Each spilled step is a {@link Fragment}: a list of byte ranges of the file that, concatenated, form the step's
+ * JSON. A step whose children were spilled before it links their ranges instead of copying them, so a deep tree is
+ * written to the file once. The file is deleted by {@link #discard()} once the test result that references it has
+ * been written, or else when the spill becomes unreachable. All spill files of the JVM share one temporary directory,
+ * which is deleted with whatever is left in it on JVM exit.</p>
+ */
+public final class StepSpill {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final ObjectMapper MAPPER = Allure2ModelJackson.createMapper();
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ReentrantLock DIRECTORY_LOCK = new ReentrantLock();
+
+    private static Path directory;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final FileChannel channel;
+
+    private final CountingOutputStream output;
+
+    private final ObjectWriter writer;
+
+    private final Cleaner.Cleanable cleanable;
+
+    private List<Long> segments;
+
+    private long segmentStart;
+
+    private StepSpill(final Path file, final FileChannel channel) {
+        this.channel = channel;
+        this.output = new CountingOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)
+        );
+        this.writer = MAPPER.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.cleanable = CLEANER.register(this, new Removal(file, channel));
+    }
+
+    /**
+     * Creates a spill backed by a new temporary file.
+     *
+     * @return the spill
+     * @throws IOException if the file could not be created
+     */
+    public static StepSpill create() throws IOException {
+        final Path file = Files.createTempFile(directory(), "spill-", ".json");
+        try {
+            return new StepSpill(file, FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private static Path directory() throws IOException {
+        DIRECTORY_LOCK.lock();
+        try {
+            if (Objects.isNull(directory)) {
+                final Path created = Files.createTempDirectory("allure-spill-");
+                Runtime.getRuntime().addShutdownHook(
+                        new Thread(() -> deleteDirectory(created), "allure-spill-cleanup")
+                );
+                directory = created;
+            }
+            return directory;
+        } finally {
+            DIRECTORY_LOCK.unlock();
+        }
+    }
+
+    private static void deleteDirectory(final Path spillDirectory) {
+        // spill files still in the directory belong to tests that were never written
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            files.forEach(StepSpill::deleteQuietly);
+        } catch (IOException ignored) {
+            // the directory is gone already
+        }
+        deleteQuietly(spillDirectory);
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // nothing else to do on JVM exit
+        }
+    }
+
+    /**
+     * Appends the JSON of the given step to the file.
+     *
+     * @param step the completed step
+     * @return the fragment that holds the step
+     * @throws IOException if the step could not be written
+     */
+    public Fragment write(final StepResult step) throws IOException {
+        lock.lock();
+        try {
+            segments = new ArrayList<>();
+            segmentStart = output.count();
+            writer.writeValue(output, step);
+            closeSegment();
+            final Fragment fragment = new Fragment(segments);
+            segments = null;
+            return fragment;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the file now rather than once the spill becomes unreachable.
+     */
+    public void discard() {
+        cleanable.clean();
+    }
+
+    /**
+     * Returns whether the generator writes the step currently being spilled to this file.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    boolean isWriting(final JsonGenerator generator) {
+        return lock.isHeldByCurrentThread() && generator.getOutputTarget() == output;
+    }
+
+    /**
+     * Makes a spilled child part of the step being written: the bytes the generator holds so far end the current
+     * range, the child's ranges follow, and a new range starts after them. The caller has already written the
+     * separator that precedes the child.
+     */
+    void link(final JsonGenerator generator, final Fragment child) throws IOException {
+        generator.flush();
+        closeSegment();
+        segments.addAll(child.segments);
+        segmentStart = output.count();
+    }
+
+    /**
+     * Copies the JSON of a spilled step to the generator as a raw value. The caller has already written the
+     * separator that precedes the step.
+     */
+    void copy(final Fragment fragment, final JsonGenerator generator) throws IOException {
+        final char[] buffer = new char[BUFFER_SIZE];
+        try (Reader reader = new InputStreamReader(open(fragment), StandardCharsets.UTF_8)) {
+            int read = reader.read(buffer);
+            while (read >= 0) {
+                generator.writeRaw(buffer, 0, read);
+                read = reader.read(buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads a spilled step back. The returned step is a copy: changes to it are not written.
+     */
+    StepResult read(final Fragment fragment) {
+        try (InputStream input = open(fragment)) {
+            return MAPPER.readValue(input, StepResult.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled Allure step", e);
+        }
+    }
+
+    private InputStream open(final Fragment fragment) throws IOException {
+        lock.lock();
+        try {
+            output.flush();
+        } finally {
+            lock.unlock();
+        }
+        final List<InputStream> ranges = new ArrayList<>();
+        for (int index = 0; index < fragment.segments.size(); index += 2) {
+            ranges.add(new RangeInputStream(
+                    channel, fragment.segments.get(index), fragment.segments.get(index + 1)
+            ));
+        }
+        final Enumeration<InputStream> enumeration = Collections.enumeration(ranges);
+        return new SequenceInputStream(enumeration);
+    }
+
+    private void closeSegment() {
+        final long end = output.count();
+        if (end > segmentStart) {
+            segments.add(segmentStart);
+            segments.add(end - segmentStart);
+        }
+    }
+
+    /**
+     * A spilled step: offset and length pairs of the byte ranges that form its JSON.
+     */
+    public static final class Fragment {
+
+        private final List<Long> segments;
+
+        private Fragment(final List<Long> segments) {
+            this.segments = segments;
+        }
+    }
+
+    /**
+     * Closes and deletes the file once the spill is unreachable or discarded.
+     */
+    private record Removal(Path file, FileChannel channel) implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // the spill directory is deleted on JVM exit as well
+            }
+        }
+    }
+
+    /**
+     * Tracks the number of bytes written, that is the file offset of the next byte once flushed.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+
+        private long count;
+
+        private CountingOutputStream(final OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        private long count() {
+            return count;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            delegate.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+
+    /**
+     * Reads a byte range of the file with positional reads, so any number of ranges can be read concurrently.
+     */
+    private static final class RangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+
+        private long position;
+
+        private long remaining;
+
+        private RangeInputStream(final FileChannel channel, final long position, final long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, remaining)), position);
+            if (read < 0) {
+                return -1;
+            }
+            position += read;
+            remaining -= read;
+            return read;
+        }
+    }
+}
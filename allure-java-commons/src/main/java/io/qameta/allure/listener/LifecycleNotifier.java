@@ -23,7 +23,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
 
 /**
  * Dispatches lifecycle events to the registered listeners.
@@ -45,193 +47,301 @@ public class LifecycleNotifier
     private static final Logger LOGGER = LoggerFactory.getLogger(LifecycleNotifier.class);
     private static final ThreadLocal<Boolean> LISTENER_CALLBACK_RUNNING = ThreadLocal.withInitial(() -> false);
 
-    private final List<ContainerLifecycleListener> containerListeners;
+    private final ContainerLifecycleListener[] containerListeners;
 
-    private final List<TestLifecycleListener> testListeners;
+    private final TestLifecycleListener[] testListeners;
 
-    private final List<FixtureLifecycleListener> fixtureListeners;
+    private final FixtureLifecycleListener[] fixtureListeners;
 
-    private final List<StepLifecycleListener> stepListeners;
+    private final StepLifecycleListener[] stepListeners;
+
+    private final ContainerLifecycleListener[] containerObservers;
+
+    private final TestLifecycleListener[] testObservers;
+
+    private final FixtureLifecycleListener[] fixtureObservers;
+
+    private final StepLifecycleListener[] stepObservers;
+
+    private final ObserverDispatcher dispatcher;
 
     public LifecycleNotifier(final List<ContainerLifecycleListener> containerListeners,
                              final List<TestLifecycleListener> testListeners,
                              final List<FixtureLifecycleListener> fixtureListeners,
                              final List<StepLifecycleListener> stepListeners) {
-        this.containerListeners = containerListeners;
-        this.testListeners = testListeners;
-        this.fixtureListeners = fixtureListeners;
-        this.stepListeners = stepListeners;
+        this(containerListeners, testListeners, fixtureListeners, stepListeners, false);
+    }
+
+    /**
+     * Creates a notifier that optionally notifies {@link LifecycleObserver} listeners asynchronously.
+     *
+     * @param containerListeners the container listeners
+     * @param testListeners      the test listeners
+     * @param fixtureListeners   the fixture listeners
+     * @param stepListeners      the step listeners
+     * @param asyncObservers     whether observers are notified from a dispatcher thread
+     */
+    public LifecycleNotifier(final List<ContainerLifecycleListener> containerListeners,
+                             final List<TestLifecycleListener> testListeners,
+                             final List<FixtureLifecycleListener> fixtureListeners,
+                             final List<StepLifecycleListener> stepListeners,
+                             final boolean asyncObservers) {
+        this.containerListeners = select(containerListeners, asyncObservers, false,
+                ContainerLifecycleListener[]::new);
+        this.testListeners = select(testListeners, asyncObservers, false, TestLifecycleListener[]::new);
+        this.fixtureListeners = select(fixtureListeners, asyncObservers, false, FixtureLifecycleListener[]::new);
+        this.stepListeners = select(stepListeners, asyncObservers, false, StepLifecycleListener[]::new);
+        this.containerObservers = select(containerListeners, asyncObservers, true,
+                ContainerLifecycleListener[]::new);
+        this.testObservers = select(testListeners, asyncObservers, true, TestLifecycleListener[]::new);
+        this.fixtureObservers = select(fixtureListeners, asyncObservers, true, FixtureLifecycleListener[]::new);
+        this.stepObservers = select(stepListeners, asyncObservers, true, StepLifecycleListener[]::new);
+        final boolean hasObservers = containerObservers.length + testObservers.length
+                + fixtureObservers.length + stepObservers.length > 0;
+        this.dispatcher = hasObservers ? new ObserverDispatcher(ObserverDispatcher.DEFAULT_QUEUE_CAPACITY) : null;
     }
 
     @Override
     public void beforeTestSchedule(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::beforeTestSchedule, result);
+        fire(testListeners, testObservers, TestLifecycleListener::beforeTestSchedule, result);
     }
 
     @Override
     public void afterTestSchedule(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::afterTestSchedule, result);
+        fire(testListeners, testObservers, TestLifecycleListener::afterTestSchedule, result);
     }
 
     @Override
     public void beforeTestUpdate(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::beforeTestUpdate, result);
+        fire(testListeners, testObservers, TestLifecycleListener::beforeTestUpdate, result);
     }
 
     @Override
     public void afterTestUpdate(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::afterTestUpdate, result);
+        fire(testListeners, testObservers, TestLifecycleListener::afterTestUpdate, result);
     }
 
     @Override
     public void beforeTestStart(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::beforeTestStart, result);
+        fire(testListeners, testObservers, TestLifecycleListener::beforeTestStart, result);
     }
 
     @Override
     public void afterTestStart(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::afterTestStart, result);
+        fire(testListeners, testObservers, TestLifecycleListener::afterTestStart, result);
     }
 
     @Override
     public void beforeTestStop(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::beforeTestStop, result);
+        fire(testListeners, testObservers, TestLifecycleListener::beforeTestStop, result);
     }
 
     @Override
     public void afterTestStop(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::afterTestStop, result);
+        fire(testListeners, testObservers, TestLifecycleListener::afterTestStop, result);
     }
 
     @Override
     public void beforeTestWrite(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::beforeTestWrite, result);
+        fire(testListeners, testObservers, TestLifecycleListener::beforeTestWrite, result);
     }
 
     @Override
     public void afterTestWrite(final TestResult result) {
-        runSafely(testListeners, TestLifecycleListener::afterTestWrite, result);
+        // the written result no longer changes, so observers get its steps here and only here
+        fire(testListeners, testObservers, TestLifecycleListener::afterTestWrite, result, true);
     }
 
     @Override
     public void beforeContainerStart(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::beforeContainerStart, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::beforeContainerStart, container);
     }
 
     @Override
     public void afterContainerStart(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::afterContainerStart, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::afterContainerStart, container);
     }
 
     @Override
     public void beforeContainerUpdate(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::beforeContainerUpdate, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::beforeContainerUpdate, container);
     }
 
     @Override
     public void afterContainerUpdate(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::afterContainerUpdate, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::afterContainerUpdate, container);
     }
 
     @Override
     public void beforeContainerStop(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::beforeContainerStop, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::beforeContainerStop, container);
     }
 
     @Override
     public void afterContainerStop(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::afterContainerStop, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::afterContainerStop, container);
     }
 
     @Override
     public void beforeContainerWrite(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::beforeContainerWrite, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::beforeContainerWrite, container);
     }
 
     @Override
     public void afterContainerWrite(final TestResultContainer container) {
-        runSafely(containerListeners, ContainerLifecycleListener::afterContainerWrite, container);
+        fire(containerListeners, containerObservers, ContainerLifecycleListener::afterContainerWrite, container);
     }
 
     @Override
     public void beforeFixtureStart(final FixtureResult result) {
-        runSafely(fixtureListeners, FixtureLifecycleListener::beforeFixtureStart, result);
+        fire(fixtureListeners, fixtureObservers, FixtureLifecycleListener::beforeFixtureStart, result);
     }
 
     @Override
     public void afterFixtureStart(final FixtureResult result) {
-        runSafely(fixtureListeners, FixtureLifecycleListener::afterFixtureStart, result);
+        fire(fixtureListeners, fixtureObservers, FixtureLifecycleListener::afterFixtureStart, result);
     }
 
     @Override
     public void beforeFixtureUpdate(final FixtureResult result) {
-        runSafely(fixtureListeners, FixtureLifecycleListener::beforeFixtureUpdate, result);
+        fire(fixtureListeners, fixtureObservers, FixtureLifecycleListener::beforeFixtureUpdate, result);
     }
 
     @Override
     public void afterFixtureUpdate(final FixtureResult result) {
-        runSafely(fixtureListeners, FixtureLifecycleListener::afterFixtureUpdate, result);
+        fire(fixtureListeners, fixtureObservers, FixtureLifecycleListener::afterFixtureUpdate, result);
     }
 
     @Override
     public void beforeFixtureStop(final FixtureResult result) {
-        runSafely(fixtureListeners, FixtureLifecycleListener::beforeFixtureStop, result);
+        fire(fixtureListeners, fixtureObservers, FixtureLifecycleListener::beforeFixtureStop, result);
     }
 
     @Override
     public void afterFixtureStop(final FixtureResult result) {
-        runSafely(fixtureListeners, FixtureLifecycleListener::afterFixtureStop, result);
+        fire(fixtureListeners, fixtureObservers, FixtureLifecycleListener::afterFixtureStop, result, true);
     }
 
     @Override
     public void beforeStepStart(final StepResult result) {
-        runSafely(stepListeners, StepLifecycleListener::beforeStepStart, result);
+        fire(stepListeners, stepObservers, StepLifecycleListener::beforeStepStart, result);
     }
 
     @Override
     public void afterStepStart(final StepResult result) {
-        runSafely(stepListeners, StepLifecycleListener::afterStepStart, result);
+        fire(stepListeners, stepObservers, StepLifecycleListener::afterStepStart, result);
     }
 
     @Override
     public void beforeStepUpdate(final StepResult result) {
-        runSafely(stepListeners, StepLifecycleListener::beforeStepUpdate, result);
+        fire(stepListeners, stepObservers, StepLifecycleListener::beforeStepUpdate, result);
     }
 
     @Override
     public void afterStepUpdate(final StepResult result) {
-        runSafely(stepListeners, StepLifecycleListener::afterStepUpdate, result);
+        fire(stepListeners, stepObservers, StepLifecycleListener::afterStepUpdate, result);
     }
 
     @Override
     public void beforeStepStop(final StepResult result) {
-        runSafely(stepListeners, StepLifecycleListener::beforeStepStop, result);
+        fire(stepListeners, stepObservers, StepLifecycleListener::beforeStepStop, result);
     }
 
     @Override
     public void afterStepStop(final StepResult result) {
-        runSafely(stepListeners, StepLifecycleListener::afterStepStop, result);
+        fire(stepListeners, stepObservers, StepLifecycleListener::afterStepStop, result);
+    }
+
+    /**
+     * Delivers pending events to asynchronously notified observers and stops the dispatcher thread. Observers are
+     * notified on the calling thread afterwards. Does nothing when no observer is notified asynchronously.
+     */
+    public void flushObservers() {
+        if (Objects.nonNull(dispatcher)) {
+            dispatcher.close();
+        }
     }
 
     protected <T extends LifecycleListener, S> void runSafely(final List<T> listeners,
                                                               final BiConsumer<T, S> method,
                                                               final S object) {
+        if (listeners.isEmpty() || LISTENER_CALLBACK_RUNNING.get()) {
+            // operations triggered from inside a listener callback emit no further events
+            return;
+        }
+        LISTENER_CALLBACK_RUNNING.set(true);
+        try {
+            listeners.forEach(listener -> invokeSafely(listener, method, object));
+        } finally {
+            LISTENER_CALLBACK_RUNNING.set(false);
+        }
+    }
+
+    private <T extends LifecycleListener, S> void fire(final T[] listeners,
+                                                        final T[] observers,
+                                                        final BiConsumer<T, S> method,
+                                                        final S object) {
+        fire(listeners, observers, method, object, false);
+    }
+
+    /**
+     * Notifies the listeners, then hands a copy of the result to the asynchronously notified observers. The copy
+     * includes the steps of the result only if asked to, since copying a large step tree on every event would cost
+     * the test thread more than notifying the observers directly.
+     */
+    private <T extends LifecycleListener, S> void fire(final T[] listeners,
+                                                        final T[] observers,
+                                                        final BiConsumer<T, S> method,
+                                                        final S object,
+                                                        final boolean withSteps) {
+        if (listeners.length == 0 && observers.length == 0) {
+            return;
+        }
         if (LISTENER_CALLBACK_RUNNING.get()) {
             // operations triggered from inside a listener callback emit no further events
             return;
         }
+        if (listeners.length != 0) {
+            invokeAll(listeners, method, object);
+        }
+        if (observers.length != 0) {
+            dispatcher.dispatch(observers, method, object, withSteps);
+        }
+    }
+
+    /**
+     * Invokes every listener on the calling thread. Lifecycle operations the listeners perform emit no events.
+     */
+    static <T extends LifecycleListener, S> void invokeAll(final T[] listeners,
+                                                          final BiConsumer<T, S> method,
+                                                          final S object) {
         LISTENER_CALLBACK_RUNNING.set(true);
         try {
-            listeners.forEach(listener -> {
-                try {
-                    method.accept(listener, object);
-                } catch (Exception e) {
-                    LOGGER.error("Could not invoke listener method", e);
-                }
-            });
+            for (final T listener : listeners) {
+                invokeSafely(listener, method, object);
+            }
         } finally {
             LISTENER_CALLBACK_RUNNING.set(false);
         }
     }
 
+    private static <T extends LifecycleListener, S> void invokeSafely(final T listener,
+                                                                     final BiConsumer<T, S> method,
+                                                                     final S object) {
+        try {
+            method.accept(listener, object);
+        } catch (Exception e) {
+            LOGGER.error("Could not invoke listener method", e);
+        }
+    }
+
+    private static <T extends LifecycleListener> T[] select(final List<T> listeners,
+                                                           final boolean asyncObservers,
+                                                           final boolean observers,
+                                                           final IntFunction<T[]> array) {
+        return listeners.stream()
+                .filter(listener -> (asyncObservers && listener instanceof LifecycleObserver) == observers)
+                .toArray(array);
+    }
+
 }
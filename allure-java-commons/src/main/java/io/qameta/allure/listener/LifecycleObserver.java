@@ -0,0 +1,31 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.listener;
+
+/**
+ * Marker for lifecycle listeners that only observe results, such as metrics exporters.
+ *
+ * <p>By default observers are notified like any other listener. With {@code allure.listeners.observers=async} they
+ * are notified from a dedicated dispatcher thread, in event order, with a copy of the result taken when the event
+ * fired, so a slow observer no longer adds latency to the test thread. To keep the copies cheap, only
+ * {@code afterTestWrite} and {@code afterFixtureStop} carry the steps of the result; the copies of every other event,
+ * and the fixtures of a container, have no steps. Changes an observer makes to the copies are not reported, and
+ * operations it performs through the lifecycle API emit no events.</p>
+ *
+ * @since 2.0
+ */
+public interface LifecycleObserver extends LifecycleListener {
+}
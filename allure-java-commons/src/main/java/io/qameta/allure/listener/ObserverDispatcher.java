@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Notifies {@link LifecycleObserver} listeners from a single daemon thread, in the order the events fired. Every
+ * event carries a structural copy of the result taken on the calling thread, see {@link ResultCopies}. The queue is bounded: when observers fall too
+ * far behind, the calling thread blocks until the dispatcher frees a slot. Pending events are delivered by
+ * {@link #close()}, which also runs on JVM shutdown.
+ */
+final class ObserverDispatcher implements AutoCloseable {
+
+    static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObserverDispatcher.class);
+
+    private static final Runnable POISON = () -> {
+    };
+
+    private final BlockingQueue<Runnable> queue;
+
+    private final Thread worker;
+
+    private final Thread shutdownHook;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    ObserverDispatcher(final int queueCapacity) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.worker = new Thread(this::drain, "allure-lifecycle-observers");
+        this.worker.setDaemon(true);
+        this.worker.start();
+        this.shutdownHook = new Thread(this::close, "allure-lifecycle-observers-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    <T extends LifecycleListener, S> void dispatch(final T[] observers,
+                                                  final BiConsumer<T, S> method,
+                                                  final S object,
+                                                  final boolean withSteps) {
+        final S snapshot = ResultCopies.copy(object, withSteps);
+        final Runnable event = () -> LifecycleNotifier.invokeAll(observers, method, snapshot);
+        if (closed.get()) {
+            event.run();
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            event.run();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            queue.put(POISON);
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for Allure lifecycle observers");
+        }
+        final List<Runnable> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(Runnable::run);
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignored) {
+            // the JVM is already shutting down, the hook is the caller
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final Runnable event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (POISON.equals(event)) {
+                return;
+            }
+            event.run();
+        }
+    }
+}
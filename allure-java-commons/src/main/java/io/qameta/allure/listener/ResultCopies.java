@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.listener;
+
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Link;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Structural copies of results for asynchronously notified observers.
+ *
+ * <p>A copy has its own lists and list elements, so later changes to the result do not show through. Steps are the
+ * bulk of a result and are copied only when asked for: a copy without steps has an empty step list, and the fixtures
+ * of a container copy have none. A deferred trace is rendered from the original result when the copy's trace is
+ * first read.</p>
+ */
+final class ResultCopies {
+
+    private ResultCopies() {
+        throw new IllegalStateException("Do not instance");
+    }
+
+    /**
+     * Copies a test result, container, fixture or step; any other object is returned as is.
+     *
+     * @param result    the result
+     * @param withSteps whether the copy includes the whole step tree of the result
+     * @param <S>       the result type
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    static <S> S copy(final S result, final boolean withSteps) {
+        if (result instanceof TestResult) {
+            return (S) copyTest((TestResult) result, withSteps);
+        }
+        if (result instanceof TestResultContainer) {
+            return (S) copyContainer((TestResultContainer) result);
+        }
+        if (result instanceof FixtureResult) {
+            return (S) copyFixture((FixtureResult) result, withSteps);
+        }
+        if (result instanceof StepResult) {
+            return (S) copyStep((StepResult) result, withSteps);
+        }
+        return result;
+    }
+
+    private static TestResult copyTest(final TestResult result, final boolean withSteps) {
+        return new TestResult()
+                .setUuid(result.getUuid())
+                .setHistoryId(result.getHistoryId())
+                .setTestCaseId(result.getTestCaseId())
+                .setTestCaseName(result.getTestCaseName())
+                .setFullName(result.getFullName())
+                .setTitlePath(copyAll(result.getTitlePath(), UnaryOperator.identity()))
+                .setLabels(copyAll(result.getLabels(), ResultCopies::copyLabel))
+                .setLinks(copyAll(result.getLinks(), ResultCopies::copyLink))
+                .setName(result.getName())
+                .setStatus(result.getStatus())
+                .setStatusDetails(copyStatusDetails(result.getStatusDetails()))
+                .setStage(result.getStage())
+                .setDescription(result.getDescription())
+                .setDescriptionHtml(result.getDescriptionHtml())
+                .setSteps(copySteps(result.getSteps(), withSteps))
+                .setAttachments(copyAll(result.getAttachments(), ResultCopies::copyAttachment))
+                .setParameters(copyAll(result.getParameters(), ResultCopies::copyParameter))
+                .setStart(result.getStart())
+                .setStop(result.getStop());
+    }
+
+    private static TestResultContainer copyContainer(final TestResultContainer container) {
+        return new TestResultContainer()
+                .setUuid(container.getUuid())
+                .setName(container.getName())
+                .setChildren(copyAll(container.getChildren(), UnaryOperator.identity()))
+                .setDescription(container.getDescription())
+                .setDescriptionHtml(container.getDescriptionHtml())
+                .setBefores(copyAll(container.getBefores(), fixture -> copyFixture(fixture, false)))
+                .setAfters(copyAll(container.getAfters(), fixture -> copyFixture(fixture, false)))
+                .setLinks(copyAll(container.getLinks(), ResultCopies::copyLink))
+                .setStart(container.getStart())
+                .setStop(container.getStop());
+    }
+
+    private static FixtureResult copyFixture(final FixtureResult fixture, final boolean withSteps) {
+        return new FixtureResult()
+                .setName(fixture.getName())
+                .setStatus(fixture.getStatus())
+                .setStatusDetails(copyStatusDetails(fixture.getStatusDetails()))
+                .setStage(fixture.getStage())
+                .setDescription(fixture.getDescription())
+                .setDescriptionHtml(fixture.getDescriptionHtml())
+                .setSteps(copySteps(fixture.getSteps(), withSteps))
+                .setAttachments(copyAll(fixture.getAttachments(), ResultCopies::copyAttachment))
+                .setParameters(copyAll(fixture.getParameters(), ResultCopies::copyParameter))
+                .setStart(fixture.getStart())
+                .setStop(fixture.getStop());
+    }
+
+    private static StepResult copyStep(final StepResult step, final boolean withSteps) {
+        return new StepResult()
+                .setName(step.getName())
+                .setStatus(step.getStatus())
+                .setStatusDetails(copyStatusDetails(step.getStatusDetails()))
+                .setStage(step.getStage())
+                .setDescription(step.getDescription())
+                .setDescriptionHtml(step.getDescriptionHtml())
+                .setSteps(copySteps(step.getSteps(), withSteps))
+                .setAttachments(copyAll(step.getAttachments(), ResultCopies::copyAttachment))
+                .setParameters(copyAll(step.getParameters(), ResultCopies::copyParameter))
+                .setStart(step.getStart())
+                .setStop(step.getStop());
+    }
+
+    private static List<StepResult> copySteps(final List<StepResult> steps, final boolean withSteps) {
+        return withSteps ? copyAll(steps, step -> copyStep(step, true)) : new ArrayList<>();
+    }
+
+    private static StatusDetails copyStatusDetails(final StatusDetails details) {
+        if (Objects.isNull(details)) {
+            return null;
+        }
+        return new StatusDetails()
+                .setKnown(details.isKnown())
+                .setMuted(details.isMuted())
+                .setFlaky(details.isFlaky())
+                .setMessage(details.getMessage())
+                .deferTrace(details::getTrace)
+                .setActual(details.getActual())
+                .setExpected(details.getExpected());
+    }
+
+    private static Label copyLabel(final Label label) {
+        return new Label()
+                .setName(label.getName())
+                .setValue(label.getValue());
+    }
+
+    private static Link copyLink(final Link link) {
+        return new Link()
+                .setName(link.getName())
+                .setUrl(link.getUrl())
+                .setType(link.getType());
+    }
+
+    private static Parameter copyParameter(final Parameter parameter) {
+        return new Parameter()
+                .setName(parameter.getName())
+                .setValue(parameter.getValue())
+                .setExcluded(parameter.getExcluded())
+                .setMode(parameter.getMode());
+    }
+
+    private static Attachment copyAttachment(final Attachment attachment) {
+        return new Attachment()
+                .setName(attachment.getName())
+                .setSource(attachment.getSource())
+                .setType(attachment.getType())
+                .setSize(attachment.getSize());
+    }
+
+    private static <T> List<T> copyAll(final List<T> values, final UnaryOperator<T> copy) {
+        if (Objects.isNull(values)) {
+            return null;
+        }
+        final List<T> copies = new ArrayList<>(values.size());
+        for (final T value : values) {
+            copies.add(Objects.isNull(value) ? null : copy.apply(value));
+        }
+        return copies;
+    }
+}
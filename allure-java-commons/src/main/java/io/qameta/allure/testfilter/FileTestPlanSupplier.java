@@ -22,12 +22,18 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@link TestPlanSupplier} that reads test plan from file, specified
  * in {@code ALLURE_TESTPLAN_PATH} environment variable.
  *
+ * <p>A parsed plan is shared by every supplier in the JVM until the file changes, so framework filters that run in
+ * the same process read and index the plan once.</p>
  */
 public class FileTestPlanSupplier implements TestPlanSupplier {
 
@@ -40,6 +46,8 @@ public class FileTestPlanSupplier implements TestPlanSupplier {
 
     private static final TestPlanReader READER = new TestPlanReader();
 
+    private static final Map<Path, CachedTestPlan> CACHE = new ConcurrentHashMap<>();
+
     /**
      * Supply test plan.
      *
@@ -59,7 +67,15 @@ public class FileTestPlanSupplier implements TestPlanSupplier {
 
     private Optional<TestPlan> readTestPlan(final Path path) {
         try {
-            return Optional.of(READER.read(path));
+            final Path key = path.toAbsolutePath().normalize();
+            final FileTime modified = Files.getLastModifiedTime(key);
+            final CachedTestPlan cached = CACHE.get(key);
+            if (Objects.nonNull(cached) && cached.modified().equals(modified)) {
+                return Optional.of(cached.testPlan());
+            }
+            final TestPlan testPlan = READER.read(key);
+            CACHE.put(key, new CachedTestPlan(modified, testPlan));
+            return Optional.of(testPlan);
         } catch (IOException e) {
             LOGGER.warn("could not read test plan file {}", path, e);
             return Optional.empty();
@@ -75,4 +91,7 @@ public class FileTestPlanSupplier implements TestPlanSupplier {
         }
     }
 
+    private record CachedTestPlan(FileTime modified, TestPlan testPlan) {
+    }
+
 }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.testfilter;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable lookup index over the test cases of a {@link TestPlanV1_0}.
+ *
+ * <p>The index keeps hash sets of the selected ids and selectors, so checking a discovered test costs a few hash
+ * lookups no matter how many entries the plan has. Use {@link TestPlanV1_0#index()} to get the index shared by
+ * every filter that evaluates the same plan.</p>
+ */
+public final class TestPlanIndex implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final TestPlanIndex UNRESTRICTED = new TestPlanIndex(null, null);
+
+    private final Set<String> ids;
+
+    private final Set<String> selectors;
+
+    private TestPlanIndex(final Set<String> ids, final Set<String> selectors) {
+        this.ids = ids;
+        this.selectors = selectors;
+    }
+
+    /**
+     * Creates an index over the given test cases. A {@code null} collection selects every test.
+     *
+     * @param tests the test cases of the plan, may be {@code null}
+     * @return the index.
+     */
+    public static TestPlanIndex of(final Collection<TestPlanV1_0.TestCase> tests) {
+        if (Objects.isNull(tests)) {
+            return UNRESTRICTED;
+        }
+        final Set<String> ids = new HashSet<>();
+        final Set<String> selectors = new HashSet<>();
+        for (final TestPlanV1_0.TestCase test : tests) {
+            if (Objects.isNull(test)) {
+                continue;
+            }
+            if (Objects.nonNull(test.getId())) {
+                ids.add(test.getId());
+            }
+            if (Objects.nonNull(test.getSelector())) {
+                selectors.add(test.getSelector());
+            }
+        }
+        return new TestPlanIndex(Set.copyOf(ids), Set.copyOf(selectors));
+    }
+
+    /**
+     * Returns whether the plan selects every test, i.e. it has no list of tests at all.
+     *
+     * @return true when every test is selected; false otherwise
+     */
+    public boolean isUnrestricted() {
+        return Objects.isNull(ids);
+    }
+
+    /**
+     * Returns whether the plan has a test case with the given id.
+     *
+     * @param allureId the Allure id of the test, may be {@code null}
+     * @return true when the id is selected; false otherwise
+     */
+    public boolean containsId(final String allureId) {
+        return Objects.nonNull(ids) && Objects.nonNull(allureId) && ids.contains(allureId);
+    }
+
+    /**
+     * Returns whether the plan has a test case with the given selector.
+     *
+     * @param selector the selector of the test, may be {@code null}
+     * @return true when the selector is selected; false otherwise
+     */
+    public boolean containsSelector(final String selector) {
+        return Objects.nonNull(selectors) && Objects.nonNull(selector) && selectors.contains(selector);
+    }
+
+    /**
+     * Returns whether a test is selected by its Allure id or by any of its selectors.
+     *
+     * @param allureId  the Allure id of the test, may be {@code null}
+     * @param selectors the selectors the test can be matched by, elements may be {@code null}
+     * @return true when the plan is unrestricted or selects the test; false otherwise
+     */
+    public boolean isSelected(final String allureId, final String... selectors) {
+        if (isUnrestricted() || containsId(allureId)) {
+            return true;
+        }
+        for (final String selector : selectors) {
+            if (containsSelector(selector)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -27,6 +27,8 @@ import java.util.Optional;
 
 /**
  * Reads Allure test plans without exposing the bundled JSON implementation.
+ *
+ * <p>Version 1.0 plans are returned with their {@link TestPlanIndex} already built.</p>
  */
 public class TestPlanReader {
 
@@ -78,7 +80,10 @@ public class TestPlanReader {
                 .orElse("");
 
         if (VERSION_1_0.equals(version)) {
-            return objectMapper.treeToValue(root, TestPlanV1_0.class);
+            final TestPlanV1_0 plan = objectMapper.treeToValue(root, TestPlanV1_0.class);
+            // build the index up front so every filter sharing the plan reuses it
+            plan.index();
+            return plan;
         }
         return objectMapper.treeToValue(root, TestPlanUnknown.class);
     }
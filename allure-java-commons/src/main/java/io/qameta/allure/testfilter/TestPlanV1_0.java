@@ -16,15 +16,16 @@
 package io.qameta.allure.testfilter;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Allure test plan model for version 1.0.
  *
  * <p>The model stores selected test cases and helper lookup methods used by framework integrations.
- * It is typically created by deserializing an Allure test plan JSON file.</p>
+ * It is typically created by deserializing an Allure test plan JSON file. Lookups go through a {@link TestPlanIndex}
+ * built once per list of tests, so filters can evaluate large plans against many discovered tests.</p>
  */
 @SuppressWarnings({"TypeName", "PMD.ClassNamingConventions"})
 public class TestPlanV1_0 implements TestPlan, Serializable {
@@ -36,6 +37,8 @@ public class TestPlanV1_0 implements TestPlan, Serializable {
      */
     private List<TestCase> tests;
 
+    private final AtomicReference<TestPlanIndex> index = new AtomicReference<>();
+
     /**
      * Gets the value of the tests property.
      *
@@ -53,18 +56,35 @@ public class TestPlanV1_0 implements TestPlan, Serializable {
      */
     public TestPlanV1_0 setTests(final List<TestCase> tests) {
         this.tests = tests;
+        this.index.set(null);
         return this;
     }
 
+    /**
+     * Returns the lookup index over the tests of this plan. The index is built on first use and reused until
+     * {@link #setTests(List)} is called again; changes made to the list returned by {@link #getTests()} afterwards
+     * are not reflected.
+     *
+     * @return the test plan index.
+     */
+    public TestPlanIndex index() {
+        final TestPlanIndex current = index.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        return index.updateAndGet(value -> Objects.isNull(value) ? TestPlanIndex.of(tests) : value);
+    }
+
     /**
      * @param allureId value of @AllureId annotation, if not set pass null value
      * @param selector selector of test method
      * @return true if test case with given allureId or selection is selected, false otherwise.
      */
     public boolean isSelected(final String allureId, final String selector) {
-        return getTests().stream().map(test -> new String[]{test.getId(), test.getSelector()})
-                .flatMap(array -> Arrays.stream(array).filter(Objects::nonNull))
-                .anyMatch(item -> item.equals(selector) || item.equals(allureId));
+        final TestPlanIndex plan = index();
+        return plan.isSelected(allureId, selector)
+                || plan.containsId(selector)
+                || plan.containsSelector(allureId);
     }
 
     /**
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.util;
+
+import io.qameta.allure.model.Label;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cached view of the Allure configuration.
+ *
+ * <p>The {@code allure.properties} files are read from the classpath once, and the provided labels and link patterns
+ * they declare are parsed once. System properties still take precedence and are consulted on every lookup, so values
+ * set at runtime are picked up without reloading. Call {@link #invalidate()} to make the next lookup read the
+ * {@code allure.properties} files again, for example after the context class loader changed.</p>
+ */
+public final class AllurePropertiesSnapshot {
+
+    private static final String LABEL_PREFIX = "allure.label.";
+
+    private static final String LINK_PREFIX = "allure.link.";
+
+    private static final String LINK_PATTERN_SUFFIX = ".pattern";
+
+    private static final AtomicReference<AllurePropertiesSnapshot> CURRENT = new AtomicReference<>();
+
+    private final Properties fileProperties;
+
+    private final Map<String, String> fileLabels;
+
+    private final Map<String, String> fileLinkPatterns;
+
+    private AllurePropertiesSnapshot(final Properties fileProperties) {
+        this.fileProperties = fileProperties;
+        this.fileLabels = Collections.unmodifiableMap(collect(fileProperties, LABEL_PREFIX, ""));
+        this.fileLinkPatterns = Collections.unmodifiableMap(collect(fileProperties, LINK_PREFIX, LINK_PATTERN_SUFFIX));
+    }
+
+    /**
+     * Returns the current snapshot, loading it on first use or after {@link #invalidate()}.
+     *
+     * @return the current snapshot
+     */
+    public static AllurePropertiesSnapshot current() {
+        final AllurePropertiesSnapshot snapshot = CURRENT.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        final AllurePropertiesSnapshot loaded = new AllurePropertiesSnapshot(PropertiesUtils.loadAllurePropertiesFiles());
+        return CURRENT.compareAndSet(null, loaded) ? loaded : current();
+    }
+
+    /**
+     * Drops the cached snapshot so that the next lookup reads the {@code allure.properties} files again.
+     */
+    public static void invalidate() {
+        CURRENT.set(null);
+    }
+
+    /**
+     * Returns the value of the given property, giving system properties precedence over {@code allure.properties}.
+     *
+     * @param name the property name
+     * @return the property value, or null if the property is not set
+     */
+    public String getProperty(final String name) {
+        final String value = System.getProperty(name);
+        return value == null ? fileProperties.getProperty(name) : value;
+    }
+
+    /**
+     * Returns the value of the given property like {@link #getProperty(String)}, or the given default if the
+     * property is not set.
+     *
+     * @param name         the property name
+     * @param defaultValue the value to return if the property is not set
+     * @return the property value, or the default value if the property is not set
+     */
+    public String getProperty(final String name, final String defaultValue) {
+        final String value = getProperty(name);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Returns the URL pattern configured for the given link type via {@code allure.link.<type>.pattern}.
+     *
+     * @param type the link type
+     * @return the link pattern, or null if none is configured
+     */
+    public String getLinkPattern(final String type) {
+        final String value = System.getProperty(LINK_PREFIX + type + LINK_PATTERN_SUFFIX);
+        return value == null ? fileLinkPatterns.get(type) : value;
+    }
+
+    /**
+     * Returns the labels configured via {@code allure.label.<name>} properties. Every call returns new label
+     * instances that the caller may modify.
+     *
+     * @return the provided labels
+     */
+    public Set<Label> getProvidedLabels() {
+        // system properties are scanned on every call, as label values may be set or changed at any time
+        final Map<String, String> labels = collect(System.getProperties(), LABEL_PREFIX, "");
+        fileLabels.forEach(labels::putIfAbsent);
+        final Set<Label> result = new HashSet<>();
+        labels.forEach((name, value) -> result.add(new Label().setName(name).setValue(value)));
+        return result;
+    }
+
+    private static Map<String, String> collect(final Properties properties, final String prefix,
+                                               final String suffix) {
+        final Map<String, String> values = new HashMap<>();
+        properties.forEach((key, value) -> {
+            if (key instanceof String && value instanceof String) {
+                final String name = (String) key;
+                if (name.startsWith(prefix) && name.endsWith(suffix)
+                        && name.length() >= prefix.length() + suffix.length()) {
+                    values.put(name.substring(prefix.length(), name.length() - suffix.length()), (String) value);
+                }
+            }
+        });
+        return values;
+    }
+}
@@ -26,8 +26,6 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-import static io.qameta.allure.util.NamingUtils.processNameTemplate;
-
 /**
  * Utility methods used by AspectJ-based Allure integrations.
  *
@@ -47,10 +45,14 @@ public final class AspectUtils {
      * @return the attachment or display name
      */
     public static String getName(final String nameTemplate, final JoinPoint joinPoint) {
-        return Optional.of(nameTemplate)
-                .filter(v -> !v.isEmpty())
-                .map(value -> processNameTemplate(value, getParametersMap(joinPoint)))
-                .orElseGet(joinPoint.getSignature()::getName);
+        if (nameTemplate.isEmpty()) {
+            return joinPoint.getSignature().getName();
+        }
+        final NamingUtils.NameTemplate template = NamingUtils.compileNameTemplate(nameTemplate);
+        // plain text names need no parameters, skip collecting them
+        return template.isLiteral()
+                ? nameTemplate
+                : template.render(getParametersMap(joinPoint));
     }
 
     /**
@@ -18,12 +18,12 @@ package io.qameta.allure.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Spliterator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +40,10 @@ public final class NamingUtils {
 
     private static final Collector<CharSequence, ?, String> JOINER = Collectors.joining(", ", "[", "]");
 
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
+    private static final Map<String, NameTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
     private NamingUtils() {
         throw new IllegalStateException("Do not instance");
     }
@@ -52,30 +56,25 @@ public final class NamingUtils {
      * @return the process name template
      */
     public static String processNameTemplate(final String template, final Map<String, Object> params) {
-        final Matcher matcher = Pattern.compile("\\{([^}]*)}").matcher(template);
-        final StringBuffer sb = new StringBuffer();
-        while (matcher.find()) {
-            final String pattern = matcher.group(1);
-            final String replacement = processPattern(pattern, params).orElseGet(matcher::group);
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
-        }
-        matcher.appendTail(sb);
-        return sb.toString();
+        return compileNameTemplate(template).render(params);
     }
 
-    private static Optional<String> processPattern(final String pattern, final Map<String, Object> params) {
-        if (pattern.isEmpty()) {
-            LOGGER.error("Could not process empty pattern");
-            return Optional.empty();
+    /**
+     * Returns the parsed form of the given template, cached for templates seen before.
+     *
+     * @param template the template
+     * @return the parsed template
+     */
+    static NameTemplate compileNameTemplate(final String template) {
+        final NameTemplate cached = TEMPLATES.get(template);
+        if (Objects.nonNull(cached)) {
+            return cached;
         }
-        final String[] parts = pattern.split("\\.");
-        final String parameterName = parts[0];
-        if (!params.containsKey(parameterName)) {
-            LOGGER.error("Could not find parameter " + parameterName);
-            return Optional.empty();
+        final NameTemplate compiled = NameTemplate.parse(template);
+        if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+            TEMPLATES.putIfAbsent(template, compiled);
         }
-        final Object param = params.get(parameterName);
-        return Optional.ofNullable(extractProperties(param, parts, 1));
+        return compiled;
     }
 
     @SuppressWarnings("ReturnCount")
@@ -110,4 +109,93 @@ public final class NamingUtils {
             throw new IllegalStateException("Unable to extract " + part + " value from " + type.getName(), e);
         }
     }
+
+    /**
+     * A name template split into literal text and placeholders. Placeholders are {@code {name}} or
+     * {@code {name.property.property}} references to template parameters; those that cannot be resolved are
+     * rendered as written.
+     */
+    static final class NameTemplate {
+
+        private final String[] literals;
+
+        private final Placeholder[] placeholders;
+
+        private NameTemplate(final String[] literals, final Placeholder[] placeholders) {
+            this.literals = literals;
+            this.placeholders = placeholders;
+        }
+
+        static NameTemplate parse(final String template) {
+            final List<String> literals = new ArrayList<>();
+            final List<Placeholder> placeholders = new ArrayList<>();
+            int position = 0;
+            while (true) {
+                final int open = template.indexOf('{', position);
+                final int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+                if (close < 0) {
+                    break;
+                }
+                literals.add(template.substring(position, open));
+                placeholders.add(Placeholder.parse(template.substring(open, close + 1)));
+                position = close + 1;
+            }
+            literals.add(template.substring(position));
+            return new NameTemplate(literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+        }
+
+        /**
+         * Returns true when the template contains no placeholders, so rendering needs no parameters.
+         *
+         * @return true for plain text templates
+         */
+        boolean isLiteral() {
+            return placeholders.length == 0;
+        }
+
+        String render(final Map<String, Object> params) {
+            if (isLiteral()) {
+                return literals[0];
+            }
+            final StringBuilder result = new StringBuilder(literals[0]);
+            for (int index = 0; index < placeholders.length; index++) {
+                result.append(placeholders[index].render(params)).append(literals[index + 1]);
+            }
+            return result.toString();
+        }
+    }
+
+    /**
+     * A template placeholder: the text as written, and the parameter name followed by the property path.
+     */
+    private static final class Placeholder {
+
+        private final String text;
+
+        private final String[] parts;
+
+        private Placeholder(final String text, final String... parts) {
+            this.text = text;
+            this.parts = parts;
+        }
+
+        static Placeholder parse(final String text) {
+            final String pattern = text.substring(1, text.length() - 1);
+            return new Placeholder(text, pattern.isEmpty() ? new String[0] : pattern.split("\\."));
+        }
+
+        String render(final Map<String, Object> params) {
+            if (parts.length == 0) {
+                LOGGER.error("Could not process empty pattern");
+                return text;
+            }
+            final String parameterName = parts[0];
+            if (!params.containsKey(parameterName)) {
+                LOGGER.error("Could not find parameter " + parameterName);
+                return text;
+            }
+            final String value = extractProperties(params.get(parameterName), parts, 1);
+            return Objects.isNull(value) ? text : value;
+        }
+    }
 }
@@ -35,15 +35,26 @@ public final class PropertiesUtils {
     }
 
     /**
-     * Loads and returns the allure properties.
+     * Loads and returns the allure properties. Every call reads the {@code allure.properties} files again; use
+     * {@link AllurePropertiesSnapshot} for lookups on hot paths.
      *
      * @return the loaded allure properties
      */
     public static Properties loadAllureProperties() {
+        final Properties properties = loadAllurePropertiesFiles();
+        properties.putAll(System.getProperties());
+        return properties;
+    }
+
+    /**
+     * Loads the allure properties files from the classpath, without system properties.
+     *
+     * @return the loaded allure properties
+     */
+    static Properties loadAllurePropertiesFiles() {
         final Properties properties = new Properties();
         loadPropertiesFrom(ClassLoader.getSystemClassLoader(), properties);
         loadPropertiesFrom(Thread.currentThread().getContextClassLoader(), properties);
-        properties.putAll(System.getProperties());
         return properties;
     }
 
@@ -18,12 +18,23 @@ package io.qameta.allure.util;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Common reflection helpers.
+ *
+ * <p>Getters and fields are resolved once per class and property name into {@link MethodHandle}s, and properties
+ * that a class does not have are remembered as well, so repeated reads neither walk the class hierarchy nor throw
+ * lookup exceptions.</p>
  */
 final class ReflectionUtils {
 
@@ -32,6 +43,14 @@ final class ReflectionUtils {
     private static final String IS_PREFIX = "is";
     private static final String METHOD_READ_ERROR = "Unable to read value via method {}";
     private static final String FIELD_READ_ERROR = "Unable to read value via field {}";
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(final Class<?> type) {
+            return new Accessors(type);
+        }
+    };
 
     private ReflectionUtils() {
         throw new IllegalStateException("Do not instance");
@@ -41,72 +60,46 @@ final class ReflectionUtils {
         if (target == null || propertyName == null || propertyName.isEmpty()) {
             return null;
         }
-        final Optional<Method> method = findGetter(target.getClass(), propertyName);
-        if (method.isPresent()) {
-            try {
-                return invokeMethod(target, method.get());
-            } catch (ReflectiveOperationException | SecurityException e) {
-                LOGGER.trace(METHOD_READ_ERROR, method.get().getName(), e);
-                return null;
-            }
-        }
-        try {
-            return getFieldValue(target, propertyName);
-        } catch (ReflectiveOperationException | SecurityException e) {
-            LOGGER.trace(FIELD_READ_ERROR, propertyName, e);
-            return null;
+        final Accessors accessors = ACCESSORS.get(target.getClass());
+        final Optional<MethodHandle> getter = accessors.getter(propertyName);
+        if (getter.isPresent()) {
+            return invoke(getter.get(), target, METHOD_READ_ERROR, propertyName);
         }
+        return accessors.field(propertyName)
+                .map(field -> invoke(field, target, FIELD_READ_ERROR, propertyName))
+                .orElse(null);
     }
 
     static Boolean getBooleanValue(final Object target, final String propertyName) {
         if (target == null || propertyName == null || propertyName.isEmpty()) {
             return absentBooleanValue();
         }
-        final Optional<Method> method = findPrimitiveBooleanGetter(target.getClass(), propertyName);
-        if (method.isPresent()) {
-            return invokeBooleanMethod(target, method.get());
+        final Optional<MethodHandle> getter = ACCESSORS.get(target.getClass()).booleanGetter(propertyName);
+        if (getter.isPresent()) {
+            return (Boolean) invoke(getter.get(), target, METHOD_READ_ERROR, IS_PREFIX + capitalize(propertyName));
         }
         return toBooleanValue(getValue(target, propertyName), propertyName);
     }
 
-    @SuppressWarnings("PMD.EmptyCatchBlock")
     static Object getFieldValue(final Object target, final String fieldName) throws ReflectiveOperationException {
-        final Class<?> type = target.getClass();
-        try {
-            final Field field = type.getField(fieldName);
-            return getFieldValue(target, field);
-        } catch (NoSuchFieldException e) {
-            Class<?> currentType = type;
-            while (currentType != null) {
-                try {
-                    final Field declaredField = currentType.getDeclaredField(fieldName);
-                    return getFieldValue(target, declaredField);
-                } catch (NoSuchFieldException ignore) {
-                    // Ignore
-                }
-                currentType = currentType.getSuperclass();
-            }
-            throw e;
+        final Optional<MethodHandle> field = ACCESSORS.get(target.getClass()).field(fieldName);
+        if (field.isEmpty()) {
+            throw new NoSuchFieldException(fieldName);
         }
-    }
-
-    @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
-    private static Object getFieldValue(final Object target, final Field field) throws IllegalAccessException {
         try {
-            return field.get(target);
-        } catch (IllegalAccessException e) {
-            field.setAccessible(true);
-            return field.get(target);
+            return (Object) field.get().invokeExact(target);
+        } catch (Throwable e) {
+            throw ExceptionUtils.sneakyThrow(e);
         }
     }
 
-    @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
-    private static Object invokeMethod(final Object target, final Method method) throws ReflectiveOperationException {
+    private static Object invoke(final MethodHandle accessor, final Object target,
+                                 final String errorMessage, final String name) {
         try {
-            return method.invoke(target);
-        } catch (IllegalAccessException e) {
-            method.setAccessible(true);
-            return method.invoke(target);
+            return (Object) accessor.invokeExact(target);
+        } catch (Throwable e) {
+            LOGGER.trace(errorMessage, name, e);
+            return null;
         }
     }
 
@@ -148,17 +141,61 @@ final class ReflectionUtils {
         return Optional.empty();
     }
 
-    private static String capitalize(final String value) {
-        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    @SuppressWarnings("PMD.EmptyCatchBlock")
+    private static Optional<Field> findField(final Class<?> type, final String fieldName) {
+        try {
+            return Optional.of(type.getField(fieldName));
+        } catch (NoSuchFieldException e) {
+            Class<?> currentType = type;
+            while (currentType != null) {
+                try {
+                    return Optional.of(currentType.getDeclaredField(fieldName));
+                } catch (NoSuchFieldException ignore) {
+                    // Ignore
+                }
+                currentType = currentType.getSuperclass();
+            }
+            return Optional.empty();
+        } catch (SecurityException e) {
+            LOGGER.trace(FIELD_READ_ERROR, fieldName, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<MethodHandle> methodAccessor(final Method method) {
+        return accessor(method, method.getModifiers(), () -> LOOKUP.unreflect(method));
+    }
+
+    private static Optional<MethodHandle> fieldAccessor(final Field field) {
+        return accessor(field, field.getModifiers(), () -> LOOKUP.unreflectGetter(field));
     }
 
-    private static Boolean invokeBooleanMethod(final Object target, final Method method) {
+    /**
+     * Returns an accessor typed {@code (Object)Object}, opening the member if it is not accessible.
+     */
+    @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
+    private static Optional<MethodHandle> accessor(final AccessibleObject member, final int modifiers,
+                                                   final Unreflector unreflector) {
+        MethodHandle accessor;
         try {
-            return Boolean.class.cast(invokeMethod(target, method));
-        } catch (ReflectiveOperationException | SecurityException e) {
-            LOGGER.trace(METHOD_READ_ERROR, method.getName(), e);
-            return absentBooleanValue();
+            try {
+                accessor = unreflector.unreflect();
+            } catch (IllegalAccessException e) {
+                member.setAccessible(true);
+                accessor = unreflector.unreflect();
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            LOGGER.trace("Unable to access {}", member, e);
+            return Optional.empty();
         }
+        if (Modifier.isStatic(modifiers)) {
+            accessor = MethodHandles.dropArguments(accessor, 0, Object.class);
+        }
+        return Optional.of(accessor.asType(GETTER_TYPE));
+    }
+
+    private static String capitalize(final String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
     }
 
     private static Boolean toBooleanValue(final Object value, final String propertyName) {
@@ -178,4 +215,52 @@ final class ReflectionUtils {
     private static Boolean absentBooleanValue() {
         return Optional.<Boolean>empty().orElse(null);
     }
+
+    /**
+     * Unreflects a member into a method handle.
+     */
+    @FunctionalInterface
+    private interface Unreflector {
+
+        MethodHandle unreflect() throws IllegalAccessException;
+    }
+
+    /**
+     * Accessors resolved for one class, keyed by property name. Absent accessors are cached as empty values.
+     */
+    private static final class Accessors {
+
+        private final Class<?> type;
+
+        private final Map<String, Optional<MethodHandle>> getters = new ConcurrentHashMap<>();
+
+        private final Map<String, Optional<MethodHandle>> booleanGetters = new ConcurrentHashMap<>();
+
+        private final Map<String, Optional<MethodHandle>> fields = new ConcurrentHashMap<>();
+
+        private Accessors(final Class<?> type) {
+            this.type = type;
+        }
+
+        Optional<MethodHandle> getter(final String propertyName) {
+            return getters.computeIfAbsent(
+                    propertyName,
+                    name -> findGetter(type, name).flatMap(ReflectionUtils::methodAccessor)
+            );
+        }
+
+        Optional<MethodHandle> booleanGetter(final String propertyName) {
+            return booleanGetters.computeIfAbsent(
+                    propertyName,
+                    name -> findPrimitiveBooleanGetter(type, name).flatMap(ReflectionUtils::methodAccessor)
+            );
+        }
+
+        Optional<MethodHandle> field(final String fieldName) {
+            return fields.computeIfAbsent(
+                    fieldName,
+                    name -> findField(type, name).flatMap(ReflectionUtils::fieldAccessor)
+            );
+        }
+    }
 }
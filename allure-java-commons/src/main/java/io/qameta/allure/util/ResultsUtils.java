@@ -50,16 +50,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static io.qameta.allure.util.PropertiesUtils.loadAllureProperties;
 import static java.lang.Boolean.parseBoolean;
 import static java.util.Objects.nonNull;
 
@@ -217,6 +217,14 @@ public final class ResultsUtils {
     private static final String DEFINED_PROPERTY_SUFFIX = "Defined";
     private static final String NEW_LINE = "\n";
 
+    /**
+     * Upper bound on the number of interned labels and links, each; beyond it new values are not shared.
+     */
+    private static final int MAX_INTERNED = 4096;
+
+    private static final Map<LabelKey, Label> INTERNED_LABELS = new ConcurrentHashMap<>();
+    private static final Map<LinkKey, Link> INTERNED_LINKS = new ConcurrentHashMap<>();
+
     private static String cachedHost;
 
     private ResultsUtils() {
@@ -522,6 +530,60 @@ public final class ResultsUtils {
         return new Label().setName(name).setValue(value);
     }
 
+    /**
+     * Returns a label with the given name and value that is shared between all callers, for labels repeated on
+     * many results such as host, framework or language. The returned label must not be modified.
+     *
+     * @param name the label name
+     * @param value the label value
+     * @return the shared label
+     */
+    public static Label internLabel(final String name, final String value) {
+        final LabelKey key = new LabelKey(name, value);
+        final Label interned = INTERNED_LABELS.get(key);
+        if (nonNull(interned)) {
+            return interned;
+        }
+        final Label label = createLabel(name, value);
+        if (INTERNED_LABELS.size() >= MAX_INTERNED) {
+            return label;
+        }
+        return Objects.requireNonNullElse(INTERNED_LABELS.putIfAbsent(key, label), label);
+    }
+
+    /**
+     * Returns a link with the given name, URL and type that is shared between all callers, for links repeated on
+     * many results such as the links of a test class. The returned link must not be modified.
+     *
+     * @param name the link name
+     * @param url the link URL
+     * @param type the link type
+     * @return the shared link
+     */
+    public static Link internLink(final String name, final String url, final String type) {
+        final LinkKey key = new LinkKey(name, url, type);
+        final Link interned = INTERNED_LINKS.get(key);
+        if (nonNull(interned)) {
+            return interned;
+        }
+        final Link link = new Link().setName(name).setUrl(url).setType(type);
+        if (INTERNED_LINKS.size() >= MAX_INTERNED) {
+            return link;
+        }
+        return Objects.requireNonNullElse(INTERNED_LINKS.putIfAbsent(key, link), link);
+    }
+
+    /**
+     * Returns a link equal to the given one that is shared between all callers, see
+     * {@link #internLink(String, String, String)}. The given link is left unchanged.
+     *
+     * @param link the link
+     * @return the shared link
+     */
+    public static Link internLink(final Link link) {
+        return internLink(link.getName(), link.getUrl(), link.getType());
+    }
+
     /**
      * Creates and returns the label.
      *
@@ -653,19 +715,7 @@ public final class ResultsUtils {
      * @return the provided labels
      */
     public static Set<Label> getProvidedLabels() {
-        final Properties properties = loadAllureProperties();
-        final Set<String> propertyNames = properties.stringPropertyNames();
-        return propertyNames.stream()
-                .filter(name -> name.startsWith("allure.label."))
-                .map(name -> {
-                    final String labelName = name.substring(13);
-                    final String labelValue = properties.getProperty(name);
-                    return new Label()
-                            .setName(labelName)
-                            .setValue(labelValue);
-                })
-                .filter(label -> nonNull(label.getValue()))
-                .collect(Collectors.toSet());
+        return AllurePropertiesSnapshot.current().getProvidedLabels();
     }
 
     /**
@@ -675,11 +725,11 @@ public final class ResultsUtils {
      */
     public static String getHostName() {
         final String fromProperty = System.getProperty(ALLURE_HOST_NAME_SYSPROP);
+        if (nonNull(fromProperty)) {
+            return fromProperty;
+        }
         final String fromEnv = System.getenv(ALLURE_HOST_NAME_ENV);
-        return Stream.of(fromProperty, fromEnv)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElseGet(ResultsUtils::getRealHostName);
+        return nonNull(fromEnv) ? fromEnv : getRealHostName();
     }
 
     /**
@@ -689,11 +739,11 @@ public final class ResultsUtils {
      */
     public static String getThreadName() {
         final String fromProperty = System.getProperty(ALLURE_THREAD_NAME_SYSPROP);
+        if (nonNull(fromProperty)) {
+            return fromProperty;
+        }
         final String fromEnv = System.getenv(ALLURE_THREAD_NAME_ENV);
-        return Stream.of(fromProperty, fromEnv)
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElseGet(ResultsUtils::getRealThreadName);
+        return nonNull(fromEnv) ? fromEnv : getRealThreadName();
     }
 
     /**
@@ -722,7 +772,7 @@ public final class ResultsUtils {
                                             .ofNullable(throwable.getMessage())
                                             .orElse(throwable.getClass().getName())
                             )
-                            .setTrace(getStackTraceAsString(throwable));
+                            .deferTrace(() -> getStackTraceAsString(throwable));
                     getRichErrorProperty(throwable, ACTUAL).ifPresent(details::setActual);
                     getRichErrorProperty(throwable, EXPECTED).ifPresent(details::setExpected);
                     return details;
@@ -843,12 +893,11 @@ public final class ResultsUtils {
     }
 
     private static String getLinkUrl(final String name, final String type) {
-        final Properties properties = loadAllureProperties();
-        final String pattern = properties.getProperty(getLinkTypePatternPropertyName(type));
+        final String pattern = AllurePropertiesSnapshot.current().getLinkPattern(type);
         if (Objects.isNull(pattern)) {
             return null;
         }
-        return pattern.replaceAll("\\{}", Objects.isNull(name) ? "" : name);
+        return pattern.replace("{}", Objects.isNull(name) ? "" : name);
     }
 
     private static boolean isHttpOrHttpsUrl(final String value) {
@@ -879,15 +928,19 @@ public final class ResultsUtils {
     }
 
     private static String getRealThreadName() {
-        return String.format(
-                "%s.%s(%s)",
-                ManagementFactory.getRuntimeMXBean().getName(),
-                Thread.currentThread().getName(),
-                Thread.currentThread().getId()
-        );
+        final Thread thread = Thread.currentThread();
+        return RuntimeName.VALUE + DOT + thread.getName() + "(" + thread.getId() + ")";
     }
 
     private static String getStackTraceAsString(final Throwable throwable) {
+        final StackTraceRenderer renderer = StackTraceRenderer.fromProperties();
+        if (!renderer.isUnlimited()) {
+            try {
+                return renderer.render(throwable);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Could not render limited stack trace, rendering it in full", e);
+            }
+        }
         final StringWriter stringWriter = new StringWriter();
         try {
             throwable.printStackTrace(new PrintWriter(stringWriter));
@@ -983,7 +1036,7 @@ public final class ResultsUtils {
     }
 
     private static boolean separateLines() {
-        return parseBoolean(loadAllureProperties().getProperty(ALLURE_SEPARATE_LINES_SYSPROP));
+        return parseBoolean(AllurePropertiesSnapshot.current().getProperty(ALLURE_SEPARATE_LINES_SYSPROP));
     }
 
     @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
@@ -1089,4 +1142,27 @@ public final class ResultsUtils {
         return index < 0 ? normalized : normalized.substring(index + 1);
     }
 
+    /**
+     * Name of the running JVM, resolved on first use.
+     */
+    private static final class RuntimeName {
+
+        private static final String VALUE = ManagementFactory.getRuntimeMXBean().getName();
+
+        private RuntimeName() {
+        }
+    }
+
+    /**
+     * Key of an interned label.
+     */
+    private record LabelKey(String name, String value) {
+    }
+
+    /**
+     * Key of an interned link.
+     */
+    private record LinkKey(String name, String url, String type) {
+    }
+
 }
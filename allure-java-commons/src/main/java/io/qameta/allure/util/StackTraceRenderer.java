@@ -0,0 +1,234 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Renders throwables in the {@link Throwable#printStackTrace()} format with optional size limits.
+ *
+ * <p>Frames shared with the enclosing trace are folded into {@code ... n more} lines, as the JDK does. On top of
+ * that the renderer can keep at most {@code maxFrames} frames per throwable, at most {@code maxCauses} nested causes
+ * and suppressed throwables, and drop frames whose class name starts with one of the filtered prefixes. A limit of
+ * {@code 0} means unlimited.</p>
+ */
+public final class StackTraceRenderer {
+
+    /**
+     * Maximum number of frames rendered per throwable.
+     */
+    public static final String MAX_FRAMES_PROPERTY = "allure.trace.maxFrames";
+
+    /**
+     * Maximum number of causes and suppressed throwables rendered per trace.
+     */
+    public static final String MAX_CAUSES_PROPERTY = "allure.trace.maxCauses";
+
+    /**
+     * Comma-separated class name prefixes of frames to leave out, for example {@code org.junit.,jdk.internal.}.
+     */
+    public static final String FILTER_PROPERTY = "allure.trace.filter";
+
+    private static final String CAUSE_CAPTION = "Caused by: ";
+
+    private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+
+    private static final String TAB = "\t";
+
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final int maxFrames;
+
+    private final int maxCauses;
+
+    private final List<String> filteredPrefixes;
+
+    /**
+     * Creates a renderer with the supplied limits.
+     *
+     * @param maxFrames        the maximum number of frames per throwable, or 0 for unlimited
+     * @param maxCauses        the maximum number of causes and suppressed throwables, or 0 for unlimited
+     * @param filteredPrefixes class name prefixes of frames to leave out
+     */
+    public StackTraceRenderer(final int maxFrames, final int maxCauses, final Collection<String> filteredPrefixes) {
+        if (maxFrames < 0 || maxCauses < 0) {
+            throw new IllegalArgumentException("trace limits must not be negative");
+        }
+        this.maxFrames = maxFrames;
+        this.maxCauses = maxCauses;
+        this.filteredPrefixes = List.copyOf(filteredPrefixes);
+    }
+
+    /**
+     * Creates a renderer configured by the {@code allure.trace.*} properties.
+     *
+     * @return the configured renderer
+     */
+    public static StackTraceRenderer fromProperties() {
+        final AllurePropertiesSnapshot properties = AllurePropertiesSnapshot.current();
+        return new StackTraceRenderer(
+                limit(properties.getProperty(MAX_FRAMES_PROPERTY)),
+                limit(properties.getProperty(MAX_CAUSES_PROPERTY)),
+                prefixes(properties.getProperty(FILTER_PROPERTY))
+        );
+    }
+
+    /**
+     * Returns true if this renderer neither limits nor filters anything, so its output matches
+     * {@link Throwable#printStackTrace()}.
+     *
+     * @return true for a renderer without limits and filters
+     */
+    public boolean isUnlimited() {
+        return maxFrames == 0 && maxCauses == 0 && filteredPrefixes.isEmpty();
+    }
+
+    /**
+     * Renders the given throwable.
+     *
+     * @param throwable the throwable to render
+     * @return the rendered stack trace
+     */
+    public String render(final Throwable throwable) {
+        final StringBuilder result = new StringBuilder(1024);
+        final Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.add(throwable);
+        result.append(throwable).append(NEW_LINE);
+        final StackTraceElement[] trace = throwable.getStackTrace();
+        appendFrames(result, trace, new StackTraceElement[0], "");
+        appendEnclosed(result, throwable, trace, "", seen, new int[]{0});
+        return result.toString();
+    }
+
+    private void appendEnclosed(final StringBuilder result, final Throwable throwable,
+                                final StackTraceElement[] trace, final String prefix,
+                                final Set<Throwable> seen, final int[] rendered) {
+        final Throwable[] suppressed = throwable.getSuppressed();
+        if (Objects.nonNull(suppressed)) {
+            for (final Throwable item : suppressed) {
+                append(result, item, trace, SUPPRESSED_CAPTION, prefix + TAB, seen, rendered);
+            }
+        }
+        final Throwable cause = throwable.getCause();
+        if (Objects.nonNull(cause)) {
+            append(result, cause, trace, CAUSE_CAPTION, prefix, seen, rendered);
+        }
+    }
+
+    private void append(final StringBuilder result, final Throwable throwable,
+                        final StackTraceElement[] enclosingTrace, final String caption, final String prefix,
+                        final Set<Throwable> seen, final int[] rendered) {
+        if (!seen.add(throwable)) {
+            result.append(prefix).append(caption).append("[CIRCULAR REFERENCE: ").append(throwable).append(']')
+                    .append(NEW_LINE);
+            return;
+        }
+        if (maxCauses > 0 && rendered[0] >= maxCauses) {
+            if (rendered[0] == maxCauses) {
+                result.append(prefix).append(TAB).append("... further causes omitted").append(NEW_LINE);
+                rendered[0]++;
+            }
+            return;
+        }
+        rendered[0]++;
+        result.append(prefix).append(caption).append(throwable).append(NEW_LINE);
+        final StackTraceElement[] trace = throwable.getStackTrace();
+        appendFrames(result, trace, enclosingTrace, prefix);
+        appendEnclosed(result, throwable, trace, prefix, seen, rendered);
+    }
+
+    private void appendFrames(final StringBuilder result, final StackTraceElement[] trace,
+                              final StackTraceElement[] enclosingTrace, final String prefix) {
+        int last = trace.length - 1;
+        int enclosing = enclosingTrace.length - 1;
+        while (last >= 0 && enclosing >= 0 && trace[last].equals(enclosingTrace[enclosing])) {
+            last--;
+            enclosing--;
+        }
+        final int framesInCommon = trace.length - 1 - last;
+        int printed = 0;
+        int filtered = 0;
+        int omitted = 0;
+        for (int index = 0; index <= last; index++) {
+            final StackTraceElement frame = trace[index];
+            if (isFiltered(frame)) {
+                filtered++;
+            } else if (maxFrames > 0 && printed >= maxFrames) {
+                omitted++;
+            } else {
+                appendFiltered(result, prefix, filtered);
+                filtered = 0;
+                result.append(prefix).append(TAB).append("at ").append(frame).append(NEW_LINE);
+                printed++;
+            }
+        }
+        appendFiltered(result, prefix, filtered);
+        if (omitted > 0) {
+            result.append(prefix).append(TAB).append("... ").append(omitted).append(" frames omitted")
+                    .append(NEW_LINE);
+        }
+        if (framesInCommon > 0) {
+            result.append(prefix).append(TAB).append("... ").append(framesInCommon).append(" more")
+                    .append(NEW_LINE);
+        }
+    }
+
+    private static void appendFiltered(final StringBuilder result, final String prefix, final int filtered) {
+        if (filtered > 0) {
+            result.append(prefix).append(TAB).append("... ").append(filtered).append(" filtered")
+                    .append(NEW_LINE);
+        }
+    }
+
+    private boolean isFiltered(final StackTraceElement frame) {
+        final String className = frame.getClassName();
+        for (final String filteredPrefix : filteredPrefixes) {
+            if (className.startsWith(filteredPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int limit(final String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<String> prefixes(final String value) {
+        final List<String> prefixes = new ArrayList<>();
+        if (Objects.nonNull(value)) {
+            for (final String prefix : value.split(",")) {
+                if (!prefix.isBlank()) {
+                    prefixes.add(prefix.trim());
+                }
+            }
+        }
+        return prefixes;
+    }
+}
@@ -57,6 +57,18 @@ class AllureExternalKeyTest {
                 .isNotEqualTo(AllureExternalKey.random(AllureExternalKeyTest.class));
     }
 
+    @Test
+    void shouldCompareRandomKeysByIdentity() {
+        final AllureExternalKey key = AllureExternalKey.random(AllureExternalKeyTest.class);
+
+        assertThat(key)
+                .isEqualTo(key)
+                .hasSameHashCodeAs(key)
+                .isNotEqualTo(AllureExternalKey.of(AllureExternalKeyTest.class, key.toString()));
+        assertThat(key.toString())
+                .startsWith("AllureExternalKeyTest[#");
+    }
+
     @Test
     void shouldRejectInvalidValues() {
         assertThatThrownBy(() -> AllureExternalKey.of(AllureExternalKeyTest.class, (Object) null))
@@ -15,6 +15,7 @@
  */
 package io.qameta.allure;
 
+import io.qameta.allure.internal.Allure2ModelJackson;
 import io.qameta.allure.listener.LifecycleNotifier;
 import io.qameta.allure.listener.TestLifecycleListener;
 import io.qameta.allure.model.Attachment;
@@ -23,16 +24,19 @@ import io.qameta.allure.model.Label;
 import io.qameta.allure.model.Link;
 import io.qameta.allure.model.Parameter;
 import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
 import io.qameta.allure.model.StepResult;
 import io.qameta.allure.model.TestResult;
 import io.qameta.allure.model.TestResultContainer;
 import io.qameta.allure.model.WithMetadata;
 import io.qameta.allure.test.AllureResults;
+import io.qameta.allure.test.AllureResultsWriterStub;
 import io.qameta.allure.test.IsolatedLifecycle;
 import io.qameta.allure.test.RunUtils;
 import io.qameta.allure.util.ResultsUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
@@ -40,6 +44,8 @@ import org.mockito.Mockito;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -55,6 +61,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.qameta.allure.Allure.attachmentAsync;
 import static io.qameta.allure.test.TestData.randomId;
@@ -195,6 +202,29 @@ class AllureLifecycleTest {
                 .containsExactly(tuple("layer", "rest"));
     }
 
+    @Test
+    void shouldReleaseUnstoppedStepsWhenOwnerIsWritten() {
+        final AllureExternalKey testKey = testKey(randomId());
+        final AllureExternalKey otherTestKey = testKey(randomId());
+        final AllureExternalKey stepKey = AllureExternalKey.random(AllureLifecycleTest.class);
+        final AllureExternalKey otherStepKey = AllureExternalKey.random(AllureLifecycleTest.class);
+        final StepResult step = new StepResult().setName("unstopped");
+        final StepResult otherStep = new StepResult().setName("other");
+        lifecycle.scheduleTest(testKey, new TestResult().setName(randomName()));
+        lifecycle.scheduleTest(otherTestKey, new TestResult().setName(randomName()));
+        lifecycle.startStep(testKey, stepKey, step);
+        lifecycle.startStep(otherTestKey, otherStepKey, otherStep);
+
+        lifecycle.writeTest(testKey);
+        lifecycle.updateStep(stepKey, result -> result.setName("updated"));
+        lifecycle.updateStep(otherStepKey, result -> result.setName("updated"));
+
+        assertThat(step.getName())
+                .isEqualTo("unstopped");
+        assertThat(otherStep.getName())
+                .isEqualTo("updated");
+    }
+
     @Test
     void shouldCalculateHistoryIdAfterScopeMergeForAfterStopListeners() {
         final String testCaseId = randomId();
@@ -1319,6 +1349,284 @@ class AllureLifecycleTest {
 
     }
 
+    @Test
+    void shouldShareScopeBetweenParallelTests() throws Exception {
+        final int threads = 16;
+        final int testsPerThread = 50;
+        final Label scopeLabel = new Label().setName("owner").setValue(randomName());
+        final AllureExternalKey scopeKey = scopeKey(randomId());
+        final AllureExternalKey fixtureKey = fixtureKey(randomId());
+        lifecycle.registerScope(scopeKey);
+        lifecycle.startBeforeFixture(scopeKey, fixtureKey, new FixtureResult().setName(randomName()));
+        lifecycle.updateTestMetadata(metadata -> metadata.getLabels().add(scopeLabel));
+        lifecycle.stopFixture(fixtureKey);
+
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < testsPerThread; j++) {
+                    final AllureExternalKey testKey = testKey(randomId());
+                    lifecycle.scheduleTest(List.of(scopeKey), testKey, new TestResult().setName(randomName()));
+                    lifecycle.startTest(testKey);
+                    lifecycle.startStep(new StepResult().setName(randomName()));
+                    lifecycle.stopStep();
+                    lifecycle.stopTest(testKey);
+                    lifecycle.writeTest(testKey);
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : service.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            service.shutdown();
+        }
+        lifecycle.writeScope(scopeKey);
+
+        final ArgumentCaptor<TestResult> testCaptor = forClass(TestResult.class);
+        verify(writer, times(threads * testsPerThread)).write(testCaptor.capture());
+        assertThat(testCaptor.getAllValues())
+                .allSatisfy(result -> {
+                    assertThat(result.getLabels()).containsExactly(scopeLabel);
+                    assertThat(result.getSteps()).hasSize(1);
+                });
+
+        final ArgumentCaptor<TestResultContainer> containerCaptor = forClass(TestResultContainer.class);
+        verify(writer).write(containerCaptor.capture());
+        assertThat(containerCaptor.getValue().getChildren())
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(
+                        testCaptor.getAllValues().stream().map(TestResult::getUuid).collect(Collectors.toList())
+                );
+        assertThat(containerCaptor.getValue().getBefores())
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldDropSpooledAttachmentsAndDeepStepsOfPassedTest(@TempDir final Path spool) throws Exception {
+        final AllureResultsWriterStub results = new AllureResultsWriterStub();
+        lifecycle = new AllureLifecycle(results, new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()),
+                spool, 1);
+
+        runTestWithAttachments(Status.PASSED);
+
+        assertThat(results.getAttachments())
+                .isEmpty();
+        assertThat(results.getTestResults())
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.getAttachments()).isEmpty();
+                    assertThat(result.getSteps())
+                            .extracting(StepResult::getName)
+                            .containsExactly("outer");
+                    assertThat(result.getSteps().get(0).getSteps()).isEmpty();
+                });
+        try (Stream<Path> files = Files.list(spool)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldWriteSpooledAttachmentsOfFailedTest(@TempDir final Path spool) throws Exception {
+        final AllureResultsWriterStub results = new AllureResultsWriterStub();
+        lifecycle = new AllureLifecycle(results, new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()),
+                spool, 1);
+
+        runTestWithAttachments(Status.FAILED);
+
+        assertThat(results.getAttachments())
+                .hasSize(3);
+        assertThat(results.getTestResults())
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.getAttachments()).hasSize(1);
+                    assertThat(result.getSteps())
+                            .extracting(StepResult::getName)
+                            .containsExactly("outer", "async attachment");
+                    assertThat(result.getSteps().get(0).getSteps())
+                            .extracting(StepResult::getName)
+                            .containsExactly("inner", "screenshot");
+                });
+        try (Stream<Path> files = Files.list(spool)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldWriteStepsSpilledWhileTestWasRunning(@TempDir final Path folder) throws Exception {
+        lifecycle = new AllureLifecycle(new FileSystemResultsWriter(folder),
+                new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()), null, -1, 2);
+        final String uuid = randomUuid();
+        final AllureExternalKey testKey = testKey(uuid);
+        lifecycle.scheduleTest(testKey, new TestResult().setUuid(uuid));
+        lifecycle.startTest(testKey);
+        for (int outer = 0; outer < 3; outer++) {
+            lifecycle.startStep(new StepResult().setName("outer " + outer));
+            for (int inner = 0; inner < 3; inner++) {
+                lifecycle.startStep(new StepResult().setName("inner " + outer + "." + inner).setStatus(Status.PASSED));
+                lifecycle.stopStep();
+            }
+            lifecycle.updateStep(step -> step.setStatus(Status.FAILED));
+            lifecycle.stopStep();
+        }
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+
+        final TestResult written = Allure2ModelJackson.createMapper()
+                .readValue(folder.resolve(FileSystemResultsWriter.generateTestResultName(uuid)).toFile(),
+                        TestResult.class);
+        assertThat(written.getSteps())
+                .extracting(StepResult::getName, StepResult::getStatus, StepResult::getStage)
+                .containsExactly(
+                        tuple("outer 0", Status.FAILED, Stage.FINISHED),
+                        tuple("outer 1", Status.FAILED, Stage.FINISHED),
+                        tuple("outer 2", Status.FAILED, Stage.FINISHED)
+                );
+        assertThat(written.getSteps().get(2).getSteps())
+                .extracting(StepResult::getName, StepResult::getStatus)
+                .containsExactly(
+                        tuple("inner 2.0", Status.PASSED),
+                        tuple("inner 2.1", Status.PASSED),
+                        tuple("inner 2.2", Status.PASSED)
+                );
+    }
+
+    @Test
+    void shouldKeepSpilledStepsReadableForAfterTestWriteListeners(@TempDir final Path folder) {
+        final List<String> names = new ArrayList<>();
+        final TestLifecycleListener listener = new TestLifecycleListener() {
+            @Override
+            public void afterTestWrite(final TestResult result) {
+                result.getSteps().forEach(step -> names.add(step.getName()));
+            }
+        };
+        lifecycle = new AllureLifecycle(new FileSystemResultsWriter(folder),
+                new LifecycleNotifier(List.of(), List.of(listener), List.of(), List.of()), null, -1, 1);
+        final AllureExternalKey testKey = testKey(randomId());
+        lifecycle.scheduleTest(testKey, new TestResult().setUuid(randomUuid()));
+        lifecycle.startTest(testKey);
+        for (int index = 0; index < 3; index++) {
+            lifecycle.startStep(new StepResult().setName("step " + index));
+            lifecycle.stopStep();
+        }
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+
+        assertThat(names)
+                .containsExactly("step 0", "step 1", "step 2");
+    }
+
+    @Test
+    void shouldDropSpooledAttachmentsAndDeepStepsOfSpilledSteps(@TempDir final Path spool) throws Exception {
+        final AllureResultsWriterStub results = new AllureResultsWriterStub();
+        lifecycle = new AllureLifecycle(results, new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()),
+                spool, 1, 1);
+        final AllureExternalKey testKey = testKey(randomId());
+        lifecycle.scheduleTest(testKey, new TestResult().setName(randomName()));
+        lifecycle.startTest(testKey);
+        for (int outer = 0; outer < 3; outer++) {
+            lifecycle.startStep(new StepResult().setName("outer " + outer));
+            lifecycle.startStep(new StepResult().setName("inner " + outer));
+            lifecycle.stopStep();
+            lifecycle.stopStep();
+            lifecycle.addAttachmentStep("screenshot", "image/png", new ByteArrayInputStream(new byte[]{1}), null);
+        }
+        lifecycle.updateTest(testKey, result -> result.setStatus(Status.PASSED));
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+
+        assertThat(results.getAttachments())
+                .isEmpty();
+        assertThat(results.getTestResults())
+                .singleElement()
+                .satisfies(result -> assertThat(result.getSteps())
+                        .extracting(StepResult::getName, step -> step.getSteps().size())
+                        .containsExactly(tuple("outer 0", 0), tuple("outer 1", 0), tuple("outer 2", 0)));
+    }
+
+    @Test
+    void shouldMarkSpilledAsyncAttachmentStepBroken() {
+        final AllureResultsWriterStub results = new AllureResultsWriterStub();
+        lifecycle = new AllureLifecycle(results, new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()),
+                null, -1, 1);
+        final AllureExternalKey testKey = testKey(randomId());
+        lifecycle.scheduleTest(testKey, new TestResult().setName(randomName()));
+        lifecycle.startTest(testKey);
+        final CompletableFuture<InputStream> body = new CompletableFuture<>();
+        lifecycle.startStep(new StepResult().setName("outer"));
+        lifecycle.addAttachmentStepAsync("async attachment", "text/plain", body, null);
+        lifecycle.stopStep();
+        for (int index = 0; index < 3; index++) {
+            lifecycle.startStep(new StepResult().setName("after " + index));
+            lifecycle.stopStep();
+        }
+        body.completeExceptionally(new IllegalStateException("no content"));
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+
+        assertThat(results.getTestResults())
+                .singleElement()
+                .satisfies(result -> assertThat(result.getSteps().get(0).getSteps())
+                        .extracting(StepResult::getName, StepResult::getStatus)
+                        .containsExactly(tuple("async attachment", Status.BROKEN)));
+    }
+
+    @Test
+    void shouldAggregateRepeatedStepsIntoOne() {
+        final AllureExternalKey testKey = testKey(randomId());
+        lifecycle.scheduleTest(testKey, new TestResult().setName(randomName()));
+        lifecycle.startTest(testKey);
+        for (int index = 0; index < 10; index++) {
+            final AllureStepInvocation invocation = lifecycle.startAggregatedStep("poll");
+            lifecycle.startStep(new StepResult().setName("request"));
+            lifecycle.stopStep();
+            invocation.stop(index % 4 == 3 ? new IllegalStateException("attempt " + index) : null);
+        }
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+
+        final ArgumentCaptor<TestResult> captor = forClass(TestResult.class);
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue().getSteps())
+                .singleElement()
+                .satisfies(step -> {
+                    assertThat(step.getName()).isEqualTo("poll");
+                    assertThat(step.getStatus()).isEqualTo(Status.BROKEN);
+                    assertThat(step.getStage()).isEqualTo(Stage.FINISHED);
+                    assertThat(step.getParameters())
+                            .extracting(Parameter::getName)
+                            .containsExactly("invocations", "failures", "min", "mean", "p50", "p99", "max");
+                    assertThat(step.getParameters())
+                            .extracting(Parameter::getName, Parameter::getValue)
+                            .contains(tuple("invocations", "10"), tuple("failures", "2"));
+                    assertThat(step.getSteps())
+                            .filteredOn(child -> "poll".equals(child.getName()))
+                            .extracting(child -> child.getStatusDetails().getMessage())
+                            .containsExactly("attempt 3", "attempt 7");
+                });
+    }
+
+    private void runTestWithAttachments(final Status status) {
+        final AllureExternalKey testKey = testKey(randomId());
+        lifecycle.scheduleTest(testKey, new TestResult().setName(randomName()));
+        lifecycle.startTest(testKey);
+        lifecycle.startStep(new StepResult().setName("outer"));
+        lifecycle.startStep(new StepResult().setName("inner"));
+        lifecycle.stopStep();
+        lifecycle.addAttachmentStep("screenshot", "image/png", new ByteArrayInputStream(new byte[]{1}), null);
+        lifecycle.stopStep();
+        lifecycle.addAttachment("log", "text/plain", new ByteArrayInputStream(new byte[]{2}), null);
+        final CompletableFuture<InputStream> body = new CompletableFuture<>();
+        lifecycle.addAttachmentStepAsync("async attachment", "text/plain", body, null);
+        CompletableFuture.runAsync(() -> body.complete(new ByteArrayInputStream(new byte[]{3})));
+        lifecycle.updateTest(testKey, result -> result.setStatus(status));
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+    }
+
     private AllureExternalKey scopeKey(final String uuid) {
         return AllureExternalKey.of(AllureLifecycleTest.class, SCOPE_KEY_NAMESPACE, uuid);
     }
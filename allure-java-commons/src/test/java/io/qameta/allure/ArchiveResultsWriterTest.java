@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static io.qameta.allure.FileSystemResultsWriter.generateTestResultContainerName;
+import static io.qameta.allure.FileSystemResultsWriter.generateTestResultName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveResultsWriterTest {
+
+    @Test
+    void shouldWriteResultsAndAttachmentsIntoOneArchive(@TempDir final Path folder,
+                                                         @TempDir final Path artifacts) throws IOException {
+        final ArchiveResultsWriter writer = new ArchiveResultsWriter(folder);
+        final String testUuid = UUID.randomUUID().toString();
+        final String containerUuid = UUID.randomUUID().toString();
+        final Path artifact = Files.writeString(artifacts.resolve("video.webm"), "video body");
+
+        writer.write(new TestResult().setUuid(testUuid).setName("archived"));
+        writer.write(new TestResultContainer().setUuid(containerUuid).setChildren(List.of(testUuid)));
+        writer.write("stream-attachment.txt", content("stream body"));
+        writer.write("file-attachment.webm", artifact);
+        writer.close();
+
+        assertThat(listFiles(folder))
+                .containsExactly(writer.getArchive());
+        try (ZipFile zip = new ZipFile(writer.getArchive().toFile())) {
+            assertThat(Collections.list(zip.entries()))
+                    .extracting(ZipEntry::getName)
+                    .containsExactly(
+                            generateTestResultName(testUuid),
+                            generateTestResultContainerName(containerUuid),
+                            "stream-attachment.txt",
+                            "file-attachment.webm"
+                    );
+            assertThat(read(zip, generateTestResultName(testUuid)))
+                    .contains("\"name\":\"archived\"");
+            assertThat(read(zip, "stream-attachment.txt"))
+                    .isEqualTo("stream body");
+            assertThat(read(zip, "file-attachment.webm"))
+                    .isEqualTo("video body");
+        }
+    }
+
+    @Test
+    void shouldKeepArchiveUnfinishedUntilClosed(@TempDir final Path folder) throws IOException {
+        final ArchiveResultsWriter writer = new ArchiveResultsWriter(folder);
+        writer.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+        writer.flush();
+
+        assertThat(writer.getArchive())
+                .doesNotExist();
+        assertThat(listFiles(folder))
+                .singleElement()
+                .satisfies(file -> assertThat(file.getFileName().toString()).endsWith(".zip.part"));
+
+        writer.close();
+        assertThat(listFiles(folder))
+                .containsExactly(writer.getArchive());
+    }
+
+    @Test
+    void shouldNotCreateArchiveWithoutWrites(@TempDir final Path folder) throws IOException {
+        final ArchiveResultsWriter writer = new ArchiveResultsWriter(folder);
+        writer.close();
+
+        assertThat(listFiles(folder))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldFailToWriteAfterClose(@TempDir final Path folder) {
+        final ArchiveResultsWriter writer = new ArchiveResultsWriter(folder);
+        writer.close();
+
+        assertThatThrownBy(() -> writer.write(new TestResult().setUuid(UUID.randomUUID().toString())))
+                .isInstanceOf(AllureResultsWriteException.class)
+                .hasMessage("Could not write Allure test result");
+    }
+
+    @Test
+    void shouldCreateSeparateArchivesPerWriter(@TempDir final Path folder) throws IOException {
+        final ArchiveResultsWriter first = new ArchiveResultsWriter(folder);
+        final ArchiveResultsWriter second = new ArchiveResultsWriter(folder);
+        first.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+        second.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+        first.close();
+        second.close();
+
+        assertThat(listFiles(folder))
+                .containsExactlyInAnyOrder(first.getArchive(), second.getArchive());
+    }
+
+    @Test
+    void shouldWriteEntriesFromSeveralThreads(@TempDir final Path folder) throws Exception {
+        final ArchiveResultsWriter writer = new ArchiveResultsWriter(folder);
+        final int threads = 8;
+        final int resultsPerThread = 100;
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < resultsPerThread; j++) {
+                    final String uuid = UUID.randomUUID().toString();
+                    writer.write(uuid + "-attachment.txt", content(uuid));
+                    writer.write(new TestResult().setUuid(uuid));
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : service.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            service.shutdown();
+        }
+        writer.close();
+
+        try (ZipFile zip = new ZipFile(writer.getArchive().toFile())) {
+            assertThat(zip.size())
+                    .isEqualTo(threads * resultsPerThread * 2);
+        }
+    }
+
+    @Test
+    void shouldBeClosedByAsyncWriter(@TempDir final Path folder) throws IOException {
+        final ArchiveResultsWriter delegate = new ArchiveResultsWriter(folder);
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate);
+        writer.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+        writer.close();
+
+        try (ZipFile zip = new ZipFile(delegate.getArchive().toFile())) {
+            assertThat(zip.size())
+                    .isEqualTo(1);
+        }
+    }
+
+    private static ByteArrayInputStream content(final String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(final ZipFile zip, final String name) throws IOException {
+        return new String(zip.getInputStream(zip.getEntry(name)).readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static List<Path> listFiles(final Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.test.AllureResultsWriterStub;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static io.qameta.allure.FileSystemResultsWriter.generateTestResultName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncResultsWriterTest {
+
+    @Test
+    void shouldWriteAllPendingResultsOnClose() {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate, 4, 2, 3);
+        for (int index = 0; index < 100; index++) {
+            writer.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+        }
+        writer.write(new TestResultContainer().setUuid(UUID.randomUUID().toString()));
+        writer.close();
+
+        assertThat(delegate.getTestResults())
+                .hasSize(100);
+        assertThat(delegate.getTestResultContainers())
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldWriteAttachmentsBeforeResultsThatFollowThem() {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final AllureResultsWriter delegate = new RecordingWriter(order);
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate, 16, 4, 1);
+        for (int index = 0; index < 20; index++) {
+            writer.write("a" + index + "-attachment.txt", content("body"));
+            writer.write(new TestResult().setUuid("r" + index));
+        }
+        writer.close();
+
+        for (int index = 0; index < 20; index++) {
+            assertThat(order.indexOf("a" + index + "-attachment.txt"))
+                    .isNotNegative()
+                    .isLessThan(order.indexOf("r" + index));
+        }
+    }
+
+    @Test
+    void shouldRunWrittenCallbackOnceDelegateWroteResult() {
+        final List<String> order = new CopyOnWriteArrayList<>();
+        final AsyncResultsWriter writer = new AsyncResultsWriter(new RecordingWriter(order), 16, 2, 4);
+        for (int index = 0; index < 20; index++) {
+            final String uuid = "r" + index;
+            writer.write(new TestResult().setUuid(uuid), () -> order.add("written " + uuid));
+        }
+        writer.close();
+
+        for (int index = 0; index < 20; index++) {
+            assertThat(order.indexOf("r" + index))
+                    .isNotNegative()
+                    .isLessThan(order.indexOf("written r" + index));
+        }
+    }
+
+    @Test
+    void shouldWriteExternalStreamsOnCallingThread() {
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final AllureResultsWriter delegate = new RecordingWriter(new CopyOnWriteArrayList<>()) {
+            @Override
+            public void write(final String source, final InputStream attachment) {
+                threads.add(Thread.currentThread().getName());
+            }
+        };
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate);
+        writer.write("memory-attachment.txt", content("body"));
+        writer.write("stream-attachment.txt", InputStream.nullInputStream());
+        writer.close();
+
+        assertThat(threads)
+                .hasSize(2)
+                .contains(Thread.currentThread().getName())
+                .anyMatch(name -> name.startsWith("allure-results-writer-"));
+    }
+
+    @Test
+    void shouldBlockCallerWhenQueueIsFull() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub() {
+            @Override
+            public void write(final TestResult testResult) {
+                awaitUninterruptibly(release);
+                super.write(testResult);
+            }
+        };
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate, 1, 1, 1);
+        final CountDownLatch written = new CountDownLatch(1);
+        final Thread producer = new Thread(() -> {
+            for (int index = 0; index < 4; index++) {
+                writer.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+            }
+            written.countDown();
+        });
+        producer.start();
+
+        assertThat(written.await(200, TimeUnit.MILLISECONDS))
+                .isFalse();
+
+        release.countDown();
+        assertThat(written.await(10, TimeUnit.SECONDS))
+                .isTrue();
+        writer.close();
+        assertThat(delegate.getTestResults())
+                .hasSize(4);
+    }
+
+    @Test
+    void shouldNotDeadlockWhenResultIsQueuedBeforePendingAttachment() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub() {
+            @Override
+            public void write(final TestResult testResult) {
+                if ("first".equals(testResult.getUuid())) {
+                    started.countDown();
+                    awaitUninterruptibly(release);
+                }
+                super.write(testResult);
+            }
+        };
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate, 1, 1, 4);
+        writer.write(new TestResult().setUuid("first"));
+        started.await();
+        writer.write(new TestResult().setUuid("queued"));
+        final Thread attachment = new Thread(() -> writer.write("blocked-attachment.txt", content("body")));
+        attachment.start();
+        awaitBlocked(attachment);
+        final Thread result = new Thread(() -> writer.write(new TestResult().setUuid("racing")));
+        result.start();
+        awaitBlocked(result);
+
+        release.countDown();
+        attachment.join(TimeUnit.SECONDS.toMillis(10));
+        result.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(attachment.isAlive() || result.isAlive())
+                .isFalse();
+        writer.close();
+        assertThat(delegate.getTestResults())
+                .hasSize(3);
+        assertThat(delegate.getAttachments())
+                .containsKey("blocked-attachment.txt");
+    }
+
+    @Test
+    void shouldWriteOnCallingThreadAfterClose() {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate);
+        writer.close();
+
+        writer.write(new TestResult().setUuid(UUID.randomUUID().toString()));
+
+        assertThat(delegate.getTestResults())
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldFlushFileSystemWriterInBatches(@TempDir final Path folder) {
+        final FileSystemResultsWriter delegate = new FileSystemResultsWriter(
+                folder, FileSystemResultsWriter.Durability.BATCH
+        );
+        final AsyncResultsWriter writer = new AsyncResultsWriter(delegate);
+        final String uuid = UUID.randomUUID().toString();
+        writer.write(new TestResult().setUuid(uuid));
+        writer.close();
+
+        assertThat(folder.resolve(generateTestResultName(uuid)))
+                .isRegularFile();
+    }
+
+    private static ByteArrayInputStream content(final String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitBlocked(final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingWriter implements AllureResultsWriter {
+
+        private final List<String> order;
+
+        RecordingWriter(final List<String> order) {
+            this.order = order;
+        }
+
+        @Override
+        public void write(final TestResult testResult) {
+            order.add(testResult.getUuid());
+        }
+
+        @Override
+        public void write(final TestResultContainer testResultContainer) {
+            order.add(testResultContainer.getUuid());
+        }
+
+        @Override
+        public void write(final String source, final InputStream attachment) {
+            try {
+                // give result writes on other threads a chance to overtake this attachment
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            order.add(source);
+        }
+    }
+}
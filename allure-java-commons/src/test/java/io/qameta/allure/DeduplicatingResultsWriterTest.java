@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.listener.LifecycleNotifier;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.test.AllureResultsWriterStub;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeduplicatingResultsWriterTest {
+
+    @Test
+    void shouldPointDuplicateAttachmentsAtFirstCopy(@TempDir final Path spool) {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final DeduplicatingResultsWriter writer = new DeduplicatingResultsWriter(delegate, spool);
+        final TestResult result = new TestResult().setUuid("test");
+        result.getAttachments().add(attachment("a-attachment.png"));
+        result.getSteps().add(new StepResult().setAttachments(List.of(attachment("b-attachment.png"))));
+
+        writer.write("a-attachment.png", content("screenshot"));
+        writer.write("b-attachment.png", content("screenshot"));
+        writer.write(result);
+
+        assertThat(delegate.getAttachments())
+                .containsOnlyKeys("a-attachment.png");
+        assertThat(result.getSteps().get(0).getAttachments())
+                .extracting(Attachment::getSource)
+                .containsExactly("a-attachment.png");
+    }
+
+    @Test
+    void shouldKeepAttachmentsWithDifferentContentOrExtension(@TempDir final Path spool) {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final DeduplicatingResultsWriter writer = new DeduplicatingResultsWriter(delegate, spool);
+
+        writer.write("a-attachment.txt", content("first"));
+        writer.write("b-attachment.txt", content("second"));
+        writer.write("c-attachment.html", content("first"));
+
+        assertThat(delegate.getAttachments())
+                .containsOnlyKeys("a-attachment.txt", "b-attachment.txt", "c-attachment.html");
+    }
+
+    @Test
+    void shouldDeduplicateStreamedAndFileAttachments(@TempDir final Path spool,
+                                                     @TempDir final Path artifacts) throws IOException {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final DeduplicatingResultsWriter writer = new DeduplicatingResultsWriter(delegate, spool);
+        final Path artifact = Files.writeString(artifacts.resolve("page.html"), "<html/>");
+        final FixtureResult fixture = new FixtureResult();
+        fixture.getAttachments().add(attachment("b-attachment.html"));
+        fixture.getAttachments().add(attachment("c-attachment.html"));
+
+        writer.write("a-attachment.html", new NonBufferedStream("<html/>"));
+        writer.write("b-attachment.html", new NonBufferedStream("<html/>"));
+        writer.write("c-attachment.html", artifact);
+        writer.write(new TestResultContainer().setBefores(List.of(fixture)));
+
+        assertThat(delegate.getAttachments())
+                .containsOnlyKeys("a-attachment.html");
+        assertThat(new String(delegate.getAttachments().get("a-attachment.html"), StandardCharsets.UTF_8))
+                .isEqualTo("<html/>");
+        assertThat(fixture.getAttachments())
+                .extracting(Attachment::getSource)
+                .containsExactly("a-attachment.html", "a-attachment.html");
+        assertThat(listFiles(spool))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldStopIndexingWhenFull(@TempDir final Path spool) {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final DeduplicatingResultsWriter writer = new DeduplicatingResultsWriter(delegate, spool, 1);
+
+        writer.write("a-attachment.txt", content("first"));
+        writer.write("b-attachment.txt", content("second"));
+        writer.write("c-attachment.txt", content("first"));
+        writer.write("d-attachment.txt", content("second"));
+
+        assertThat(delegate.getAttachments())
+                .containsOnlyKeys("a-attachment.txt", "b-attachment.txt", "d-attachment.txt");
+    }
+
+    @Test
+    void shouldDeduplicateLifecycleAttachments(@TempDir final Path spool) {
+        final AllureResultsWriterStub delegate = new AllureResultsWriterStub();
+        final AllureLifecycle lifecycle = new AllureLifecycle(new DeduplicatingResultsWriter(delegate, spool));
+        final AllureExternalKey key = AllureExternalKey.random(DeduplicatingResultsWriterTest.class);
+        lifecycle.scheduleTest(key, new TestResult().setName("test"));
+        lifecycle.startTest(key);
+        for (int i = 0; i < 3; i++) {
+            lifecycle.addAttachmentStep("Stdout", "text/plain", content("same output"), null);
+        }
+        lifecycle.stopTest(key);
+        lifecycle.writeTest(key);
+
+        assertThat(delegate.getAttachments())
+                .hasSize(1);
+        assertThat(delegate.getTestResults().get(0).getSteps())
+                .flatExtracting(StepResult::getAttachments)
+                .extracting(Attachment::getSource)
+                .containsOnly(delegate.getAttachments().keySet().iterator().next())
+                .hasSize(3);
+    }
+
+    @Test
+    void shouldResolveAliasesOfSpilledSteps(@TempDir final Path spool, @TempDir final Path folder)
+            throws IOException {
+        final AllureLifecycle lifecycle = new AllureLifecycle(
+                new DeduplicatingResultsWriter(new FileSystemResultsWriter(folder), spool),
+                new LifecycleNotifier(List.of(), List.of(), List.of(), List.of()), null, -1, 1
+        );
+        final String uuid = UUID.randomUUID().toString();
+        final AllureExternalKey key = AllureExternalKey.random(DeduplicatingResultsWriterTest.class);
+        lifecycle.scheduleTest(key, new TestResult().setUuid(uuid).setName("test"));
+        lifecycle.startTest(key);
+        for (int i = 0; i < 3; i++) {
+            lifecycle.startStep(new StepResult().setName("step " + i));
+            lifecycle.addAttachmentStep("Stdout", "text/plain", content("same output"), null);
+            lifecycle.stopStep();
+        }
+        lifecycle.stopTest(key);
+        lifecycle.writeTest(key);
+
+        final TestResult written = Allure2ModelJackson.createMapper()
+                .readValue(folder.resolve(FileSystemResultsWriter.generateTestResultName(uuid)).toFile(),
+                        TestResult.class);
+        assertThat(written.getSteps())
+                .flatExtracting(StepResult::getSteps)
+                .flatExtracting(StepResult::getAttachments)
+                .extracting(Attachment::getSource)
+                .hasSize(3)
+                .allSatisfy(source -> assertThat(folder.resolve(source)).isRegularFile());
+    }
+
+    private static Attachment attachment(final String source) {
+        return new Attachment().setName(source).setSource(source);
+    }
+
+    private static ByteArrayInputStream content(final String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Path> listFiles(final Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A stream that is not held in memory, so the writer has to spool it.
+     */
+    private static final class NonBufferedStream extends InputStream {
+
+        private final InputStream content;
+
+        private NonBufferedStream(final String value) {
+            this.content = content(value);
+        }
+
+        @Override
+        public int read() throws IOException {
+            return content.read();
+        }
+    }
+}
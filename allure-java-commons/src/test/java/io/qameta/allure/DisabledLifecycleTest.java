@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure;
+
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisabledLifecycleTest {
+
+    @Test
+    void shouldIgnoreEveryCall() {
+        final AllureLifecycle lifecycle = new DisabledLifecycle();
+        final AllureExternalKey testKey = AllureExternalKey.random(DisabledLifecycleTest.class);
+
+        lifecycle.scheduleTest(testKey, new TestResult().setName("test"));
+        lifecycle.startTest(testKey);
+        lifecycle.startStep(new StepResult().setName("step"));
+        lifecycle.addAttachment("body", "text/plain",
+                new ByteArrayInputStream("body".getBytes(StandardCharsets.UTF_8)),
+                AttachmentOptions.withFileExtension(".txt"));
+        lifecycle.startAggregatedStep("poll").stop();
+
+        assertThat(lifecycle.getCurrentExecutableKey())
+                .isEmpty();
+        assertThat(lifecycle.getCurrentRootKey())
+                .isEmpty();
+
+        lifecycle.stopStep();
+        lifecycle.stopTest(testKey);
+        lifecycle.writeTest(testKey);
+    }
+}
@@ -93,6 +93,20 @@ public class FileSystemResultsWriterTest {
                 .contains("\"child\"");
     }
 
+    @Test
+    void shouldWriteEmptyArraysForUntouchedCollections(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
+        final String uuid = UUID.randomUUID().toString();
+
+        writeTestResult(writer, new TestResult().setUuid(uuid));
+
+        assertThat(Files.readString(folder.resolve(generateTestResultName(uuid))))
+                .contains("\"labels\":[]")
+                .contains("\"steps\":[]")
+                .contains("\"attachments\":[]")
+                .contains("\"parameters\":[]");
+    }
+
     @Test
     void shouldWriteStatusDetailsActualAndExpected(@TempDir final Path folder) throws IOException {
         FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
@@ -125,6 +139,32 @@ public class FileSystemResultsWriterTest {
                 .isEqualTo(content);
     }
 
+    @Test
+    void shouldWriteAttachmentContent(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
+        final String source = "content-attachment.txt";
+
+        writer.write(source, output -> output.write("streamed body".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(Files.readString(folder.resolve(source)))
+                .isEqualTo("streamed body");
+    }
+
+    @Test
+    void shouldNotCreateFinalAttachmentFileWhenContentFails(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
+        final AttachmentContent content = output -> {
+            output.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Simulated attachment content failure");
+        };
+
+        assertThatThrownBy(() -> writer.write("broken-content.txt", content))
+                .isInstanceOf(AllureResultsWriteException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(listFiles(folder))
+                .isEmpty();
+    }
+
     @Test
     void shouldNotCreateFinalAttachmentFileWhenStreamFails(@TempDir final Path folder) throws IOException {
         FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
@@ -142,6 +182,60 @@ public class FileSystemResultsWriterTest {
                 .isEmpty();
     }
 
+    @Test
+    void shouldWriteAttachmentFromFile(@TempDir final Path folder, @TempDir final Path artifacts) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder.resolve("results"));
+        final Path artifact = Files.writeString(artifacts.resolve("video.webm"), "video body");
+        final String source = "file-attachment.webm";
+
+        writer.write(source, artifact);
+        Files.delete(artifact);
+
+        assertThat(Files.readString(folder.resolve("results").resolve(source)))
+                .isEqualTo("video body");
+        assertThat(listFiles(folder.resolve("results")))
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldNotShareAttachmentFileWithCaller(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
+        final Path artifact = Files.writeString(folder.resolve("trace.zip"), "first trace");
+        final String source = "trace-attachment.zip";
+
+        writer.write(source, artifact);
+        Files.writeString(artifact, "second trace");
+
+        assertThat(Files.readString(folder.resolve(source)))
+                .isEqualTo("first trace");
+    }
+
+    @Test
+    void shouldWriteTemporaryAttachmentFile(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder.resolve("results"));
+        final Path spooled = Files.writeString(folder.resolve("spooled.tmp"), "spooled body");
+        final String source = "spooled-attachment.txt";
+
+        writer.writeTemporary(source, spooled);
+        Files.delete(spooled);
+
+        assertThat(Files.readString(folder.resolve("results").resolve(source)))
+                .isEqualTo("spooled body");
+        assertThat(listFiles(folder.resolve("results")))
+                .hasSize(1);
+    }
+
+    @Test
+    void shouldFailToWriteMissingAttachmentFile(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder);
+
+        assertThatThrownBy(() -> writer.write("missing-attachment.txt", folder.resolve("missing.txt")))
+                .isInstanceOf(AllureResultsWriteException.class)
+                .hasMessage("Could not write Allure attachment");
+        assertThat(listFiles(folder))
+                .isEmpty();
+    }
+
     @Test
     void shouldPreserveExistingResults(@TempDir final Path folder) throws IOException {
         Path existingFile = folder.resolve("existing-result.json");
@@ -156,6 +250,23 @@ public class FileSystemResultsWriterTest {
         assertThat(folder.resolve(generateTestResultName(uuid))).exists();
     }
 
+    @Test
+    void shouldWriteResultsWithoutForcingInBatchMode(@TempDir final Path folder) throws IOException {
+        FileSystemResultsWriter writer = new FileSystemResultsWriter(folder, FileSystemResultsWriter.Durability.BATCH);
+        final String uuid = UUID.randomUUID().toString();
+        writeTestResult(writer, new TestResult().setUuid(uuid));
+        writer.write("batch-attachment.txt", new ByteArrayInputStream("body".getBytes(StandardCharsets.UTF_8)));
+
+        writer.flush();
+
+        assertThat(folder.resolve(generateTestResultName(uuid)))
+                .isRegularFile();
+        assertThat(Files.readString(folder.resolve("batch-attachment.txt")))
+                .isEqualTo("body");
+        assertThat(listFiles(folder))
+                .hasSize(2);
+    }
+
     private static void writeTestResult(final FileSystemResultsWriter writer, final TestResult testResult) {
         Allure.step("Write test result JSON", step -> {
             step.parameter("uuid", testResult.getUuid());
@@ -537,6 +537,32 @@ class ResultsUtilsTest {
         assertThat(details.getExpected()).isEqualTo("expected value");
     }
 
+    @Test
+    void shouldShareRepeatedLabels() {
+        assertThat(ResultsUtils.internLabel("framework", "junit-platform"))
+                .isSameAs(ResultsUtils.internLabel("framework", "junit-platform"))
+                .isNotSameAs(ResultsUtils.internLabel("framework", "testng"));
+    }
+
+    @Test
+    void shouldCreateNewLabelsAndLinks() {
+        assertThat(ResultsUtils.createHostLabel())
+                .isNotSameAs(ResultsUtils.createHostLabel());
+        assertThat(ResultsUtils.createFrameworkLabel("junit-platform"))
+                .isNotSameAs(ResultsUtils.internLabel("framework", "junit-platform"));
+        assertThat(ResultsUtils.createIssueLink("ISSUE-1"))
+                .isNotSameAs(ResultsUtils.createIssueLink("ISSUE-1"));
+    }
+
+    @Test
+    void shouldShareLinksWithSameNameUrlAndType() {
+        assertThat(ResultsUtils.internLink("a", "https://example.test/a", "custom"))
+                .isSameAs(ResultsUtils.internLink("a", "https://example.test/a", "custom"))
+                .isNotSameAs(ResultsUtils.internLink("a", "https://example.test/a", "other"));
+        assertThat(ResultsUtils.internLink(ResultsUtils.createLink("a", null, "https://example.test/a", "custom")))
+                .isSameAs(ResultsUtils.internLink("a", "https://example.test/a", "custom"));
+    }
+
     private static io.qameta.allure.model.Link createLinkFor(final String scenario,
                                                              final Supplier<io.qameta.allure.model.Link> factory) {
         return step(
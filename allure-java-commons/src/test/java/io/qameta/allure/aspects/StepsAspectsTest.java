@@ -367,6 +367,37 @@ class StepsAspectsTest {
                                          mode = Parameter.Mode.HIDDEN
                                  ) final String hidden) {
     }
+    @Test
+    void shouldAggregateRepeatedAnnotatedSteps() {
+        final AllureResults results = runWithinTestContext(() -> {
+            for (int index = 0; index < 50; index++) {
+                try {
+                    pollStep(index == 10);
+                } catch (AssertionError ignored) {
+                    // the aggregated step records the failure
+                }
+            }
+        });
+
+        final StepResult step = results.getTestResults().get(0).getSteps().get(0);
+        assertThat(results.getTestResults().get(0).getSteps())
+                .hasSize(1);
+        assertThat(step.getName()).isEqualTo("Poll");
+        assertThat(step.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(step.getParameters())
+                .extracting(Parameter::getName, Parameter::getValue)
+                .contains(tuple("invocations", "50"), tuple("failures", "1"));
+        assertThat(step.getSteps())
+                .extracting(StepResult::getName, StepResult::getStatus)
+                .containsExactly(tuple("Poll", Status.FAILED));
+    }
+
+    @Step(value = "Poll", aggregate = true)
+    void pollStep(final boolean fail) {
+        if (fail) {
+            throw new AssertionError("not ready");
+        }
+    }
 
     @Step
     void stepWithDefaultName() {
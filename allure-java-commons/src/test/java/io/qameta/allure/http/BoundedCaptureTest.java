@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCaptureTest {
+
+    @Test
+    void shouldKeepAtMostLimitAndCountEveryByte() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(5);
+        try (InputStream input = capture.tee(stream("Hello world!"))) {
+            assertThat(input.readAllBytes())
+                    .hasSize(12);
+        }
+
+        assertThat(capture.toByteArray())
+                .isEqualTo("Hello".getBytes(StandardCharsets.UTF_8));
+        assertThat(capture.size())
+                .isEqualTo(12);
+        assertThat(capture.isComplete())
+                .isTrue();
+        assertThat(capture.isTruncated())
+                .isTrue();
+    }
+
+    @Test
+    void shouldReplayReadAheadBytesBeforeRestOfBody() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(5);
+        final InputStream replay = capture.readAhead(stream("Hello world!"));
+
+        final HttpExchangeBody body = capture.toBody("text/plain", StandardCharsets.UTF_8);
+        assertThat(body.value())
+                .isEqualTo("Hello");
+        assertThat(body.size())
+                .isNull();
+        assertThat(body.truncated())
+                .isTrue();
+        try (InputStream input = replay) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("Hello world!");
+        }
+    }
+
+    @Test
+    void shouldCompleteReadAheadWhenBodyFitsLimit() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(16);
+        final InputStream replay = capture.readAhead(stream("Hello"));
+
+        final HttpExchangeBody body = capture.toBody(null, StandardCharsets.UTF_8);
+        assertThat(body.value())
+                .isEqualTo("Hello");
+        assertThat(body.size())
+                .isEqualTo(5);
+        assertThat(body.truncated())
+                .isNull();
+        assertThat(replay.readAllBytes())
+                .isEqualTo("Hello".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldMarkBodyCompleteWhenOutputTeeIsClosed() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(1024);
+        try (OutputStream output = capture.tee(OutputStream.nullOutputStream())) {
+            output.write("payload".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(capture.toBody(null, StandardCharsets.UTF_8).size())
+                .isEqualTo(7);
+    }
+
+    @Test
+    void shouldDropCharacterCutOffByLimit() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(6);
+        capture.write("héllo".getBytes(StandardCharsets.UTF_8), 0, 6);
+        capture.write("é".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(capture.decode(StandardCharsets.UTF_8))
+                .isEqualTo("héllo");
+    }
+
+    @Test
+    void shouldDecodeWithCharsetOfContentType() {
+        final Charset latin1 = BoundedCapture.charsetOf("text/plain; charset=ISO-8859-1");
+        final BoundedCapture capture = new BoundedCapture(16);
+        capture.write("café".getBytes(StandardCharsets.ISO_8859_1), 0, 4);
+        capture.close();
+
+        assertThat(latin1)
+                .isEqualTo(StandardCharsets.ISO_8859_1);
+        assertThat(capture.decode(latin1))
+                .isEqualTo("café");
+        assertThat(BoundedCapture.charsetOf("application/json"))
+                .isEqualTo(StandardCharsets.UTF_8);
+        assertThat(BoundedCapture.charsetOf("text/plain; charset=unknown-charset"))
+                .isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream stream(final String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
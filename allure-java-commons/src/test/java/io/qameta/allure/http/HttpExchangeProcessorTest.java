@@ -17,6 +17,10 @@ package io.qameta.allure.http;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -194,4 +198,72 @@ class HttpExchangeProcessorTest {
                     .doesNotContain("\"truncated\":true");
         });
     }
+
+    @Test
+    void shouldStreamSameJsonAsByteSerialization() throws IOException {
+        final HttpExchange exchange = HttpExchange.builder()
+                .request("POST", "https://example.test/api", request -> request
+                        .setBody(HttpExchangeBody.utf8("{\"name\":\"caf\u00e9\"}")))
+                .response(response -> response
+                        .setStatus(201)
+                        .setBody(HttpExchangeBody.utf8("created")))
+                .build();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final OutputStream guarded = new OutputStream() {
+            @Override
+            public void write(final int b) {
+                output.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                output.write(b, off, len);
+            }
+
+            @Override
+            public void close() {
+                throw new IllegalStateException("the serializer must leave the output open");
+            }
+        };
+
+        HttpExchangeSerializer.writeTo(exchange, guarded);
+
+        assertThat(output.toByteArray())
+                .isEqualTo(HttpExchangeSerializer.toJsonBytes(exchange));
+    }
+
+    @Test
+    void shouldKeepUnknownSizeOfBodyTruncatedByCapture() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(5);
+        capture.readAhead(new ByteArrayInputStream("Hello world!".getBytes(StandardCharsets.UTF_8))).close();
+
+        final HttpExchange exchange = HttpExchange.builder()
+                .setMaxBodySize(5)
+                .request("POST", "https://example.test/api", request -> request
+                        .setBody(capture.toBody("text/plain", StandardCharsets.UTF_8)))
+                .build();
+
+        assertThat(exchange.request().body())
+                .hasFieldOrPropertyWithValue("value", "Hello")
+                .hasFieldOrPropertyWithValue("size", null)
+                .hasFieldOrPropertyWithValue("truncated", true);
+    }
+
+    @Test
+    void shouldNotTruncateCapturedBodyAgainInUtf8() throws IOException {
+        final BoundedCapture capture = new BoundedCapture(5);
+        capture.write("\u00e9t\u00e9s".getBytes(StandardCharsets.ISO_8859_1));
+        capture.close();
+
+        final HttpExchange exchange = HttpExchange.builder()
+                .setMaxBodySize(5)
+                .request("POST", "https://example.test/api", request -> request
+                        .setBody(capture.toBody("text/plain; charset=ISO-8859-1", StandardCharsets.ISO_8859_1)))
+                .build();
+
+        assertThat(exchange.request().body())
+                .hasFieldOrPropertyWithValue("value", "\u00e9t\u00e9s")
+                .hasFieldOrPropertyWithValue("size", 4L)
+                .hasFieldOrPropertyWithValue("truncated", null);
+    }
 }
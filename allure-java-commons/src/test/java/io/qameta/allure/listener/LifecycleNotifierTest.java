@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.listener;
+
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LifecycleNotifierTest {
+
+    @Test
+    void shouldNotifyObserversOnCallingThreadByDefault() {
+        final RecordingObserver observer = new RecordingObserver();
+        final LifecycleNotifier notifier = new LifecycleNotifier(List.of(), List.of(observer), List.of(), List.of());
+
+        notifier.afterTestStart(new TestResult().setName("test"));
+
+        assertThat(observer.events)
+                .containsExactly("test");
+        assertThat(observer.threads)
+                .containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldNotifyObserversAsynchronouslyWithSnapshots() {
+        final RecordingObserver observer = new RecordingObserver();
+        final List<String> listenerEvents = new CopyOnWriteArrayList<>();
+        final TestLifecycleListener listener = new TestLifecycleListener() {
+            @Override
+            public void afterTestStart(final TestResult result) {
+                listenerEvents.add(Thread.currentThread().getName());
+            }
+        };
+        final LifecycleNotifier notifier = new LifecycleNotifier(
+                List.of(), List.of(listener, observer), List.of(), List.of(), true
+        );
+
+        final TestResult result = new TestResult().setName("first");
+        notifier.afterTestStart(result);
+        result.setName("second");
+        notifier.afterTestStart(result);
+        notifier.flushObservers();
+
+        assertThat(listenerEvents)
+                .containsExactly(Thread.currentThread().getName(), Thread.currentThread().getName());
+        assertThat(observer.events)
+                .containsExactly("first", "second");
+        assertThat(observer.threads)
+                .containsOnly("allure-lifecycle-observers");
+    }
+
+    @Test
+    void shouldCopyStepsForObserversOnlyOnceTestIsWritten() {
+        final RecordingObserver observer = new RecordingObserver();
+        final LifecycleNotifier notifier = new LifecycleNotifier(
+                List.of(), List.of(observer), List.of(), List.of(), true
+        );
+
+        final TestResult result = new TestResult().setName("test");
+        result.getSteps().add(new StepResult().setName("step"));
+        notifier.afterTestStop(result);
+        notifier.afterTestWrite(result);
+        result.getSteps().get(0).setName("changed");
+        notifier.flushObservers();
+
+        assertThat(observer.steps)
+                .containsExactly(List.of(), List.of("step"));
+    }
+
+    @Test
+    void shouldIgnoreEventsWithoutListeners() {
+        final LifecycleNotifier notifier = new LifecycleNotifier(List.of(), List.of(), List.of(), List.of(), true);
+
+        notifier.beforeStepStart(new StepResult());
+        notifier.flushObservers();
+    }
+
+    private static final class RecordingObserver implements TestLifecycleListener, LifecycleObserver {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        private final List<List<String>> steps = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void afterTestStart(final TestResult result) {
+            events.add(result.getName());
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void afterTestStop(final TestResult result) {
+            steps.add(stepNames(result));
+        }
+
+        @Override
+        public void afterTestWrite(final TestResult result) {
+            steps.add(stepNames(result));
+        }
+
+        private static List<String> stepNames(final TestResult result) {
+            return result.getSteps().stream()
+                    .map(StepResult::getName)
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +44,54 @@ class TestPlanV1_0Test {
                 .isFalse();
     }
 
+    @Test
+    void shouldSelectEveryTestWhenPlanHasNoTests() {
+        final TestPlanV1_0 plan = new TestPlanV1_0();
+
+        assertThat(plan.index().isUnrestricted())
+                .isTrue();
+        assertThat(plan.isSelected(null, "pkg.Test#name"))
+                .isTrue();
+    }
+
+    @Test
+    void shouldMatchIndexByIdOrAnySelector() {
+        final TestPlanIndex index = TestPlanIndex.of(
+                Arrays.asList(
+                        new TestPlanV1_0.TestCase().setId("A-1"),
+                        null,
+                        new TestPlanV1_0.TestCase().setSelector("[engine:junit-jupiter]/[method:name()]")
+                )
+        );
+
+        assertThat(index.isSelected("A-1", "other.Test#name"))
+                .isTrue();
+        assertThat(index.isSelected(null, null, "[engine:junit-jupiter]/[method:name()]"))
+                .isTrue();
+        assertThat(index.isSelected(null, "other.Test#name", null))
+                .isFalse();
+        assertThat(index.isUnrestricted())
+                .isFalse();
+    }
+
+    @Test
+    void shouldRebuildIndexWhenTestsAreReplaced() {
+        final TestPlanV1_0 plan = new TestPlanV1_0().setTests(
+                List.of(new TestPlanV1_0.TestCase().setId("A-1"))
+        );
+        final TestPlanIndex index = plan.index();
+
+        assertThat(plan.index())
+                .isSameAs(index);
+
+        plan.setTests(List.of(new TestPlanV1_0.TestCase().setId("A-2")));
+
+        assertThat(plan.isSelected("A-1", null))
+                .isFalse();
+        assertThat(plan.isSelected("A-2", null))
+                .isTrue();
+    }
+
     @Test
     void shouldDeserializeVersionedPlans() throws Exception {
         final TestPlan plan = readPlan(
@@ -0,0 +1,148 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.util;
+
+import io.github.glytching.junit.extension.system.SystemProperty;
+import io.github.glytching.junit.extension.system.SystemPropertyExtension;
+import io.qameta.allure.model.Label;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ExtendWith(SystemPropertyExtension.class)
+class AllurePropertiesSnapshotTest {
+
+    @AfterEach
+    void tearDown() {
+        AllurePropertiesSnapshot.invalidate();
+    }
+
+    @Test
+    void shouldReadProvidedLabelsFromPropertiesFile() {
+        assertThat(AllurePropertiesSnapshot.current().getProvidedLabels())
+                .extracting(Label::getName, Label::getValue)
+                .contains(tuple("module", "allure-java-commons"));
+    }
+
+    @SystemProperty(
+            name = "allure.label.module",
+            value = "from-system-property"
+    )
+    @SystemProperty(
+            name = "allure.label.layer",
+            value = "api"
+    )
+    @Test
+    void shouldPreferSystemPropertiesSetAfterLoading() {
+        assertThat(AllurePropertiesSnapshot.current().getProvidedLabels())
+                .extracting(Label::getName, Label::getValue)
+                .contains(tuple("module", "from-system-property"), tuple("layer", "api"))
+                .doesNotContain(tuple("module", "allure-java-commons"));
+    }
+
+    @Test
+    void shouldPickUpLabelSystemPropertiesAddedAfterLoading() {
+        final AllurePropertiesSnapshot snapshot = AllurePropertiesSnapshot.current();
+        System.setProperty("allure.label.added", "later");
+        try {
+            assertThat(snapshot.getProvidedLabels())
+                    .extracting(Label::getName, Label::getValue)
+                    .contains(tuple("added", "later"), tuple("module", "allure-java-commons"));
+        } finally {
+            System.clearProperty("allure.label.added");
+        }
+        assertThat(snapshot.getProvidedLabels())
+                .extracting(Label::getName)
+                .doesNotContain("added");
+    }
+
+    @Test
+    void shouldPickUpLabelSystemPropertiesChangedAfterLoading() {
+        final AllurePropertiesSnapshot snapshot = AllurePropertiesSnapshot.current();
+        System.setProperty("allure.label.changed", "first");
+        try {
+            assertThat(snapshot.getProvidedLabels())
+                    .extracting(Label::getName, Label::getValue)
+                    .contains(tuple("changed", "first"));
+            System.setProperty("allure.label.changed", "second");
+            assertThat(snapshot.getProvidedLabels())
+                    .extracting(Label::getName, Label::getValue)
+                    .contains(tuple("changed", "second"))
+                    .doesNotContain(tuple("changed", "first"));
+        } finally {
+            System.clearProperty("allure.label.changed");
+        }
+    }
+
+    @Test
+    void shouldReturnNewLabelInstancesOnEveryCall() {
+        final AllurePropertiesSnapshot snapshot = AllurePropertiesSnapshot.current();
+        snapshot.getProvidedLabels().forEach(label -> label.setValue("changed"));
+
+        assertThat(snapshot.getProvidedLabels())
+                .extracting(Label::getValue)
+                .doesNotContain("changed");
+    }
+
+    @SystemProperty(
+            name = "allure.link.tms.pattern",
+            value = "https://example.org/tms/{}"
+    )
+    @Test
+    void shouldReadLinkPatterns() {
+        final AllurePropertiesSnapshot snapshot = AllurePropertiesSnapshot.current();
+
+        assertThat(snapshot.getLinkPattern("issue"))
+                .isEqualTo("https://github.com/allure-framework/allure-java/issues/{}");
+        assertThat(snapshot.getLinkPattern("tms"))
+                .isEqualTo("https://example.org/tms/{}");
+        assertThat(snapshot.getLinkPattern("custom"))
+                .isNull();
+    }
+
+    @Test
+    void shouldReloadPropertiesFilesAfterInvalidate(@TempDir final Path folder) throws IOException {
+        Files.writeString(folder.resolve("allure.properties"), "allure.label.reloaded=yes");
+        final AllurePropertiesSnapshot before = AllurePropertiesSnapshot.current();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{folder.toUri().toURL()}, null)) {
+            thread.setContextClassLoader(loader);
+            assertThat(AllurePropertiesSnapshot.current())
+                    .isSameAs(before);
+
+            AllurePropertiesSnapshot.invalidate();
+            final Set<Label> labels = AllurePropertiesSnapshot.current().getProvidedLabels();
+
+            assertThat(labels)
+                    .extracting(Label::getName, Label::getValue)
+                    .contains(tuple("reloaded", "yes"));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+}
@@ -39,6 +39,9 @@ class NamingUtilsTest {
                 Arguments.of("Hello {method}", Collections.singletonMap("method", "world"), "Hello world"),
 
                 Arguments.of("{missing}", Collections.emptyMap(), "{missing}"),
+                Arguments.of("Hello {}", Collections.singletonMap("a", "b"), "Hello {}"),
+                Arguments.of("Hello {user} {", Collections.singletonMap("user", "Ivan"), "Hello Ivan {"),
+                Arguments.of("Price: {price}", Collections.singletonMap("price", "$1\\"), "Price: $1\\"),
                 Arguments.of("Hello {user}!", Collections.singletonMap("user", "Ivan"), "Hello Ivan!"),
                 Arguments.of("Hello {user}", Collections.singletonMap("user", null), "Hello null"),
                 Arguments.of("Hello {users}", Collections.singletonMap("users", Arrays.asList("Ivan", "Petr")), "Hello [Ivan, Petr]"),
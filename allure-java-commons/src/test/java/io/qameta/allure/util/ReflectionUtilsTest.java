@@ -106,6 +106,22 @@ class ReflectionUtilsTest {
         assertThat(value).isNull();
     }
 
+    @Test
+    void shouldReturnNullWhenGetterThrows() {
+        final Object value = getValue(new ThrowingGetterSample(), "value");
+
+        assertThat(value).isNull();
+    }
+
+    @Test
+    void shouldReturnSameResultsForRepeatedLookups() {
+        for (int index = 0; index < 3; index++) {
+            assertThat(getValue(new ChildFieldSample(), "value")).isEqualTo("parent field value");
+            assertThat(getValue(new ChildFieldSample(), "missing")).isNull();
+            assertThat(ReflectionUtils.getBooleanValue(new PrimitiveIsAndGetSample(), "value")).isFalse();
+        }
+    }
+
     private static Object getValue(final Object source, final String name) {
         return Allure.step("Read reflected value", step -> {
             step.parameter("source", source.getClass().getSimpleName());
@@ -180,6 +196,13 @@ class ReflectionUtilsTest {
         private final Boolean value = false;
     }
 
+    static class ThrowingGetterSample {
+
+        public String getValue() {
+            throw new IllegalStateException("getter failure");
+        }
+    }
+
     static class BoxedBooleanIsSample {
 
         public Boolean isValue() {
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StackTraceRendererTest {
+
+    @Test
+    void shouldRenderLikePrintStackTraceWithoutLimits() {
+        final Throwable throwable = nested(3);
+        throwable.addSuppressed(new IllegalArgumentException("suppressed"));
+
+        final StackTraceRenderer renderer = new StackTraceRenderer(0, 0, Collections.emptyList());
+
+        assertThat(renderer.isUnlimited()).isTrue();
+        assertThat(renderer.render(throwable)).isEqualTo(printStackTrace(throwable));
+    }
+
+    @Test
+    void shouldLimitFramesPerThrowable() {
+        final String trace = new StackTraceRenderer(1, 0, Collections.emptyList()).render(nested(0));
+
+        assertThat(trace.lines().filter(line -> line.startsWith("\tat ")))
+                .hasSize(1);
+        assertThat(trace).containsPattern("\t\\.\\.\\. \\d+ frames omitted");
+    }
+
+    @Test
+    void shouldLimitCauses() {
+        final String trace = new StackTraceRenderer(0, 2, Collections.emptyList()).render(nested(5));
+
+        assertThat(trace)
+                .contains("Caused by: java.lang.RuntimeException: level 4")
+                .contains("Caused by: java.lang.RuntimeException: level 3")
+                .doesNotContain("level 2")
+                .contains("... further causes omitted");
+    }
+
+    @Test
+    void shouldFilterFramesByClassNamePrefix() {
+        final String trace = new StackTraceRenderer(0, 0, List.of(StackTraceRendererTest.class.getName()))
+                .render(nested(0));
+
+        assertThat(trace)
+                .doesNotContain("at " + StackTraceRendererTest.class.getName())
+                .containsPattern("\t\\.\\.\\. \\d+ filtered");
+    }
+
+    @Test
+    void shouldRenderCircularReference() {
+        final RuntimeException first = new RuntimeException("first");
+        final RuntimeException second = new RuntimeException("second", first);
+        first.initCause(second);
+
+        assertThat(new StackTraceRenderer(1, 0, Collections.emptyList()).render(first))
+                .contains("Caused by: java.lang.RuntimeException: second")
+                .contains("[CIRCULAR REFERENCE: java.lang.RuntimeException: first]");
+    }
+
+    private static Throwable nested(final int depth) {
+        if (depth == 0) {
+            return new IllegalStateException("root");
+        }
+        return new RuntimeException("level " + depth, nested(depth - 1));
+    }
+
+    private static String printStackTrace(final Throwable throwable) {
+        final StringWriter writer = new StringWriter();
+        throwable.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
@@ -16,6 +16,7 @@
 package io.qameta.allure.jaxrs;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.http.BoundedCapture;
 import io.qameta.allure.http.HttpExchange;
 import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeNameValue;
@@ -26,12 +27,10 @@ import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
 import jakarta.ws.rs.client.ClientResponseContext;
 import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -66,7 +65,7 @@ public class AllureJaxRs implements ClientRequestFilter, ClientResponseFilter {
     public void filter(final ClientRequestContext requestContext) {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no wasted work
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
 
@@ -92,31 +91,33 @@ public class AllureJaxRs implements ClientRequestFilter, ClientResponseFilter {
     public void filter(final ClientRequestContext requestContext,
                        final ClientResponseContext responseContext)
             throws IOException {
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
 
+        final Object request = requestContext.getProperty(REQUEST_PROPERTY);
+        final Object start = requestContext.getProperty(START_PROPERTY);
+        final HttpExchange.Builder exchange = exchangeBuilder(
+                request instanceof HttpExchangeRequest captured
+                        ? captured
+                        : HttpExchangeRequest.builder(
+                                requestContext.getMethod(),
+                                requestContext.getUri().toString()
+                        ).build()
+        );
+
         final HttpExchangeResponse.Builder responseBuilder = HttpExchangeResponse.builder()
                 .setStatus(responseContext.getStatus())
                 .setStatusText(responseContext.getStatusInfo().getReasonPhrase())
                 .addHeaders(toNameValues(responseContext.getHeaders()));
 
         if (Objects.nonNull(responseContext.getEntityStream())) {
-            responseBuilder.setBody(HttpExchangeBody.utf8(getBody(responseContext)));
+            responseBuilder.setBody(getBody(responseContext, exchange.getMaxBodySize()));
         }
 
-        final Object request = requestContext.getProperty(REQUEST_PROPERTY);
-        final Object start = requestContext.getProperty(START_PROPERTY);
         Allure.addHttpExchange(
                 ATTACHMENT_NAME,
-                exchangeBuilder(
-                        request instanceof HttpExchangeRequest captured
-                                ? captured
-                                : HttpExchangeRequest.builder(
-                                        requestContext.getMethod(),
-                                        requestContext.getUri().toString()
-                                ).build()
-                )
+                exchange
                         .setResponse(responseBuilder.build())
                         .setStart(start instanceof Long ? (Long) start : null)
                         .setStop(System.currentTimeMillis())
@@ -136,11 +137,14 @@ public class AllureJaxRs implements ClientRequestFilter, ClientResponseFilter {
                 .toList();
     }
 
-    private String getBody(final ClientResponseContext responseContext) throws IOException {
-        try (InputStream stream = responseContext.getEntityStream()) {
-            final byte[] body = stream.readAllBytes();
-            responseContext.setEntityStream(new ByteArrayInputStream(body));
-            return new String(body, StandardCharsets.UTF_8);
-        }
+    /**
+     * Captures the head of the response body and hands the caller a stream that replays it before the rest.
+     */
+    private static HttpExchangeBody getBody(final ClientResponseContext responseContext,
+                                            final long maxBodySize) throws IOException {
+        final BoundedCapture capture = new BoundedCapture(maxBodySize);
+        responseContext.setEntityStream(capture.readAhead(responseContext.getEntityStream()));
+        final MediaType mediaType = responseContext.getMediaType();
+        return capture.toBody(null, BoundedCapture.charsetOf(Objects.isNull(mediaType) ? null : mediaType.toString()));
     }
 }
@@ -45,15 +45,18 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createParameter;
 import static io.qameta.allure.util.ResultsUtils.createStoryLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
 import static io.qameta.allure.util.ResultsUtils.createTitlePath;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
 import static io.qameta.allure.util.ResultsUtils.getStatus;
 import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
 import static io.qameta.allure.util.ResultsUtils.md5;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -286,10 +289,10 @@ public class AllureJbehave5 extends NullStoryReporter {
 
         final List<Label> labels = new ArrayList<>(
                 Arrays.asList(
-                        createHostLabel(),
-                        createThreadLabel(),
-                        createFrameworkLabel("jbehave"),
-                        createLanguageLabel("java")
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
+                        internLabel(FRAMEWORK_LABEL_NAME, "jbehave"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java")
                 )
         );
 
@@ -0,0 +1,572 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.jdkhttpclient;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AttachmentOptions;
+import io.qameta.allure.http.BoundedCapture;
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.http.HttpExchangeError;
+import io.qameta.allure.http.HttpExchangeNameValue;
+import io.qameta.allure.http.HttpExchangeRequest;
+import io.qameta.allure.http.HttpExchangeResponse;
+import io.qameta.allure.http.HttpExchangeSerializer;
+import io.qameta.allure.util.ExceptionUtils;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Allure decorator for the JDK {@link HttpClient}.
+ *
+ * <p>Every call sent while an executable is running is attached as an HTTP exchange to the executable that issued
+ * it, whichever thread completes the call, so {@code sendAsync} and virtual threads are covered. The request body
+ * publisher and the response {@link BodySubscriber} are teed into bounded captures while the bytes flow: no body is
+ * held beyond the exchange max body size, and streaming body handlers such as
+ * {@link HttpResponse.BodyHandlers#ofInputStream()} keep streaming. The attachment is added when the response body
+ * completes, fails, or is cancelled, so a streamed body must be read to the end or closed.</p>
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public class AllureJdkHttpClient extends HttpClient {
+
+    private static final String ATTACHMENT_NAME = "HTTP exchange";
+
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    private static final MethodType NO_RESULT = MethodType.methodType(void.class);
+
+    private static final MethodHandle CLOSE = findLifecycleMethod("close", NO_RESULT);
+
+    private static final MethodHandle SHUTDOWN = findLifecycleMethod("shutdown", NO_RESULT);
+
+    private static final MethodHandle SHUTDOWN_NOW = findLifecycleMethod("shutdownNow", NO_RESULT);
+
+    private static final MethodHandle AWAIT_TERMINATION = findLifecycleMethod(
+            "awaitTermination", MethodType.methodType(boolean.class, Duration.class)
+    );
+
+    private static final MethodHandle IS_TERMINATED = findLifecycleMethod(
+            "isTerminated", MethodType.methodType(boolean.class)
+    );
+
+    private final HttpClient delegate;
+
+    private Consumer<HttpExchange.Builder> exchangeCustomizer = builder -> {
+    };
+
+    /**
+     * Creates a client that sends every call through the given client.
+     *
+     * @param delegate the client that sends the calls
+     */
+    public AllureJdkHttpClient(final HttpClient delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * Sets shared HTTP exchange builder customizer.
+     *
+     * @param exchangeCustomizer the exchange builder customizer
+     * @return this instance for method chaining
+     */
+    public AllureJdkHttpClient configureHttpExchange(final Consumer<HttpExchange.Builder> exchangeCustomizer) {
+        this.exchangeCustomizer = Objects.requireNonNull(exchangeCustomizer);
+        return this;
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return delegate.cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return delegate.connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return delegate.followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return delegate.proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return delegate.sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return delegate.sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return delegate.authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return delegate.version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return delegate.executor();
+    }
+
+    /**
+     * Returns the WebSocket builder of the delegate; WebSocket traffic is not captured.
+     *
+     * @return the WebSocket builder
+     */
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return delegate.newWebSocketBuilder();
+    }
+
+    // the lifecycle methods below override those HttpClient has since JDK 21, which this module does not compile
+    // against, so they reach the delegate through method handles and do nothing on older JDKs
+
+    /**
+     * Closes the delegate, on JDK 21 and later.
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public void close() {
+        invokeLifecycle(CLOSE);
+    }
+
+    /**
+     * Shuts the delegate down, on JDK 21 and later.
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public void shutdown() {
+        invokeLifecycle(SHUTDOWN);
+    }
+
+    /**
+     * Shuts the delegate down at once, on JDK 21 and later.
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public void shutdownNow() {
+        invokeLifecycle(SHUTDOWN_NOW);
+    }
+
+    /**
+     * Waits for the delegate to terminate, on JDK 21 and later.
+     *
+     * @param duration the maximum time to wait
+     * @return whether the delegate has terminated; always {@code false} before JDK 21
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public boolean awaitTermination(final Duration duration) throws InterruptedException {
+        Objects.requireNonNull(duration, "duration");
+        if (Objects.isNull(AWAIT_TERMINATION)) {
+            return false;
+        }
+        try {
+            return (boolean) AWAIT_TERMINATION.invokeExact(delegate, duration);
+        } catch (Throwable e) {
+            throw ExceptionUtils.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    /**
+     * Returns whether the delegate has terminated, on JDK 21 and later.
+     *
+     * @return whether the delegate has terminated; always {@code false} before JDK 21
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public boolean isTerminated() {
+        if (Objects.isNull(IS_TERMINATED)) {
+            return false;
+        }
+        try {
+            return (boolean) IS_TERMINATED.invokeExact(delegate);
+        } catch (Throwable e) {
+            throw ExceptionUtils.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> HttpResponse<T> send(final HttpRequest request, final BodyHandler<T> responseBodyHandler)
+            throws IOException, InterruptedException {
+        final Optional<ExchangeCapture> capture = capture(request);
+        if (capture.isEmpty()) {
+            return delegate.send(request, responseBodyHandler);
+        }
+        try {
+            return delegate.send(capture.get().request(), capture.get().bodyHandler(responseBodyHandler));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            capture.get().record(null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request,
+                                                            final BodyHandler<T> responseBodyHandler) {
+        final Optional<ExchangeCapture> capture = capture(request);
+        if (capture.isEmpty()) {
+            return delegate.sendAsync(request, responseBodyHandler);
+        }
+        return recordFailure(
+                capture.get(),
+                delegate.sendAsync(capture.get().request(), capture.get().bodyHandler(responseBodyHandler))
+        );
+    }
+
+    /**
+     * Sends the request asynchronously; push promises are handled by the given handler and not captured.
+     *
+     * @param request             the request
+     * @param responseBodyHandler the response body handler
+     * @param pushPromiseHandler  the push promise handler, may be null
+     * @param <T>                 the response body type
+     * @return the response future
+     */
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(final HttpRequest request,
+                                                            final BodyHandler<T> responseBodyHandler,
+                                                            final PushPromiseHandler<T> pushPromiseHandler) {
+        final Optional<ExchangeCapture> capture = capture(request);
+        if (capture.isEmpty()) {
+            return delegate.sendAsync(request, responseBodyHandler, pushPromiseHandler);
+        }
+        return recordFailure(
+                capture.get(),
+                delegate.sendAsync(
+                        capture.get().request(), capture.get().bodyHandler(responseBodyHandler), pushPromiseHandler
+                )
+        );
+    }
+
+    private void invokeLifecycle(final MethodHandle method) {
+        if (Objects.isNull(method)) {
+            return;
+        }
+        try {
+            method.invokeExact(delegate);
+        } catch (Throwable e) {
+            throw ExceptionUtils.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    private static MethodHandle findLifecycleMethod(final String name, final MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findVirtual(HttpClient.class, name, type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // HttpClient has no lifecycle before JDK 21
+            return null;
+        }
+    }
+
+    private Optional<ExchangeCapture> capture(final HttpRequest request) {
+        // Allure is switched off for the whole JVM: skip even the executable lookup
+        if (!Allure.isEnabled()) {
+            return Optional.empty();
+        }
+        // enrichment-only integration: pass the call through untouched when no executable is running
+        return Allure.getLifecycle().getCurrentExecutableKey()
+                .map(executable -> new ExchangeCapture(executable, request, exchangeCustomizer));
+    }
+
+    private static <T> CompletableFuture<T> recordFailure(final ExchangeCapture capture,
+                                                          final CompletableFuture<T> response) {
+        response.whenComplete((result, error) -> {
+            if (Objects.nonNull(error)) {
+                capture.record(null, error instanceof CompletionException ? error.getCause() : error);
+            }
+        });
+        return response;
+    }
+
+    private static List<HttpExchangeNameValue> toNameValues(final HttpHeaders headers) {
+        return headers.map().entrySet().stream()
+                .map(item -> new HttpExchangeNameValue(item.getKey(), String.join("; ", item.getValue())))
+                .toList();
+    }
+
+    private static String httpVersion(final Version version) {
+        return version == Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+    }
+
+    /**
+     * The bounded request and response captures of one call, which adds the attachment once.
+     */
+    private static final class ExchangeCapture {
+
+        private final AllureExternalKey executable;
+
+        private final HttpRequest source;
+
+        private final HttpExchangeRequest.Builder requestBuilder;
+
+        private final HttpExchange.Builder exchange;
+
+        private final AtomicReference<BoundedCapture> requestBody = new AtomicReference<>();
+
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        ExchangeCapture(final AllureExternalKey executable, final HttpRequest source,
+                        final Consumer<HttpExchange.Builder> exchangeCustomizer) {
+            this.executable = executable;
+            this.source = source;
+            this.requestBuilder = HttpExchangeRequest
+                    .builder(source.method(), source.uri().toString())
+                    .addHeaders(toNameValues(source.headers()));
+            this.exchange = HttpExchange.builder(requestBuilder.build())
+                    .setStart(System.currentTimeMillis());
+            exchangeCustomizer.accept(exchange);
+        }
+
+        HttpRequest request() {
+            return source.bodyPublisher()
+                    .map(publisher -> HttpRequest.newBuilder(source, (name, value) -> true)
+                            .method(source.method(), new TeeingBodyPublisher(publisher, this))
+                            .build())
+                    .orElse(source);
+        }
+
+        <T> BodyHandler<T> bodyHandler(final BodyHandler<T> handler) {
+            return responseInfo -> new TeeingBodySubscriber<>(handler.apply(responseInfo), responseInfo, this);
+        }
+
+        BoundedCapture newRequestCapture() {
+            final BoundedCapture capture = new BoundedCapture(exchange.getMaxBodySize());
+            // a body published again, for a redirect or a retry, replaces the previous capture
+            requestBody.set(capture);
+            return capture;
+        }
+
+        BoundedCapture newResponseCapture() {
+            return new BoundedCapture(exchange.getMaxBodySize());
+        }
+
+        void recordResponse(final ResponseInfo info, final BoundedCapture body, final Throwable error) {
+            if (recorded.get()) {
+                return;
+            }
+            final HttpExchangeResponse.Builder response = HttpExchangeResponse.builder()
+                    .setStatus(info.statusCode())
+                    .setHttpVersion(httpVersion(info.version()))
+                    .addHeaders(toNameValues(info.headers()));
+            if (body.size() > 0) {
+                final String contentType = info.headers().firstValue(CONTENT_TYPE).orElse(null);
+                response.setBody(body.toBody(contentType, BoundedCapture.charsetOf(contentType)));
+            }
+            record(response.build(), error);
+        }
+
+        void record(final HttpExchangeResponse response, final Throwable error) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            final BoundedCapture body = requestBody.get();
+            if (Objects.nonNull(body) && body.size() > 0) {
+                final String contentType = source.headers().firstValue(CONTENT_TYPE).orElse(null);
+                requestBuilder.setBody(body.toBody(contentType, BoundedCapture.charsetOf(contentType)));
+                exchange.setRequest(requestBuilder.build());
+            }
+            final HttpExchange httpExchange = exchange
+                    .setResponse(response)
+                    .setError(Objects.isNull(error)
+                            ? null
+                            : new HttpExchangeError(error.getClass().getName(), error.getMessage(), null))
+                    .setStop(System.currentTimeMillis())
+                    .build();
+            Allure.getLifecycle().addAttachmentStep(
+                    executable,
+                    ATTACHMENT_NAME,
+                    HttpExchange.CONTENT_TYPE,
+                    HttpExchangeSerializer.toAttachmentContent(httpExchange),
+                    AttachmentOptions.empty()
+            );
+        }
+    }
+
+    /**
+     * A request body publisher that tees every published buffer into the request capture.
+     */
+    private static final class TeeingBodyPublisher implements HttpRequest.BodyPublisher {
+
+        private final HttpRequest.BodyPublisher delegate;
+
+        private final ExchangeCapture owner;
+
+        TeeingBodyPublisher(final HttpRequest.BodyPublisher delegate, final ExchangeCapture owner) {
+            this.delegate = delegate;
+            this.owner = owner;
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+            final BoundedCapture capture = owner.newRequestCapture();
+            delegate.subscribe(new Flow.Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    subscriber.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer item) {
+                    capture.write(item);
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    capture.close();
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+
+    /**
+     * A body subscriber that tees the response buffers into the response capture before handing them to the body
+     * subscriber of the caller, and records the exchange once the body ends or is cancelled.
+     */
+    private static final class TeeingBodySubscriber<T> implements BodySubscriber<T> {
+
+        private final BodySubscriber<T> delegate;
+
+        private final ResponseInfo info;
+
+        private final ExchangeCapture owner;
+
+        private final BoundedCapture capture;
+
+        // a streaming caller may cancel from its own thread while buffers still arrive
+        private final Lock lock = new ReentrantLock();
+
+        TeeingBodySubscriber(final BodySubscriber<T> delegate, final ResponseInfo info, final ExchangeCapture owner) {
+            this.delegate = delegate;
+            this.info = info;
+            this.owner = owner;
+            this.capture = owner.newResponseCapture();
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            delegate.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    finish(null, false);
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(final List<ByteBuffer> item) {
+            lock.lock();
+            try {
+                item.forEach(capture::write);
+            } finally {
+                lock.unlock();
+            }
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            finish(throwable, false);
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            finish(null, true);
+            delegate.onComplete();
+        }
+
+        private void finish(final Throwable error, final boolean complete) {
+            lock.lock();
+            try {
+                if (complete) {
+                    capture.close();
+                }
+                owner.recordResponse(info, capture, error);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.jdkhttpclient;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.test.AllureResults;
+import io.qameta.allure.test.IsolatedLifecycle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.qameta.allure.Allure.step;
+import static io.qameta.allure.test.RunUtils.runTests;
+import static io.qameta.allure.test.RunUtils.runWithinTestContext;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IsolatedLifecycle
+class AllureJdkHttpClientTest {
+
+    private static final String BODY_STRING = "Hello world!";
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        configureFor(server.port());
+        stubFor(any(urlEqualTo("/hello")).willReturn(aResponse()
+                .withHeader("Content-Type", "text/plain; charset=UTF-8")
+                .withBody(BODY_STRING)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldCaptureRequestAndResponseBodies() {
+        final HttpClient client = new AllureJdkHttpClient(HttpClient.newHttpClient());
+        final HttpRequest request = HttpRequest.newBuilder(uri())
+                .POST(HttpRequest.BodyPublishers.ofString("request body"))
+                .build();
+
+        final AllureResults results = step("Send a request body through the Allure client", () -> runWithinTestContext(
+                () -> assertThat(send(client, request, HttpResponse.BodyHandlers.ofString()).body())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the exchange holds both bodies", () -> {
+            final Attachment attachment = httpExchangeAttachment(results);
+            assertThat(attachment.getType()).isEqualTo(HttpExchange.CONTENT_TYPE);
+            assertThat(results.getAttachmentContentAsString(attachment))
+                    .contains("\"method\":\"POST\"")
+                    .contains("\"value\":\"request body\"")
+                    .contains("\"status\":200")
+                    .contains("\"value\":\"" + BODY_STRING + "\"")
+                    .contains("\"size\":" + BODY_STRING.length());
+        });
+    }
+
+    @Test
+    void shouldCaptureAsyncResponseUpToMaxBodySize() {
+        final HttpClient client = new AllureJdkHttpClient(HttpClient.newHttpClient())
+                .configureHttpExchange(exchange -> exchange.setMaxBodySize(5));
+        final HttpRequest request = HttpRequest.newBuilder(uri()).GET().build();
+
+        final AllureResults results = step("Send the request asynchronously", () -> runWithinTestContext(
+                () -> assertThat(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).join().body())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the exchange holds the bounded body capture", () -> assertThat(
+                results.getAttachmentContentAsString(httpExchangeAttachment(results)))
+                .contains("\"value\":\"Hello\"")
+                .contains("\"size\":" + BODY_STRING.length())
+                .contains("\"truncated\":true"));
+    }
+
+    @Test
+    void shouldCaptureStreamedResponseWhenStreamIsClosed() {
+        final HttpClient client = new AllureJdkHttpClient(HttpClient.newHttpClient());
+        final HttpRequest request = HttpRequest.newBuilder(uri()).GET().build();
+
+        final AllureResults results = step("Stream the response body", () -> runWithinTestContext(() -> {
+            try (InputStream body = send(client, request, HttpResponse.BodyHandlers.ofInputStream()).body()) {
+                assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+                        .isEqualTo(BODY_STRING);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        step("Verify the exchange holds the streamed body", () -> assertThat(
+                results.getAttachmentContentAsString(httpExchangeAttachment(results)))
+                .contains("\"value\":\"" + BODY_STRING + "\""));
+    }
+
+    @Test
+    void shouldRecordConnectionFailure() {
+        final HttpClient client = new AllureJdkHttpClient(HttpClient.newHttpClient());
+        final HttpRequest request = HttpRequest.newBuilder(uri()).GET().build();
+        server.stop();
+
+        final AllureResults results = step("Send a request to a stopped server", () -> runWithinTestContext(
+                () -> assertThat(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                        .failsWithin(Duration.ofSeconds(10))
+        ));
+
+        step("Verify the exchange holds the error", () -> assertThat(
+                results.getAttachmentContentAsString(httpExchangeAttachment(results)))
+                .contains("\"error\"")
+                .doesNotContain("\"response\""));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldForwardLifecycleToDelegate() throws Exception {
+        final HttpClient delegate = HttpClient.newHttpClient();
+        final HttpClient client = new AllureJdkHttpClient(delegate);
+
+        ((AutoCloseable) client).close();
+
+        assertThat(HttpClient.class.getMethod("isTerminated").invoke(delegate))
+                .isEqualTo(true);
+        assertThat(((AllureJdkHttpClient) client).awaitTermination(Duration.ofSeconds(10)))
+                .isTrue();
+        assertThat(((AllureJdkHttpClient) client).isTerminated())
+                .isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void shouldIgnoreLifecycleBeforeJava21() throws InterruptedException {
+        final AllureJdkHttpClient client = new AllureJdkHttpClient(HttpClient.newHttpClient());
+
+        client.shutdownNow();
+        client.close();
+
+        assertThat(client.awaitTermination(Duration.ofMillis(1)))
+                .isFalse();
+        assertThat(client.isTerminated())
+                .isFalse();
+    }
+
+    @Test
+    void shouldPassRequestThroughWithoutTestContext() {
+        final HttpClient client = new AllureJdkHttpClient(HttpClient.newHttpClient());
+        final HttpRequest request = HttpRequest.newBuilder(uri()).GET().build();
+
+        final AllureResults results = step("Send the request with no Allure executable running", () -> runTests(
+                lifecycle -> assertThat(send(client, request, HttpResponse.BodyHandlers.ofString()).body())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the client produced no attachments", () -> assertThat(results.getAttachments()).isEmpty());
+    }
+
+    private URI uri() {
+        return URI.create(server.url("/hello"));
+    }
+
+    private static <T> HttpResponse<T> send(final HttpClient client, final HttpRequest request,
+                                            final HttpResponse.BodyHandler<T> handler) {
+        try {
+            return client.send(request, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Attachment httpExchangeAttachment(final AllureResults results) {
+        final List<Attachment> attachments = results.getAttachmentsRecursively();
+
+        assertThat(attachments).hasSize(1);
+        return attachments.get(0);
+    }
+}
@@ -78,7 +78,7 @@ public final class JsonPatchMatcher<T> extends AbstractJsonPatchMatcher<Configur
     protected void render(final DifferenceListener listener) {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no wasted rendering
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
         }
         final JsonPatchListener jsonDiffListener = (JsonPatchListener) listener;
@@ -18,6 +18,7 @@ package io.qameta.allure.junitplatform;
 import io.qameta.allure.Allure;
 import io.qameta.allure.AllureExternalKey;
 import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriteException;
 import io.qameta.allure.AttachmentOptions;
 import io.qameta.allure.Description;
 import io.qameta.allure.model.Label;
@@ -43,8 +44,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
@@ -66,17 +65,20 @@ import static io.qameta.allure.model.Status.FAILED;
 import static io.qameta.allure.model.Status.PASSED;
 import static io.qameta.allure.model.Status.SKIPPED;
 import static io.qameta.allure.util.ResultsUtils.ALLURE_ID_LABEL_NAME;
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createPackageLabel;
 import static io.qameta.allure.util.ResultsUtils.createParentSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createSubSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestClassLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestMethodLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
 import static io.qameta.allure.util.ResultsUtils.getProvidedLabels;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
@@ -390,15 +392,15 @@ public class AllureJunitPlatform implements TestExecutionListener {
         // whatever executable is current on the publishing thread
         getLifecycle().getCurrentExecutableKey().ifPresent(key -> {
             final String fileName = String.valueOf(path.getFileName());
-            try (InputStream content = Files.newInputStream(path)) {
+            try {
                 getLifecycle().addAttachment(
                         key,
                         fileName,
                         file.getMediaType().orElse(null),
-                        content,
+                        path,
                         attachmentOptions(fileName)
                 );
-            } catch (IOException e) {
+            } catch (AllureResultsWriteException e) {
                 LOGGER.warn("could not attach published file entry {}", path, e);
             }
         });
@@ -581,15 +583,17 @@ public class AllureJunitPlatform implements TestExecutionListener {
 
         testMethod.map(AnnotationUtils::getLabels).ifPresent(result.getLabels()::addAll);
 
-        testClass.map(AnnotationUtils::getLinks).ifPresent(result.getLinks()::addAll);
+        // the links of a class repeat on every one of its tests
+        testClass.map(AnnotationUtils::getLinks)
+                .ifPresent(links -> links.forEach(link -> result.getLinks().add(ResultsUtils.internLink(link))));
         testMethod.map(AnnotationUtils::getLinks).ifPresent(result.getLinks()::addAll);
 
         result.getLabels().addAll(
                 Arrays.asList(
-                        createHostLabel(),
-                        createThreadLabel(),
-                        createFrameworkLabel("junit-platform"),
-                        createLanguageLabel("java")
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
+                        internLabel(FRAMEWORK_LABEL_NAME, "junit-platform"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java")
                 )
         );
 
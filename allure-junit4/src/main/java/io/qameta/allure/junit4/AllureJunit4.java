@@ -42,20 +42,24 @@ import java.util.stream.Stream;
 
 import static io.qameta.allure.util.AnnotationUtils.getLabels;
 import static io.qameta.allure.util.AnnotationUtils.getLinks;
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createPackageLabel;
 import static io.qameta.allure.util.ResultsUtils.createSeverityLabel;
 import static io.qameta.allure.util.ResultsUtils.createSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestClassLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestMethodLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
 import static io.qameta.allure.util.ResultsUtils.createTitlePathFromPackageAndClass;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
 import static io.qameta.allure.util.ResultsUtils.getJavadocDescription;
 import static io.qameta.allure.util.ResultsUtils.getProvidedLabels;
 import static io.qameta.allure.util.ResultsUtils.getStatus;
 import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
+import static io.qameta.allure.util.ResultsUtils.internLink;
 import static io.qameta.allure.util.ResultsUtils.md5;
 
 /**
@@ -239,10 +243,11 @@ public class AllureJunit4 extends RunListener {
 
     private List<Link> extractLinks(final Description description) {
         final List<Link> result = new ArrayList<>(getLinks(description.getAnnotations()));
+        // the links of a class repeat on every one of its tests
         Optional.of(description)
                 .map(Description::getTestClass)
                 .map(AnnotationUtils::getLinks)
-                .ifPresent(result::addAll);
+                .ifPresent(links -> links.forEach(link -> result.add(internLink(link))));
         return result;
     }
 
@@ -302,10 +307,10 @@ public class AllureJunit4 extends RunListener {
                 Arrays.asList(
                         createPackageLabel(className),
                         createTestClassLabel(className),
-                        createHostLabel(),
-                        createThreadLabel(),
-                        createFrameworkLabel("junit4"),
-                        createLanguageLabel("java")
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
+                        internLabel(FRAMEWORK_LABEL_NAME, "junit4"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java")
                 )
         );
         // the test method is unknown for class-level descriptions
@@ -364,7 +369,7 @@ public class AllureJunit4 extends RunListener {
             testResult.setStatusDetails(details);
         } else {
             current.setMessage(details.getMessage())
-                    .setTrace(details.getTrace())
+                    .deferTrace(details::getTrace)
                     .setActual(details.getActual())
                     .setExpected(details.getExpected());
         }
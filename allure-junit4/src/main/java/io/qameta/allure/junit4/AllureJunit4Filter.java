@@ -84,23 +84,11 @@ public class AllureJunit4Filter extends Filter {
                                final String allureId,
                                final String fullName) {
         if (testPlan instanceof TestPlanV1_0) {
-            final TestPlanV1_0 tp = (TestPlanV1_0) testPlan;
-            return Objects.isNull(tp.getTests()) || tp.getTests()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .anyMatch(tc -> match(tc, allureId, fullName));
+            return ((TestPlanV1_0) testPlan).index().isSelected(allureId, fullName);
         }
         return true;
     }
 
-    @SuppressWarnings("BooleanExpressionComplexity")
-    private boolean match(final TestPlanV1_0.TestCase tc,
-                          final String allureId,
-                          final String fullName) {
-        return Objects.nonNull(tc.getId()) && tc.getId().equals(allureId)
-                || Objects.nonNull(tc.getSelector()) && tc.getSelector().equals(fullName);
-    }
-
     private static Optional<String> findAllureId(final Description description) {
         return AnnotationUtils.getLabels(description.getAnnotations())
                 .stream()
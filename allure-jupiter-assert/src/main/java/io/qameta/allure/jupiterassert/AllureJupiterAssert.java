@@ -63,12 +63,22 @@ public class AllureJupiterAssert {
 
     }
 
+    /**
+     * Matches only while Allure is enabled, see {@link Allure#ENABLED_PROPERTY}.
+     *
+     * @return whether Allure is enabled
+     */
+    @Pointcut("if()")
+    public static boolean allureEnabled() {
+        return Allure.isEnabled();
+    }
+
     /**
      * Handles the step start callback.
      *
      * @param joinPoint the join point
      */
-    @Before("anyAssert()")
+    @Before("anyAssert() && allureEnabled()")
     public void stepStart(final JoinPoint joinPoint) {
         // enrichment-only integration: silently skip when no executable is running,
         // so a disabled Allure reporter produces no warnings and no wasted work
@@ -121,7 +131,7 @@ public class AllureJupiterAssert {
     }
 
     @AfterThrowing(
-            pointcut = "anyAssert()",
+            pointcut = "anyAssert() && allureEnabled()",
             throwing = "e"
     )
 
@@ -144,7 +154,7 @@ public class AllureJupiterAssert {
     /**
      * Handles the step stop callback.
      */
-    @AfterReturning(pointcut = "anyAssert()")
+    @AfterReturning(pointcut = "anyAssert() && allureEnabled()")
     public void stepStop() {
         if (getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return;
@@ -38,9 +38,9 @@ public class FixtureResult implements Serializable, ExecutableItem {
     private Stage stage;
     private String description;
     private String descriptionHtml;
-    private List<StepResult> steps = new ArrayList<>();
-    private List<Attachment> attachments = new ArrayList<>();
-    private List<Parameter> parameters = new ArrayList<>();
+    private List<StepResult> steps;
+    private List<Attachment> attachments;
+    private List<Parameter> parameters;
     private Long start;
     private Long stop;
 
@@ -173,6 +173,9 @@ public class FixtureResult implements Serializable, ExecutableItem {
      */
     @Override
     public List<StepResult> getSteps() {
+        if (Objects.isNull(steps)) {
+            steps = new ArrayList<>();
+        }
         return steps;
     }
 
@@ -194,6 +197,9 @@ public class FixtureResult implements Serializable, ExecutableItem {
      */
     @Override
     public List<Attachment> getAttachments() {
+        if (Objects.isNull(attachments)) {
+            attachments = new ArrayList<>();
+        }
         return attachments;
     }
 
@@ -215,6 +221,9 @@ public class FixtureResult implements Serializable, ExecutableItem {
      */
     @Override
     public List<Parameter> getParameters() {
+        if (Objects.isNull(parameters)) {
+            parameters = new ArrayList<>();
+        }
         return parameters;
     }
 
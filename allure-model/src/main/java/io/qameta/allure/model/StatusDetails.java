@@ -15,8 +15,11 @@
  */
 package io.qameta.allure.model;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The type Status details.
@@ -33,6 +36,7 @@ public class StatusDetails implements Serializable {
     private boolean flaky;
     private String message;
     private String trace;
+    private transient Supplier<String> traceRenderer;
     private String actual;
     private String expected;
 
@@ -122,6 +126,11 @@ public class StatusDetails implements Serializable {
      * @return the trace
      */
     public String getTrace() {
+        final Supplier<String> renderer = traceRenderer;
+        if (Objects.nonNull(renderer)) {
+            traceRenderer = null;
+            trace = renderer.get();
+        }
         return trace;
     }
 
@@ -133,6 +142,20 @@ public class StatusDetails implements Serializable {
      */
     public StatusDetails setTrace(final String value) {
         this.trace = value;
+        this.traceRenderer = null;
+        return this;
+    }
+
+    /**
+     * Sets trace to be rendered by the given supplier the first time it is read, typically when the result is
+     * written. Details that are replaced before then never render their trace.
+     *
+     * @param renderer the trace renderer
+     * @return self for method chaining
+     */
+    public StatusDetails deferTrace(final Supplier<String> renderer) {
+        this.trace = null;
+        this.traceRenderer = renderer;
         return this;
     }
 
@@ -189,7 +212,7 @@ public class StatusDetails implements Serializable {
         }
         final StatusDetails that = (StatusDetails) o;
         return Objects.equals(message, that.message)
-                && Objects.equals(trace, that.trace)
+                && Objects.equals(getTrace(), that.getTrace())
                 && Objects.equals(actual, that.actual)
                 && Objects.equals(expected, that.expected);
     }
@@ -199,6 +222,11 @@ public class StatusDetails implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(message, trace, actual, expected);
+        return Objects.hash(message, getTrace(), actual, expected);
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getTrace();
+        out.defaultWriteObject();
     }
 }
@@ -43,18 +43,18 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
     private String testCaseId;
     private String testCaseName;
     private String fullName;
-    private List<String> titlePath = new ArrayList<>();
-    private List<Label> labels = new ArrayList<>();
-    private List<Link> links = new ArrayList<>();
+    private List<String> titlePath;
+    private List<Label> labels;
+    private List<Link> links;
     private String name;
     private Status status;
     private StatusDetails statusDetails;
     private Stage stage;
     private String description;
     private String descriptionHtml;
-    private List<StepResult> steps = new ArrayList<>();
-    private List<Attachment> attachments = new ArrayList<>();
-    private List<Parameter> parameters = new ArrayList<>();
+    private List<StepResult> steps;
+    private List<Attachment> attachments;
+    private List<Parameter> parameters;
     private Long start;
     private Long stop;
 
@@ -164,6 +164,9 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
      * @return the title path
      */
     public List<String> getTitlePath() {
+        if (Objects.isNull(titlePath)) {
+            titlePath = new ArrayList<>();
+        }
         return titlePath;
     }
 
@@ -184,6 +187,9 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
      * @return the labels
      */
     public List<Label> getLabels() {
+        if (Objects.isNull(labels)) {
+            labels = new ArrayList<>();
+        }
         return labels;
     }
 
@@ -205,6 +211,9 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
      */
     @Override
     public List<Link> getLinks() {
+        if (Objects.isNull(links)) {
+            links = new ArrayList<>();
+        }
         return links;
     }
 
@@ -348,6 +357,9 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
      */
     @Override
     public List<StepResult> getSteps() {
+        if (Objects.isNull(steps)) {
+            steps = new ArrayList<>();
+        }
         return steps;
     }
 
@@ -369,6 +381,9 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
      */
     @Override
     public List<Attachment> getAttachments() {
+        if (Objects.isNull(attachments)) {
+            attachments = new ArrayList<>();
+        }
         return attachments;
     }
 
@@ -390,6 +405,9 @@ public class TestResult implements Serializable, ExecutableItem, WithMetadata {
      */
     @Override
     public List<Parameter> getParameters() {
+        if (Objects.isNull(parameters)) {
+            parameters = new ArrayList<>();
+        }
         return parameters;
     }
 
@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusDetailsTest {
+
+    @Test
+    void shouldRenderDeferredTraceOnceOnFirstRead() {
+        final AtomicInteger renders = new AtomicInteger();
+        final StatusDetails details = new StatusDetails()
+                .deferTrace(() -> "trace " + renders.incrementAndGet());
+
+        assertThat(renders).hasValue(0);
+        assertThat(details.getTrace()).isEqualTo("trace 1");
+        assertThat(details.getTrace()).isEqualTo("trace 1");
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void shouldNotRenderDeferredTraceThatIsReplaced() {
+        final AtomicInteger renders = new AtomicInteger();
+        final StatusDetails details = new StatusDetails()
+                .deferTrace(() -> "trace " + renders.incrementAndGet())
+                .setTrace("replaced");
+
+        assertThat(details.getTrace()).isEqualTo("replaced");
+        assertThat(renders).hasValue(0);
+    }
+
+    @Test
+    void shouldCompareDeferredTraceByValue() {
+        assertThat(new StatusDetails().deferTrace(() -> "trace"))
+                .isEqualTo(new StatusDetails().setTrace("trace"))
+                .hasSameHashCodeAs(new StatusDetails().setTrace("trace"));
+    }
+}
@@ -29,6 +29,20 @@ class TestResultTest {
                 .isEmpty();
     }
 
+    @Test
+    void shouldCreateCollectionsOnFirstAccess() {
+        final TestResult result = new TestResult().setSteps(null);
+        result.getSteps().add(new StepResult().setName("step"));
+
+        assertThat(result.getSteps())
+                .extracting(StepResult::getName)
+                .containsExactly("step");
+        assertThat(result.getSteps().get(0).getAttachments())
+                .isEmpty();
+        assertThat(new FixtureResult().getParameters())
+                .isEmpty();
+    }
+
     @Test
     void shouldSetTitlePath() {
         assertThat(
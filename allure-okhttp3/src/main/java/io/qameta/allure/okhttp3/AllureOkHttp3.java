@@ -16,12 +16,16 @@
 package io.qameta.allure.okhttp3;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AttachmentOptions;
+import io.qameta.allure.http.BoundedCapture;
 import io.qameta.allure.http.HttpExchange;
 import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeError;
 import io.qameta.allure.http.HttpExchangeNameValue;
 import io.qameta.allure.http.HttpExchangeRequest;
 import io.qameta.allure.http.HttpExchangeResponse;
+import io.qameta.allure.http.HttpExchangeSerializer;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.Request;
@@ -29,16 +33,28 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 /**
  * Allure interceptor logger for OkHttp.
+ *
+ * <p>By default the response body is read ahead, up to the exchange max body size, before the response is returned;
+ * the caller reads those bytes again followed by the rest of the body. With {@link #setStreamResponseBody(boolean)}
+ * enabled the body is handed to the caller unread and copied, up to the
+ * exchange max body size, while the caller consumes it; the exchange attachment is added when the body is closed.</p>
  */
 public class AllureOkHttp3 implements Interceptor {
 
@@ -47,6 +63,8 @@ public class AllureOkHttp3 implements Interceptor {
     private Consumer<HttpExchange.Builder> exchangeCustomizer = builder -> {
     };
 
+    private boolean streamResponseBody;
+
     /**
      * Sets shared HTTP exchange builder customizer.
      *
@@ -58,14 +76,32 @@ public class AllureOkHttp3 implements Interceptor {
         return this;
     }
 
+    /**
+     * Enables capturing the response body while the caller streams it instead of reading it up front. The HTTP
+     * exchange attachment is then added to the executable that issued the call once the response body is closed;
+     * a body that is never closed produces no attachment.
+     *
+     * @param streamResponseBody true to capture the response body while it is streamed
+     * @return this instance for method chaining
+     */
+    public AllureOkHttp3 setStreamResponseBody(final boolean streamResponseBody) {
+        this.streamResponseBody = streamResponseBody;
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Response intercept(final Chain chain) throws IOException {
+        // Allure is switched off for the whole JVM: skip even the executable lookup
+        if (!Allure.isEnabled()) {
+            return chain.proceed(chain.request());
+        }
+        final Optional<AllureExternalKey> executable = Allure.getLifecycle().getCurrentExecutableKey();
         // enrichment-only integration: pass the call through untouched when no executable is
         // running — no warnings, no request/response body buffering
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (executable.isEmpty()) {
             return chain.proceed(chain.request());
         }
         final long start = System.currentTimeMillis();
@@ -74,9 +110,11 @@ public class AllureOkHttp3 implements Interceptor {
                 .builder(request.method(), request.url().toString())
                 .addHeaders(toNameValues(request.headers().toMultimap()));
 
+        final HttpExchange.Builder exchange = exchangeBuilder(requestBuilder.build()).setStart(start);
         final RequestBody requestBody = request.body();
         if (Objects.nonNull(requestBody)) {
-            requestBuilder.setBody(body(requestBody.contentType(), readRequestBody(requestBody)));
+            requestBuilder.setBody(readRequestBody(requestBody, exchange.getMaxBodySize()));
+            exchange.setRequest(requestBuilder.build());
         }
 
         try {
@@ -89,17 +127,35 @@ public class AllureOkHttp3 implements Interceptor {
             final Response.Builder okHttpResponseBuilder = response.newBuilder();
             final ResponseBody responseBody = response.body();
 
+            if (streamResponseBody && Objects.nonNull(responseBody)) {
+                final ResponseBody capturingBody = new CapturingResponseBody(
+                        responseBody,
+                        exchange.getMaxBodySize(),
+                        (capturedBody, error) -> addHttpExchange(
+                                executable.get(),
+                                exchange
+                                        .setResponse(responseBuilder.setBody(capturedBody).build())
+                                        .setError(error)
+                                        .setStop(System.currentTimeMillis())
+                                        .build()
+                        )
+                );
+                return okHttpResponseBuilder.body(capturingBody).build();
+            }
+
             if (Objects.nonNull(responseBody)) {
-                final byte[] bytes = responseBody.bytes();
-                responseBuilder.setBody(body(responseBody.contentType(), new String(bytes, StandardCharsets.UTF_8)));
-                okHttpResponseBuilder.body(ResponseBody.create(responseBody.contentType(), bytes));
+                final BoundedCapture capture = new BoundedCapture(exchange.getMaxBodySize());
+                final InputStream replay = capture.readAhead(responseBody.byteStream());
+                responseBuilder.setBody(capture.toBody(mediaType(responseBody), charsetOf(responseBody)));
+                okHttpResponseBuilder.body(ResponseBody.create(
+                        Okio.buffer(Okio.source(replay)), responseBody.contentType(), responseBody.contentLength()
+                ));
             }
 
             Allure.addHttpExchange(
                     ATTACHMENT_NAME,
-                    exchangeBuilder(requestBuilder.build())
+                    exchange
                             .setResponse(responseBuilder.build())
-                            .setStart(start)
                             .setStop(System.currentTimeMillis())
                             .build()
             );
@@ -107,9 +163,8 @@ public class AllureOkHttp3 implements Interceptor {
         } catch (IOException e) {
             Allure.addHttpExchange(
                     ATTACHMENT_NAME,
-                    exchangeBuilder(requestBuilder.build())
+                    exchange
                             .setError(new HttpExchangeError(e.getClass().getName(), e.getMessage(), null))
-                            .setStart(start)
                             .setStop(System.currentTimeMillis())
                             .build()
             );
@@ -117,6 +172,16 @@ public class AllureOkHttp3 implements Interceptor {
         }
     }
 
+    private static void addHttpExchange(final AllureExternalKey parentKey, final HttpExchange exchange) {
+        Allure.getLifecycle().addAttachmentStep(
+                parentKey,
+                ATTACHMENT_NAME,
+                HttpExchange.CONTENT_TYPE,
+                HttpExchangeSerializer.toAttachmentContent(exchange),
+                AttachmentOptions.empty()
+        );
+    }
+
     private HttpExchange.Builder exchangeBuilder(final HttpExchangeRequest request) {
         final HttpExchange.Builder builder = HttpExchange.builder(request);
         exchangeCustomizer.accept(builder);
@@ -129,23 +194,121 @@ public class AllureOkHttp3 implements Interceptor {
                 .toList();
     }
 
-    private static HttpExchangeBody body(final MediaType mediaType, final String value) {
-        return new HttpExchangeBody(
-                mediaType == null ? null : mediaType.toString(),
-                "utf8",
-                value,
-                null,
-                null,
-                null,
-                null,
-                null
-        );
+    private static String mediaType(final ResponseBody body) {
+        final MediaType mediaType = body.contentType();
+        return mediaType == null ? null : mediaType.toString();
     }
 
-    private static String readRequestBody(final RequestBody requestBody) throws IOException {
-        try (Buffer buffer = new Buffer()) {
-            requestBody.writeTo(buffer);
-            return buffer.readString(StandardCharsets.UTF_8);
+    private static Charset charsetOf(final ResponseBody body) {
+        return BoundedCapture.charsetOf(mediaType(body));
+    }
+
+    private static HttpExchangeBody readRequestBody(final RequestBody requestBody,
+                                                    final long maxBodySize) throws IOException {
+        final BoundedCapture capture = new BoundedCapture(maxBodySize);
+        try (BufferedSink sink = Okio.buffer(Okio.sink(capture))) {
+            requestBody.writeTo(sink);
+        }
+        final MediaType mediaType = requestBody.contentType();
+        final String contentType = mediaType == null ? null : mediaType.toString();
+        return capture.toBody(contentType, BoundedCapture.charsetOf(contentType));
+    }
+
+    /**
+     * Receives the captured response body, and the read error if any, once the response body is closed.
+     */
+    @FunctionalInterface
+    private interface CaptureListener {
+        void onClose(HttpExchangeBody body, HttpExchangeError error);
+    }
+
+    /**
+     * Response body that copies the bytes read by the caller into a bounded capture.
+     */
+    private static final class CapturingResponseBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+
+        private final BoundedCapture capture;
+
+        private final CaptureListener listener;
+
+        private final BufferedSource source;
+
+        private CapturingResponseBody(final ResponseBody delegate, final long maxBodySize,
+                                      final CaptureListener listener) {
+            this.delegate = delegate;
+            this.capture = new BoundedCapture(maxBodySize);
+            this.listener = listener;
+            this.source = Okio.buffer(new CapturingSource(delegate.source()));
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+
+        /**
+         * Source that tees every read into the capture, which keeps bytes until the max body size is reached.
+         */
+        private final class CapturingSource extends ForwardingSource {
+
+            private IOException error;
+
+            private boolean closed;
+
+            private CapturingSource(final Source delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public long read(final Buffer sink, final long byteCount) throws IOException {
+                final long read;
+                try {
+                    read = super.read(sink, byteCount);
+                } catch (IOException e) {
+                    error = e;
+                    throw e;
+                }
+                if (read == -1) {
+                    capture.close();
+                    return read;
+                }
+                sink.copyTo(capture, sink.size() - read, read);
+                return read;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    if (!closed) {
+                        closed = true;
+                        listener.onClose(capturedBody(), capturedError());
+                    }
+                }
+            }
+
+            private HttpExchangeBody capturedBody() {
+                return capture.toBody(mediaType(delegate), charsetOf(delegate));
+            }
+
+            private HttpExchangeError capturedError() {
+                return Objects.isNull(error)
+                        ? null
+                        : new HttpExchangeError(error.getClass().getName(), error.getMessage(), null);
+            }
         }
     }
 }
@@ -95,6 +95,57 @@ class AllureOkHttp3Test {
         });
     }
 
+    @Test
+    void shouldCaptureStreamedResponseBodyWhenBodyIsClosed() {
+        final Request request = Allure.step(
+                "Prepare an OkHttp request", () -> new Request.Builder()
+                        .url(server.url("hello"))
+                        .build()
+        );
+        final AllureOkHttp3 interceptor = new AllureOkHttp3()
+                .setStreamResponseBody(true)
+                .configureHttpExchange(exchange -> exchange.setMaxBodySize(5));
+
+        final AllureResults results = Allure.step(
+                "Stream the response through the Allure interceptor",
+                () -> execute(interceptor, request, checkBody(BODY_STRING))
+        );
+
+        Allure.step("Verify the exchange holds the bounded body capture", () -> {
+            final Attachment attachment = httpExchangeAttachment(results);
+            assertThat(attachment.getType()).isEqualTo(HttpExchange.CONTENT_TYPE);
+            assertThat(results.getAttachmentContentAsString(attachment))
+                    .contains("\"status\":200")
+                    .contains("\"value\":\"Hello\"")
+                    .contains("\"size\":" + BODY_STRING.length())
+                    .contains("\"truncated\":true");
+        });
+    }
+
+    @Test
+    void shouldReadAheadOnlyMaxBodySizeAndReplayWholeBody() {
+        final Request request = Allure.step(
+                "Prepare an OkHttp request", () -> new Request.Builder()
+                        .url(server.url("hello"))
+                        .build()
+        );
+        final AllureOkHttp3 interceptor = new AllureOkHttp3()
+                .configureHttpExchange(exchange -> exchange.setMaxBodySize(5));
+
+        final AllureResults results = Allure.step(
+                "Execute the request through the Allure interceptor",
+                () -> execute(interceptor, request, checkBody(BODY_STRING))
+        );
+
+        Allure.step("Verify the exchange holds the bounded body capture", () -> {
+            final Attachment attachment = httpExchangeAttachment(results);
+            assertThat(results.getAttachmentContentAsString(attachment))
+                    .contains("\"value\":\"Hello\"")
+                    .contains("\"truncated\":true")
+                    .doesNotContain("\"size\"");
+        });
+    }
+
     @Test
     void shouldPassRequestThroughWithoutTestContext() {
         final Request request = Allure.step(
@@ -125,8 +176,14 @@ class AllureOkHttp3Test {
 
     @SafeVarargs
     protected final AllureResults execute(final Request request, final Consumer<Response>... matchers) {
+        return execute(new AllureOkHttp3(), request, matchers);
+    }
+
+    @SafeVarargs
+    protected final AllureResults execute(final AllureOkHttp3 interceptor, final Request request,
+                                          final Consumer<Response>... matchers) {
         final OkHttpClient client = new OkHttpClient.Builder()
-                .addInterceptor(new AllureOkHttp3())
+                .addInterceptor(interceptor)
                 .build();
 
         return runWithinTestContext(() -> {
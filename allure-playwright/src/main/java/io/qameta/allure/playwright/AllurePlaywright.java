@@ -23,13 +23,13 @@ import com.microsoft.playwright.Tracing;
 import com.microsoft.playwright.Video;
 import io.qameta.allure.Allure;
 import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriteException;
 import io.qameta.allure.AttachmentOptions;
 import io.qameta.allure.model.AttachmentType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.ByteArrayInputStream;
-import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -430,9 +430,17 @@ public final class AllurePlaywright {
         if (path == null || !hasAllureContext() || !Files.isRegularFile(path)) {
             return;
         }
+        final AllureLifecycle lifecycle = Allure.getLifecycle();
         try {
-            attachBytes(name, type, Files.readAllBytes(path));
-        } catch (IOException e) {
+            lifecycle.getCurrentExecutableKey()
+                    .ifPresent(key -> lifecycle.addAttachment(
+                            key,
+                            name,
+                            type.getMediaType(),
+                            path,
+                            attachmentOptions(type)
+                    ));
+        } catch (AllureResultsWriteException e) {
             LOGGER.warn("Could not attach Playwright artifact {}", path, e);
         }
     }
@@ -105,6 +105,16 @@ public class AllurePlaywrightAspect {
         //pointcut body, should be empty
     }
 
+    /**
+     * Matches only while Allure is enabled, see {@link Allure#ENABLED_PROPERTY}.
+     *
+     * @return whether Allure is enabled
+     */
+    @Pointcut("if()")
+    public static boolean allureEnabled() {
+        return Allure.isEnabled();
+    }
+
     /**
      * Returns the log playwright step.
      *
@@ -112,7 +122,7 @@ public class AllurePlaywrightAspect {
      * @return the log playwright step
      * @throws Throwable if the underlying framework operation fails
      */
-    @Around("playwrightApi() && !screenshotApi()")
+    @Around("playwrightApi() && !screenshotApi() && allureEnabled()")
     public Object logPlaywrightStep(final ProceedingJoinPoint joinPoint) throws Throwable {
         registerTarget(joinPoint.getTarget());
         if (shouldSkip()) {
@@ -132,7 +142,7 @@ public class AllurePlaywrightAspect {
      * @return the log screenshot step
      * @throws Throwable if the underlying framework operation fails
      */
-    @Around("screenshotApi()")
+    @Around("screenshotApi() && allureEnabled()")
     public Object logScreenshotStep(final ProceedingJoinPoint joinPoint) throws Throwable {
         registerTarget(joinPoint.getTarget());
         if (shouldSkip()) {
@@ -148,7 +158,7 @@ public class AllurePlaywrightAspect {
      * @return the register created playwright object
      * @throws Throwable if the underlying framework operation fails
      */
-    @Around("newContextApi() || newPageApi()")
+    @Around("(newContextApi() || newPageApi()) && allureEnabled()")
     public Object registerCreatedPlaywrightObject(final ProceedingJoinPoint joinPoint) throws Throwable {
         final Object result = joinPoint.proceed();
         if (!shouldSkipArtifacts()) {
@@ -164,7 +174,7 @@ public class AllurePlaywrightAspect {
      * @return the attach close artifacts
      * @throws Throwable if the underlying framework operation fails
      */
-    @Around("closeApi()")
+    @Around("closeApi() && allureEnabled()")
     public Object attachCloseArtifacts(final ProceedingJoinPoint joinPoint) throws Throwable {
         if (shouldSkipArtifacts()) {
             return joinPoint.proceed();
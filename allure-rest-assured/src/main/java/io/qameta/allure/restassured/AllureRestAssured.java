@@ -114,7 +114,7 @@ public class AllureRestAssured implements OrderedFilter {
                            final FilterContext filterContext) {
         // enrichment-only integration: pass the call through untouched when no executable is
         // running — no warnings, no body prettifying
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return filterContext.next(requestSpec, responseSpec);
         }
         final Prettifier prettifier = new Prettifier();
@@ -186,9 +186,9 @@ class AllureScalatest(val lifecycle: AllureLifecycle) extends Reporter {
     )
     var labels = mutable.ListBuffer(
       createLabel(THREAD_LABEL_NAME, getScalaTestThreadName(threadId)),
-      createHostLabel(),
-      createLanguageLabel("scala"),
-      createFrameworkLabel("scalatest")
+      internLabel(HOST_LABEL_NAME, getHostName),
+      internLabel(LANGUAGE_LABEL_NAME, "scala"),
+      internLabel(FRAMEWORK_LABEL_NAME, "scalatest")
     )
     labels ++= getProvidedLabels.asScala
 
@@ -215,7 +215,7 @@ class AllureScalatest(val lifecycle: AllureLifecycle) extends Reporter {
       case annotation: Epic        => labels += createEpicLabel(annotation.value())
       case annotation: Feature     => labels += createFeatureLabel(annotation.value())
       case annotation: Story       => labels += createStoryLabel(annotation.value())
-      case annotation: Link        => links += createLink(annotation)
+      case annotation: Link        => links += internLink(createLink(annotation))
       case annotation: Issue       => links += createIssueLink(annotation.value())
       case annotation: TmsLink     => links += createTmsLink(annotation.value())
       case _                       => None
@@ -65,9 +65,12 @@ public class AllureWebDriverBiDi implements WebDriverListener, AutoCloseable {
      * Decorates the supplied object with Allure reporting behavior.
      *
      * @param driver the WebDriver instance to decorate or observe
-     * @return the decorate
+     * @return the decorate, or the driver itself when Allure is disabled
      */
     public <T extends WebDriver> T decorate(final T driver) {
+        if (!Allure.isEnabled()) {
+            return driver;
+        }
         return new EventFiringDecorator<T>(this).decorate(driver);
     }
 
@@ -65,9 +65,10 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static io.qameta.allure.util.ResultsUtils.ALLURE_ID_LABEL_NAME;
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createPackageLabel;
 import static io.qameta.allure.util.ResultsUtils.createParameter;
 import static io.qameta.allure.util.ResultsUtils.createParentSuiteLabel;
@@ -75,13 +76,15 @@ import static io.qameta.allure.util.ResultsUtils.createSubSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestClassLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestMethodLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
 import static io.qameta.allure.util.ResultsUtils.createTitlePath;
 import static io.qameta.allure.util.ResultsUtils.createTitlePathFromPackage;
 import static io.qameta.allure.util.ResultsUtils.firstNonEmpty;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
 import static io.qameta.allure.util.ResultsUtils.getProvidedLabels;
 import static io.qameta.allure.util.ResultsUtils.getStatus;
 import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
 import static io.qameta.allure.util.ResultsUtils.md5;
 
 /**
@@ -238,10 +241,10 @@ public class AllureSpock2 extends AbstractRunListener implements IGlobalExtensio
                         createPackageLabel(testClassName),
                         createTestClassLabel(testClassName),
                         createTestMethodLabel(testMethodName),
-                        createHostLabel(),
-                        createThreadLabel(),
-                        createFrameworkLabel("spock"),
-                        createLanguageLabel("java")
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
+                        internLabel(FRAMEWORK_LABEL_NAME, "spock"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java")
                 )
         );
         labels.addAll(tagLabels);
@@ -255,7 +258,8 @@ public class AllureSpock2 extends AbstractRunListener implements IGlobalExtensio
         labels.addAll(getProvidedLabels());
 
         final List<Link> links = new ArrayList<>(featureLinks);
-        links.addAll(specLinks);
+        // the links of a spec repeat on every one of its features
+        specLinks.forEach(link -> links.add(ResultsUtils.internLink(link)));
 
         final String qualifiedName = getQualifiedName(specInfo.getReflection().getName(), testCaseName);
         final List<String> titlePath = new ArrayList<>(createTitlePathFromPackage(packageName));
@@ -358,7 +362,7 @@ public class AllureSpock2 extends AbstractRunListener implements IGlobalExtensio
     private void copyFailureDetails(final StatusDetails source, final StatusDetails target) {
         if (Objects.nonNull(source)) {
             target.setMessage(source.getMessage())
-                    .setTrace(source.getTrace())
+                    .deferTrace(source::getTrace)
                     .setActual(source.getActual())
                     .setExpected(source.getExpected());
         }
@@ -392,17 +396,10 @@ public class AllureSpock2 extends AbstractRunListener implements IGlobalExtensio
             return false;
         }
         if (this.testPlan instanceof TestPlanV1_0) {
-            final TestPlanV1_0 tp = (TestPlanV1_0) testPlan;
-            return !Objects.isNull(tp.getTests()) && tp.getTests()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .noneMatch(
-                            tc -> this.match(
-                                    tc,
-                                    this.getAllureId(featureInfo),
-                                    this.getQualifiedName(featureInfo)
-                            )
-                    );
+            return !((TestPlanV1_0) testPlan).index().isSelected(
+                    this.getAllureId(featureInfo),
+                    this.getQualifiedName(featureInfo)
+            );
         }
         return false;
     }
@@ -415,10 +412,6 @@ public class AllureSpock2 extends AbstractRunListener implements IGlobalExtensio
         return null;
     }
 
-    private boolean match(final TestPlanV1_0.TestCase tc, final String allureId, final String qualifiedName) {
-        return Objects.equals(allureId, tc.getId()) || Objects.equals(qualifiedName, tc.getSelector());
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -444,7 +437,7 @@ public class AllureSpock2 extends AbstractRunListener implements IGlobalExtensio
                 testResult.setStatusDetails(details);
             } else {
                 current.setMessage(details.getMessage())
-                        .setTrace(details.getTrace())
+                        .deferTrace(details::getTrace)
                         .setActual(details.getActual())
                         .setExpected(details.getExpected());
             }
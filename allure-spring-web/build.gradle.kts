@@ -5,6 +5,7 @@ val springWebVersion = "7.0.8"
 dependencies {
     api(project(":allure-java-commons"))
     compileOnly("org.springframework:spring-web:$springWebVersion")
+    compileOnly("org.springframework:spring-webflux:$springWebVersion")
     testImplementation("org.wiremock:wiremock")
     testImplementation("org.assertj:assertj-core")
     testImplementation(project(":allure-assertj"))
@@ -14,6 +15,7 @@ dependencies {
     testImplementation("org.mockito:mockito-core")
     testImplementation("org.slf4j:slf4j-simple")
     testImplementation("org.springframework:spring-web:$springWebVersion")
+    testImplementation("org.springframework:spring-webflux:$springWebVersion")
     testImplementation(project(":allure-java-commons-test"))
     testImplementation(project(":allure-junit-platform"))
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine")
@@ -16,20 +16,22 @@
 package io.qameta.allure.springweb;
 
 import io.qameta.allure.Allure;
+import io.qameta.allure.http.BoundedCapture;
 import io.qameta.allure.http.HttpExchange;
-import io.qameta.allure.http.HttpExchangeBody;
 import io.qameta.allure.http.HttpExchangeNameValue;
 import io.qameta.allure.http.HttpExchangeRequest;
 import io.qameta.allure.http.HttpExchangeResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.NonNull;
-import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -40,9 +42,10 @@ import java.util.function.Consumer;
  * Allure interceptor for Spring synchronous HTTP clients such as
  * {@code RestTemplate} and {@code RestClient}.
  * <p>
- * Since this interceptor reads the response body to create an attachment,
- * configure a buffering request factory when the caller also needs to consume
- * the response body after interception.
+ * The interceptor reads the response body ahead up to the exchange body size
+ * limit and returns a response that replays those bytes before the rest of the
+ * body, so the caller still reads the whole body and no more than the limit is
+ * held in memory.
  */
 public class AllureRestTemplate implements ClientHttpRequestInterceptor {
 
@@ -72,7 +75,7 @@ public class AllureRestTemplate implements ClientHttpRequestInterceptor {
             throws IOException {
         // enrichment-only integration: pass the call through untouched when no executable is
         // running — no warnings, no response body copying
-        if (Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
+        if (!Allure.isEnabled() || Allure.getLifecycle().getCurrentExecutableKey().isEmpty()) {
             return execution.execute(request, body);
         }
         final long start = System.currentTimeMillis();
@@ -80,33 +83,42 @@ public class AllureRestTemplate implements ClientHttpRequestInterceptor {
         final HttpExchangeRequest.Builder requestBuilder = HttpExchangeRequest
                 .builder(request.getMethod().name(), request.getURI().toString())
                 .addHeaders(toNameValues(request.getHeaders().headerSet()));
+        final HttpExchange.Builder exchangeBuilder = exchangeBuilder(requestBuilder.build());
         if (body.length != 0) {
-            requestBuilder.setBody(HttpExchangeBody.utf8(new String(body, StandardCharsets.UTF_8)));
+            final BoundedCapture requestCapture = new BoundedCapture(exchangeBuilder.getMaxBodySize());
+            requestCapture.write(body);
+            requestCapture.close();
+            requestBuilder.setBody(requestCapture.toBody(null, charsetOf(request.getHeaders())));
+            exchangeBuilder.setRequest(requestBuilder.build());
         }
 
         final ClientHttpResponse clientHttpResponse = execution.execute(request, body);
+        final BoundedCapture capture = new BoundedCapture(exchangeBuilder.getMaxBodySize());
+        final ClientHttpResponse replayed = new ReplayedResponse(
+                clientHttpResponse, capture.readAhead(clientHttpResponse.getBody())
+        );
 
         final HttpExchangeResponse response = HttpExchangeResponse.builder()
                 .setStatus(clientHttpResponse.getStatusCode().value())
                 .setStatusText(clientHttpResponse.getStatusText())
                 .addHeaders(toNameValues(clientHttpResponse.getHeaders().headerSet()))
-                .setBody(
-                        HttpExchangeBody.utf8(
-                                StreamUtils.copyToString(clientHttpResponse.getBody(), StandardCharsets.UTF_8)
-                        )
-                )
+                .setBody(capture.toBody(null, charsetOf(clientHttpResponse.getHeaders())))
                 .build();
 
         Allure.addHttpExchange(
                 ATTACHMENT_NAME,
-                exchangeBuilder(requestBuilder.build())
+                exchangeBuilder
                         .setResponse(response)
                         .setStart(start)
                         .setStop(System.currentTimeMillis())
                         .build()
         );
 
-        return clientHttpResponse;
+        return replayed;
+    }
+
+    private static Charset charsetOf(final HttpHeaders headers) {
+        return BoundedCapture.charsetOf(headers.getFirst(HttpHeaders.CONTENT_TYPE));
     }
 
     private HttpExchange.Builder exchangeBuilder(final HttpExchangeRequest request) {
@@ -126,4 +138,48 @@ public class AllureRestTemplate implements ClientHttpRequestInterceptor {
                 .map(item -> new HttpExchangeNameValue(item.getKey(), String.join("; ", item.getValue())))
                 .toList();
     }
+
+    /**
+     * A response whose body replays the bytes read ahead for the attachment before the rest of the body.
+     */
+    private static final class ReplayedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+
+        private final InputStream body;
+
+        ReplayedResponse(final ClientHttpResponse delegate, final InputStream body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @NonNull
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @NonNull
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @NonNull
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @NonNull
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
 }
@@ -0,0 +1,276 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.springweb;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureExternalKey;
+import io.qameta.allure.AttachmentOptions;
+import io.qameta.allure.http.BoundedCapture;
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.http.HttpExchangeError;
+import io.qameta.allure.http.HttpExchangeRequest;
+import io.qameta.allure.http.HttpExchangeResponse;
+import io.qameta.allure.http.HttpExchangeSerializer;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Allure exchange filter for Spring {@code WebClient}.
+ * <p>
+ * The filter tees the request and response {@link DataBuffer} streams into
+ * bounded captures while they flow, so bodies are neither blocked on nor
+ * buffered, and adds the HTTP exchange attachment once the response body
+ * completes, fails, or is cancelled. A response body that is never consumed
+ * produces no attachment.
+ * <p>
+ * The exchange is attached to the executable that is current on the thread
+ * subscribing to the request. When the request is subscribed on a Reactor
+ * thread, carry the executable of the test thread in the Reactor context:
+ * <pre>{@code
+ * webClient.get().uri(url).retrieve().bodyToMono(String.class)
+ *         .subscribeOn(Schedulers.boundedElastic())
+ *         .contextWrite(AllureWebClient.currentExecutable())
+ *         .block();
+ * }</pre>
+ */
+public class AllureWebClient implements ExchangeFilterFunction {
+
+    private static final String ATTACHMENT_NAME = "HTTP exchange";
+
+    private static final String EXECUTABLE_CONTEXT_KEY = AllureWebClient.class.getName() + ".executable";
+
+    private Consumer<HttpExchange.Builder> exchangeCustomizer = builder -> {
+    };
+
+    /**
+     * Sets shared HTTP exchange builder customizer.
+     *
+     * @param exchangeCustomizer the exchange builder customizer
+     * @return this instance for method chaining
+     */
+    public AllureWebClient configureHttpExchange(final Consumer<HttpExchange.Builder> exchangeCustomizer) {
+        this.exchangeCustomizer = Objects.requireNonNull(exchangeCustomizer);
+        return this;
+    }
+
+    /**
+     * Returns a Reactor context function that carries the executable current on the calling thread, so exchanges
+     * subscribed on other threads are attached to it. Apply it with {@code contextWrite} on the calling thread.
+     *
+     * @return the context function, which leaves the context unchanged when no executable is running
+     */
+    public static Function<Context, Context> currentExecutable() {
+        if (!Allure.isEnabled()) {
+            return Function.identity();
+        }
+        return Allure.getLifecycle().getCurrentExecutableKey()
+                .<Function<Context, Context>>map(key -> context -> context.put(EXECUTABLE_CONTEXT_KEY, key))
+                .orElseGet(Function::identity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public Mono<ClientResponse> filter(@NonNull final ClientRequest request, @NonNull final ExchangeFunction next) {
+        if (!Allure.isEnabled()) {
+            return next.exchange(request);
+        }
+        return Mono.deferContextual(context -> {
+            final Optional<AllureExternalKey> executable = context.<AllureExternalKey>getOrEmpty(EXECUTABLE_CONTEXT_KEY)
+                    .or(() -> Allure.getLifecycle().getCurrentExecutableKey());
+            // enrichment-only integration: pass the call through untouched when no executable is running
+            return executable.isEmpty()
+                    ? next.exchange(request)
+                    : exchange(request, next, executable.get());
+        });
+    }
+
+    private Mono<ClientResponse> exchange(final ClientRequest request, final ExchangeFunction next,
+                                          final AllureExternalKey executable) {
+        final HttpExchangeRequest.Builder requestBuilder = HttpExchangeRequest
+                .builder(request.method().name(), request.url().toString())
+                .addHeaders(AllureRestTemplate.toNameValues(request.headers().headerSet()));
+        final HttpExchange.Builder exchange = exchangeBuilder(requestBuilder.build())
+                .setStart(System.currentTimeMillis());
+        final ExchangeCapture capture = new ExchangeCapture(
+                executable, exchange, requestBuilder, contentType(request.headers())
+        );
+        final ClientRequest teeingRequest = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(
+                        new TeeingRequest(outputMessage, capture.requestBody), context
+                ))
+                .build();
+        return next.exchange(teeingRequest)
+                .map(capture::capture)
+                .doOnError(error -> capture.record(null, error));
+    }
+
+    private HttpExchange.Builder exchangeBuilder(final HttpExchangeRequest request) {
+        final HttpExchange.Builder builder = HttpExchange.builder(request);
+        exchangeCustomizer.accept(builder);
+        return builder;
+    }
+
+    private static String contentType(final HttpHeaders headers) {
+        final MediaType contentType = headers.getContentType();
+        return contentType == null ? null : contentType.toString();
+    }
+
+    private static void tee(final BoundedCapture capture, final DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator buffers = buffer.readableByteBuffers()) {
+            buffers.forEachRemaining(capture::write);
+        }
+    }
+
+    /**
+     * The bounded request and response captures of one exchange, which adds the attachment once.
+     */
+    private static final class ExchangeCapture {
+
+        private final AllureExternalKey executable;
+
+        private final HttpExchange.Builder exchange;
+
+        private final HttpExchangeRequest.Builder requestBuilder;
+
+        private final String requestContentType;
+
+        private final BoundedCapture requestBody;
+
+        private final BoundedCapture responseBody;
+
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        ExchangeCapture(final AllureExternalKey executable, final HttpExchange.Builder exchange,
+                        final HttpExchangeRequest.Builder requestBuilder, final String requestContentType) {
+            this.executable = executable;
+            this.exchange = exchange;
+            this.requestBuilder = requestBuilder;
+            this.requestContentType = requestContentType;
+            this.requestBody = new BoundedCapture(exchange.getMaxBodySize());
+            this.responseBody = new BoundedCapture(exchange.getMaxBodySize());
+        }
+
+        ClientResponse capture(final ClientResponse response) {
+            final int statusCode = response.statusCode().value();
+            final HttpStatus status = HttpStatus.resolve(statusCode);
+            final HttpHeaders headers = response.headers().asHttpHeaders();
+            final String contentType = contentType(headers);
+            final HttpExchangeResponse.Builder responseBuilder = HttpExchangeResponse.builder()
+                    .setStatus(statusCode)
+                    .setStatusText(status == null ? null : status.getReasonPhrase())
+                    .addHeaders(AllureRestTemplate.toNameValues(headers.headerSet()));
+            return response.mutate()
+                    .body(body -> body
+                            .doOnNext(buffer -> tee(responseBody, buffer))
+                            .doOnComplete(() -> {
+                                responseBody.close();
+                                recordResponse(responseBuilder, contentType, null);
+                            })
+                            .doOnError(error -> recordResponse(responseBuilder, contentType, error))
+                            .doOnCancel(() -> recordResponse(responseBuilder, contentType, null)))
+                    .build();
+        }
+
+        /**
+         * Records the exchange before the body signal reaches the caller, so a caller blocking on the body sees the
+         * attachment already added.
+         */
+        private void recordResponse(final HttpExchangeResponse.Builder responseBuilder, final String contentType,
+                            final Throwable error) {
+            if (responseBody.size() > 0) {
+                responseBuilder.setBody(responseBody.toBody(contentType, BoundedCapture.charsetOf(contentType)));
+            }
+            record(responseBuilder.build(), error);
+        }
+
+        void record(final HttpExchangeResponse response, final Throwable error) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            if (requestBody.size() > 0) {
+                requestBuilder.setBody(
+                        requestBody.toBody(requestContentType, BoundedCapture.charsetOf(requestContentType))
+                );
+                exchange.setRequest(requestBuilder.build());
+            }
+            final HttpExchange httpExchange = exchange
+                    .setResponse(response)
+                    .setError(error == null
+                            ? null
+                            : new HttpExchangeError(error.getClass().getName(), error.getMessage(), null))
+                    .setStop(System.currentTimeMillis())
+                    .build();
+            Allure.getLifecycle().addAttachmentStep(
+                    executable,
+                    ATTACHMENT_NAME,
+                    HttpExchange.CONTENT_TYPE,
+                    HttpExchangeSerializer.toAttachmentContent(httpExchange),
+                    AttachmentOptions.empty()
+            );
+        }
+    }
+
+    /**
+     * A request that tees the body buffers it writes into the request capture.
+     */
+    private static final class TeeingRequest extends ClientHttpRequestDecorator {
+
+        private final BoundedCapture capture;
+
+        TeeingRequest(final ClientHttpRequest delegate, final BoundedCapture capture) {
+            super(delegate);
+            this.capture = capture;
+        }
+
+        @NonNull
+        @Override
+        public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.<DataBuffer>from(body)
+                    .doOnNext(buffer -> tee(capture, buffer))
+                    .doOnComplete(capture::close));
+        }
+
+        @NonNull
+        @Override
+        public Mono<Void> writeAndFlushWith(@NonNull final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return super.writeAndFlushWith(Flux.<Publisher<? extends DataBuffer>>from(body)
+                    .map(part -> Flux.<DataBuffer>from(part).doOnNext(buffer -> tee(capture, buffer)))
+                    .doOnComplete(capture::close));
+        }
+    }
+}
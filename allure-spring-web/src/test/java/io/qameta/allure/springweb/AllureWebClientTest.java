@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2016-2026 Qameta Software Inc
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.qameta.allure.springweb;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.qameta.allure.http.HttpExchange;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.test.AllureResults;
+import io.qameta.allure.test.IsolatedLifecycle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static io.qameta.allure.Allure.step;
+import static io.qameta.allure.test.RunUtils.runTests;
+import static io.qameta.allure.test.RunUtils.runWithinTestContext;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@IsolatedLifecycle
+class AllureWebClientTest {
+
+    private static final String BODY_STRING = "Hello world!";
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(options().dynamicPort());
+        server.start();
+        configureFor(server.port());
+        stubFor(any(urlEqualTo("/hello")).willReturn(aResponse().withBody(BODY_STRING)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void shouldCaptureRequestAndResponseBodies() {
+        final WebClient client = webClient(new AllureWebClient());
+
+        final AllureResults results = step("Send a request body through the Allure filter", () -> runWithinTestContext(
+                () -> assertThat(client.post()
+                        .uri(server.url("/hello"))
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .bodyValue("request body")
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the exchange holds both bodies", () -> {
+            final Attachment attachment = httpExchangeAttachment(results);
+            assertThat(attachment.getType()).isEqualTo(HttpExchange.CONTENT_TYPE);
+            assertThat(results.getAttachmentContentAsString(attachment))
+                    .contains("\"method\":\"POST\"")
+                    .contains("\"value\":\"request body\"")
+                    .contains("\"status\":200")
+                    .contains("\"value\":\"" + BODY_STRING + "\"")
+                    .contains("\"size\":" + BODY_STRING.length());
+        });
+    }
+
+    @Test
+    void shouldCaptureResponseBodyUpToMaxBodySize() {
+        final WebClient client = webClient(new AllureWebClient()
+                .configureHttpExchange(exchange -> exchange.setMaxBodySize(5)));
+
+        final AllureResults results = step("Read the whole body through the Allure filter", () -> runWithinTestContext(
+                () -> assertThat(client.get()
+                        .uri(server.url("/hello"))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the exchange holds the bounded body capture", () -> assertThat(
+                results.getAttachmentContentAsString(httpExchangeAttachment(results)))
+                .contains("\"value\":\"Hello\"")
+                .contains("\"size\":" + BODY_STRING.length())
+                .contains("\"truncated\":true"));
+    }
+
+    @Test
+    void shouldAttachToExecutableCarriedInReactorContext() {
+        final WebClient client = webClient(new AllureWebClient());
+
+        final AllureResults results = step("Subscribe to the request on a Reactor thread", () -> runWithinTestContext(
+                () -> assertThat(client.get()
+                        .uri(server.url("/hello"))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .contextWrite(AllureWebClient.currentExecutable())
+                        .block())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the exchange was attached to the test", () -> assertThat(httpExchangeAttachment(results).getName())
+                .isEqualTo("HTTP exchange"));
+    }
+
+    @Test
+    void shouldPassRequestThroughWithoutTestContext() {
+        final WebClient client = webClient(new AllureWebClient());
+
+        final AllureResults results = step("Execute the request with no Allure executable running", () -> runTests(
+                lifecycle -> assertThat(client.get()
+                        .uri(server.url("/hello"))
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block())
+                        .isEqualTo(BODY_STRING)
+        ));
+
+        step("Verify the filter produced no attachments", () -> assertThat(results.getAttachments()).isEmpty());
+    }
+
+    private static WebClient webClient(final AllureWebClient filter) {
+        return WebClient.builder()
+                .clientConnector(new JdkClientHttpConnector())
+                .filter(filter)
+                .build();
+    }
+
+    private static Attachment httpExchangeAttachment(final AllureResults results) {
+        final List<Attachment> attachments = results.getAttachmentsRecursively();
+
+        assertThat(attachments).hasSize(1);
+        return attachments.get(0);
+    }
+}
@@ -77,9 +77,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static io.qameta.allure.util.ResultsUtils.ALLURE_ID_LABEL_NAME;
-import static io.qameta.allure.util.ResultsUtils.createFrameworkLabel;
-import static io.qameta.allure.util.ResultsUtils.createHostLabel;
-import static io.qameta.allure.util.ResultsUtils.createLanguageLabel;
+import static io.qameta.allure.util.ResultsUtils.FRAMEWORK_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.HOST_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.LANGUAGE_LABEL_NAME;
+import static io.qameta.allure.util.ResultsUtils.THREAD_LABEL_NAME;
 import static io.qameta.allure.util.ResultsUtils.createPackageLabel;
 import static io.qameta.allure.util.ResultsUtils.createParameter;
 import static io.qameta.allure.util.ResultsUtils.createParentSuiteLabel;
@@ -87,12 +88,14 @@ import static io.qameta.allure.util.ResultsUtils.createSubSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createSuiteLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestClassLabel;
 import static io.qameta.allure.util.ResultsUtils.createTestMethodLabel;
-import static io.qameta.allure.util.ResultsUtils.createThreadLabel;
 import static io.qameta.allure.util.ResultsUtils.createTitlePath;
 import static io.qameta.allure.util.ResultsUtils.createTitlePathFromQualifiedClassName;
 import static io.qameta.allure.util.ResultsUtils.firstNonEmpty;
+import static io.qameta.allure.util.ResultsUtils.getHostName;
 import static io.qameta.allure.util.ResultsUtils.getProvidedLabels;
 import static io.qameta.allure.util.ResultsUtils.getStatusDetails;
+import static io.qameta.allure.util.ResultsUtils.getThreadName;
+import static io.qameta.allure.util.ResultsUtils.internLabel;
 import static io.qameta.allure.util.ResultsUtils.md5;
 import static io.qameta.allure.util.ResultsUtils.processDescription;
 import static java.util.Objects.nonNull;
@@ -496,11 +499,11 @@ public class AllureTestNg
                         createTestMethodLabel(method.getMethodName()),
 
                         //Timeline grouping
-                        createHostLabel(),
-                        createThreadLabel(),
+                        internLabel(HOST_LABEL_NAME, getHostName()),
+                        internLabel(THREAD_LABEL_NAME, getThreadName()),
 
-                        createFrameworkLabel("testng"),
-                        createLanguageLabel("java")
+                        internLabel(FRAMEWORK_LABEL_NAME, "testng"),
+                        internLabel(LANGUAGE_LABEL_NAME, "java")
                 )
         );
         final List<Label> defaultLabels = Arrays.asList(
@@ -937,9 +940,10 @@ public class AllureTestNg
         getMethod(method)
                 .map(AnnotationUtils::getLinks)
                 .ifPresent(links::addAll);
+        // the links of a class repeat on every one of its tests
         getClass(iClass)
                 .map(AnnotationUtils::getLinks)
-                .ifPresent(links::addAll);
+                .ifPresent(classLinks -> classLinks.forEach(link -> links.add(ResultsUtils.internLink(link))));
         return links;
     }
 
@@ -1083,7 +1087,7 @@ public class AllureTestNg
         return result -> {
             result.setStatus(status);
             if (nonNull(details)) {
-                result.getStatusDetails().setTrace(details.getTrace());
+                result.getStatusDetails().deferTrace(details::getTrace);
                 result.getStatusDetails().setMessage(details.getMessage());
                 result.getStatusDetails().setActual(details.getActual());
                 result.getStatusDetails().setExpected(details.getExpected());
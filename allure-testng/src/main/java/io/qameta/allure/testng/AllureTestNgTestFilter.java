@@ -126,10 +126,6 @@ public class AllureTestNgTestFilter implements IMethodInterceptor {
     }
 
     private String getSelector(final Method method) {
-        return String.format(
-                "%s.%s",
-                method.getDeclaringClass().getCanonicalName(),
-                method.getName()
-        );
+        return method.getDeclaringClass().getCanonicalName() + "." + method.getName();
     }
 }
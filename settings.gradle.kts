@@ -2,6 +2,7 @@ rootProject.name = "allure-java"
 
 include("allure-assertj")
 include("allure-awaitility")
+include("allure-benchmarks")
 include("allure-bom")
 include("allure-citrus")
 include("allure-cucumber7-jvm")
@@ -14,6 +15,7 @@ include("allure-java-commons")
 include("allure-java-commons-test")
 include("allure-jax-rs")
 include("allure-jbehave5")
+include("allure-jdk-httpclient")
 include("allure-jooq")
 include("allure-jsonunit")
 include("allure-junit-platform")
@@ -45,6 +47,7 @@ pluginManagement {
         id("io.qameta.allure") version "4.1.0"
         id("io.spring.dependency-management") version "1.1.7"
         id("com.google.protobuf") version "0.10.0"
+        id("me.champeau.jmh") version "0.7.3"
         id("com.github.spotbugs") version "6.5.6"
         kotlin("jvm") version "2.4.10"
     }